@@ -0,0 +1,61 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.openjdk.jmh.annotations.*;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.fest.assertions.ArrayInspection.copyToSet;
+
+/**
+ * Benchmarks for {@link ArrayInspection#copyToSet(Object)}.
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ArrayInspectionBenchmark {
+  @Param({ "100", "10000", "1000000", "10000000" })
+  private int size;
+
+  private int[] primitives;
+  private Object[] objects;
+
+  @Setup
+  public void setUp() {
+    primitives = new int[size];
+    objects = new Object[size];
+    for (int i = 0; i < size; i++) {
+      primitives[i] = i % 1000;
+      objects[i] = "element" + i % 1000;
+    }
+  }
+
+  @Benchmark
+  public Set<Object> copyToSet_primitives() {
+    return copyToSet(primitives);
+  }
+
+  @Benchmark
+  public Set<Object> copyToSet_objects() {
+    return copyToSet(objects);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.assertions.FileContentComparator.Hunk;
+import org.openjdk.jmh.annotations.*;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import static org.fest.util.Closeables.closeQuietly;
+
+/**
+ * Benchmarks for {@link FileContentComparator#compareContents(File, File)}, with identical files and with files that
+ * differ at their beginning or at their end.
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FileContentComparatorBenchmark {
+  @Param({ "1024", "1048576", "104857600" })
+  private int fileSize;
+
+  private final FileContentComparator comparator = new FileContentComparator();
+  private File actual;
+  private File equal;
+  private File differentAtStart;
+  private File differentAtEnd;
+
+  @Setup
+  public void setUp() throws IOException {
+    byte[] content = new byte[fileSize];
+    for (int i = 0; i < fileSize; i++) {
+      content[i] = (byte) (i % 64 == 63 ? '\n' : 'a' + i % 26);
+    }
+    actual = write(content);
+    equal = write(content);
+    content[0] = '#';
+    differentAtStart = write(content);
+    content[0] = 'a';
+    content[fileSize - 2] = '#';
+    differentAtEnd = write(content);
+  }
+
+  private static File write(byte[] content) throws IOException {
+    File file = File.createTempFile("fest-benchmark", ".txt");
+    file.deleteOnExit();
+    OutputStream out = null;
+    try {
+      out = new FileOutputStream(file);
+      out.write(content);
+    } finally {
+      closeQuietly(out);
+    }
+    return file;
+  }
+
+  @TearDown
+  public void tearDown() {
+    actual.delete();
+    equal.delete();
+    differentAtStart.delete();
+    differentAtEnd.delete();
+  }
+
+  @Benchmark
+  public Hunk[] compareContents_equal() throws IOException {
+    return comparator.compareContents(actual, equal);
+  }
+
+  @Benchmark
+  public Hunk[] compareContents_differentAtStart() throws IOException {
+    return comparator.compareContents(actual, differentAtStart);
+  }
+
+  @Benchmark
+  public Hunk[] compareContents_differentAtEnd() throws IOException {
+    return comparator.compareContents(actual, differentAtEnd);
+  }
+}
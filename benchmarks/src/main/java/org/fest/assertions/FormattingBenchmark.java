@@ -0,0 +1,61 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.openjdk.jmh.annotations.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.fest.util.Lists.newArrayList;
+
+/**
+ * Benchmarks for {@link Formatting#format(String, Object...)}, which formats the values shown in failure messages.
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FormattingBenchmark {
+  @Param({ "100", "10000", "1000000", "10000000" })
+  private int size;
+
+  private List<Integer> list;
+  private int[] array;
+
+  @Setup
+  public void setUp() {
+    list = newArrayList();
+    array = new int[size];
+    for (int i = 0; i < size; i++) {
+      list.add(i);
+      array[i] = i;
+    }
+  }
+
+  @Benchmark
+  public String format_list() {
+    return Formatting.format("expected size:<%s> but was:<%s> in:<%s>", 1, size, list);
+  }
+
+  @Benchmark
+  public String format_array() {
+    return Formatting.format("expected size:<%s> but was:<%s> in:<%s>", 1, size, array);
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.openjdk.jmh.annotations.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import static java.awt.image.BufferedImage.TYPE_3BYTE_BGR;
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.Threshold.threshold;
+
+/**
+ * Benchmarks for {@link ImageAssert#isEqualTo(BufferedImage, Threshold)}, with images of the same type and of different
+ * types.
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ImageAssertBenchmark {
+  @Param({ "64", "512", "2048", "4096" })
+  private int side;
+
+  private BufferedImage actual;
+  private BufferedImage equal;
+  private BufferedImage equalOtherType;
+  private BufferedImage differentInLastPixel;
+
+  @Setup
+  public void setUp() {
+    actual = image(TYPE_INT_ARGB);
+    equal = image(TYPE_INT_ARGB);
+    equalOtherType = image(TYPE_3BYTE_BGR);
+    differentInLastPixel = image(TYPE_INT_ARGB);
+    differentInLastPixel.setRGB(side - 1, side - 1, 0xFF000000);
+  }
+
+  private BufferedImage image(int type) {
+    BufferedImage image = new BufferedImage(side, side, type);
+    for (int y = 0; y < side; y++) {
+      for (int x = 0; x < side; x++) {
+        image.setRGB(x, y, 0xFF000000 | (x * 31 + y * 17) & 0xFFFFFF);
+      }
+    }
+    return image;
+  }
+
+  @Benchmark
+  public ImageAssert isEqualTo_pass() {
+    return assertThat(actual).isEqualTo(equal, threshold(1));
+  }
+
+  @Benchmark
+  public ImageAssert isEqualTo_otherType_pass() {
+    return assertThat(actual).isEqualTo(equalOtherType, threshold(1));
+  }
+
+  @Benchmark
+  public AssertionError isEqualTo_fail() {
+    try {
+      assertThat(actual).isEqualTo(differentInLastPixel, threshold(1));
+    } catch (AssertionError e) {
+      return e;
+    }
+    throw new IllegalStateException("Expecting AssertionError");
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.openjdk.jmh.annotations.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.fest.util.Lists.newArrayList;
+
+/**
+ * Benchmarks for {@link PropertySupport#propertyValues(String, java.util.Collection)}, with simple and nested
+ * properties, and with elements the property cannot be read from.
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PropertySupportBenchmark {
+  @Param({ "100", "10000", "1000000", "10000000" })
+  private int size;
+
+  private PropertySupport propertySupport;
+  private List<Object> people;
+  private List<Object> peopleAndOther;
+
+  @Setup
+  public void setUp() {
+    propertySupport = PropertySupport.instance();
+    people = newArrayList();
+    for (int i = 0; i < size; i++) {
+      people.add(new Person("person" + i, new Address("city" + i % 100)));
+    }
+    peopleAndOther = newArrayList(people);
+    peopleAndOther.add("not a person");
+  }
+
+  @Benchmark
+  public List<Object> propertyValues() {
+    return propertySupport.propertyValues("name", people);
+  }
+
+  @Benchmark
+  public List<Object> nestedPropertyValues() {
+    return propertySupport.propertyValues("address.city", people);
+  }
+
+  @Benchmark
+  public RuntimeException propertyValues_fail() {
+    try {
+      propertySupport.propertyValues("address.city", peopleAndOther);
+    } catch (RuntimeException e) {
+      return e;
+    }
+    throw new IllegalStateException("Expecting IntrospectionError");
+  }
+
+  public static class Person {
+    private final String name;
+    private final Address address;
+
+    Person(String name, Address address) {
+      this.name = name;
+      this.address = address;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public Address getAddress() {
+      return address;
+    }
+  }
+
+  public static class Address {
+    private final String city;
+
+    Address(String city) {
+      this.city = city;
+    }
+
+    public String getCity() {
+      return city;
+    }
+  }
+}
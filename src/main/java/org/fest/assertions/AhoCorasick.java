@@ -0,0 +1,226 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.jetbrains.annotations.NotNull;
+import java.util.List;
+
+import static java.util.Arrays.copyOf;
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Aho–Corasick automaton that finds which of many {@code String}s ("needles") occur in a text, in a single pass over
+ * the text.
+ * <p/>
+ * The needles are stored in a trie. Each node of the trie has a failure link to the node for its longest proper suffix
+ * that is also in the trie, and an output link to the nearest node, along the failure links, where a needle ends. The
+ * text is then read one character at a time, following failure links on a mismatch, so that the whole text is read
+ * only once, no matter how many needles there are.
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+final class AhoCorasick {
+  private static final int ROOT = 0;
+  private static final int NONE = -1;
+
+  private final String[] needles;
+  private final int[] needleNodes;
+  private char[][] edgeLabels = new char[8][];
+  private int[][] edgeTargets = new int[8][];
+  private int[] edgeCounts = new int[8];
+  private boolean[] terminal = new boolean[8];
+  private int[] failure;
+  private int[] output;
+  private int nodeCount;
+  private int terminalCount;
+
+  /**
+   * Creates a new {@link AhoCorasick} automaton.
+   *
+   * @param needles the {@code String}s to look for.
+   * @return the created automaton.
+   * @throws NullPointerException if the given array, or any of its elements, is {@code null}.
+   */
+  static @NotNull AhoCorasick automatonFor(@NotNull String... needles) {
+    checkNotNull(needles);
+    for (String needle : needles) {
+      checkNotNull(needle);
+    }
+    return new AhoCorasick(needles);
+  }
+
+  private AhoCorasick(@NotNull String[] needles) {
+    this.needles = needles;
+    needleNodes = new int[needles.length];
+    newNode();
+    for (int i = 0; i < needles.length; i++) {
+      needleNodes[i] = add(needles[i]);
+    }
+    linkNodes();
+  }
+
+  private int newNode() {
+    if (nodeCount == terminal.length) {
+      int capacity = nodeCount * 2;
+      edgeLabels = copyOf(edgeLabels, capacity);
+      edgeTargets = copyOf(edgeTargets, capacity);
+      edgeCounts = copyOf(edgeCounts, capacity);
+      terminal = copyOf(terminal, capacity);
+    }
+    return nodeCount++;
+  }
+
+  // duplicated needles end at the same node
+  private int add(@NotNull String needle) {
+    int node = ROOT;
+    for (int i = 0; i < needle.length(); i++) {
+      char c = needle.charAt(i);
+      int next = edge(node, c);
+      if (next == NONE) {
+        next = newNode();
+        addEdge(node, c, next);
+      }
+      node = next;
+    }
+    if (!terminal[node]) {
+      terminal[node] = true;
+      terminalCount++;
+    }
+    return node;
+  }
+
+  private void addEdge(int node, char c, int target) {
+    int count = edgeCounts[node];
+    if (edgeLabels[node] == null) {
+      edgeLabels[node] = new char[2];
+      edgeTargets[node] = new int[2];
+    } else if (count == edgeLabels[node].length) {
+      edgeLabels[node] = copyOf(edgeLabels[node], count * 2);
+      edgeTargets[node] = copyOf(edgeTargets[node], count * 2);
+    }
+    edgeLabels[node][count] = c;
+    edgeTargets[node][count] = target;
+    edgeCounts[node] = count + 1;
+  }
+
+  private int edge(int node, char c) {
+    char[] labels = edgeLabels[node];
+    for (int i = 0, count = edgeCounts[node]; i < count; i++) {
+      if (labels[i] == c) {
+        return edgeTargets[node][i];
+      }
+    }
+    return NONE;
+  }
+
+  // breadth-first, so that the failure link of a node always points to a node that is already linked
+  private void linkNodes() {
+    failure = new int[nodeCount];
+    output = new int[nodeCount];
+    output[ROOT] = NONE;
+    int[] queue = new int[nodeCount];
+    int head = 0;
+    int tail = 0;
+    for (int i = 0; i < edgeCounts[ROOT]; i++) {
+      int child = edgeTargets[ROOT][i];
+      failure[child] = ROOT;
+      output[child] = terminal[ROOT] ? ROOT : NONE;
+      queue[tail++] = child;
+    }
+    while (head < tail) {
+      int node = queue[head++];
+      for (int i = 0; i < edgeCounts[node]; i++) {
+        char c = edgeLabels[node][i];
+        int child = edgeTargets[node][i];
+        int fallback = next(failure[node], c);
+        failure[child] = fallback;
+        output[child] = terminal[fallback] ? fallback : output[fallback];
+        queue[tail++] = child;
+      }
+    }
+  }
+
+  private int next(int node, char c) {
+    while (true) {
+      int target = edge(node, c);
+      if (target != NONE) {
+        return target;
+      }
+      if (node == ROOT) {
+        return ROOT;
+      }
+      node = failure[node];
+    }
+  }
+
+  /**
+   * Returns which needles occur in the given text.
+   *
+   * @param text        the text to search.
+   * @param stopAtFirst indicates whether the search should stop as soon as any needle is found.
+   * @return for each needle, in the order they were specified, whether it occurs in the given text (if the search
+   *         stopped at the first needle found, whether it was found before stopping.)
+   */
+  @NotNull boolean[] search(@NotNull CharSequence text, boolean stopAtFirst) {
+    boolean[] reached = new boolean[nodeCount];
+    int remaining = terminalCount - mark(ROOT, reached);
+    int state = ROOT;
+    for (int i = 0, length = text.length(); i < length && remaining > 0; i++) {
+      if (stopAtFirst && remaining < terminalCount) {
+        break;
+      }
+      state = next(state, text.charAt(i));
+      remaining -= mark(state, reached);
+    }
+    boolean[] found = new boolean[needles.length];
+    for (int i = 0; i < needles.length; i++) {
+      found[i] = reached[needleNodes[i]];
+    }
+    return found;
+  }
+
+  // marks the needles ending at the given node, and the needles that are suffixes of them
+  private int mark(int state, @NotNull boolean[] reached) {
+    int marked = 0;
+    for (int node = terminal[state] ? state : output[state]; node != NONE; node = output[node]) {
+      if (reached[node]) {
+        // the nodes further along the output links were marked when this one was
+        break;
+      }
+      reached[node] = true;
+      marked++;
+    }
+    return marked;
+  }
+
+  /**
+   * Returns the needles for which the given flag has the given value, in the order they were specified.
+   *
+   * @param found the flags returned by {@link #search(CharSequence, boolean)}.
+   * @param value the value to select.
+   * @return the selected needles.
+   */
+  @NotNull List<String> needles(@NotNull boolean[] found, boolean value) {
+    List<String> selected = newArrayList();
+    for (int i = 0; i < needles.length; i++) {
+      if (found[i] == value) {
+        selected.add(needles[i]);
+      }
+    }
+    return selected;
+  }
+}
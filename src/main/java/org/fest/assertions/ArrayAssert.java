@@ -19,7 +19,14 @@ import org.jetbrains.annotations.Nullable;
 import java.util.List;
 import java.util.Set;
 
+import static java.lang.reflect.Array.get;
 import static org.fest.assertions.ArrayInspection.*;
+import static org.fest.assertions.DuplicateFinder.duplicatesIn;
+import static org.fest.assertions.PrimitiveArrayMatcher.keyAt;
+import static org.fest.assertions.PrimitiveArrayMatcher.matcherFor;
+import static org.fest.assertions.SortOrder.firstUnsortedIndex;
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Preconditions.checkNotNull;
 
 /**
  * Assertions for arrays.
@@ -50,6 +57,157 @@ public abstract class ArrayAssert<S, A> extends ItemGroupAssert<S, A> {
     return sizeOf(actual);
   }
 
+  /**
+   * Verifies that the actual array contains the given values, in any order. Unlike
+   * {@link #assertContains(Object...)}, the elements of the actual array are not boxed, and the scan stops as soon as
+   * all the given values have been found.
+   *
+   * @param values the values to look for, as an array of the same type as the actual array.
+   * @throws AssertionError       if the actual array is {@code null}.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @throws AssertionError       if the actual array does not contain the given values.
+   * @since 1.5
+   */
+  protected final void assertContainsValues(@NotNull Object values) {
+    isNotNull();
+    checkNotNull(values);
+    List<Object> notFound = matcherFor(values).notFoundIn(actual);
+    if (notFound.isEmpty()) {
+      return;
+    }
+    throw failureIfExpectedElementsNotFound(notFound);
+  }
+
+  /**
+   * Verifies that the actual array contains the given values <strong>only</strong>, in any order. Unlike
+   * {@link #assertContainsOnly(Object...)}, the elements of the actual array are not boxed.
+   *
+   * @param values the values to look for, as an array of the same type as the actual array.
+   * @throws AssertionError       if the actual array is {@code null}.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @throws AssertionError       if the actual array does not contain the given values, or if the actual array contains
+   *                              elements other than the ones specified.
+   * @since 1.5
+   */
+  protected final void assertContainsOnlyValues(@NotNull Object values) {
+    isNotNull();
+    checkNotNull(values);
+    PrimitiveArrayMatcher matcher = matcherFor(values);
+    List<Object> unexpected = matcher.unexpectedIn(actual);
+    List<Object> notFound = matcher.distinctNotFound();
+    if (!notFound.isEmpty()) {
+      throw failureIfExpectedElementsNotFound(notFound);
+    }
+    if (unexpected.isEmpty()) {
+      return;
+    }
+    throw failureIfUnexpectedElementsFound(unexpected);
+  }
+
+  /**
+   * Verifies that the actual array contains exactly the given values, in any order, as many times as they are given.
+   * The given values are counted in a table keyed by their primitive value, which the elements of the actual array are
+   * then checked off against, in a single pass. Only the elements reported in a failure are boxed.
+   *
+   * @param values the values to look for.
+   * @throws AssertionError           if the actual array is {@code null}.
+   * @throws NullPointerException     if the given array is {@code null}.
+   * @throws IllegalArgumentException if the given object is not an array of primitives.
+   * @throws AssertionError           if the actual array does not contain exactly the given values.
+   * @since 1.5
+   */
+  protected final void assertContainsExactlyInAnyOrderValues(@NotNull Object values) {
+    isNotNull();
+    checkNotNull(values);
+    int expectedSize = sizeOf(values);
+    LongKeyTable table = new LongKeyTable(expectedSize);
+    int[] counts = new int[expectedSize];
+    for (int i = 0; i < expectedSize; i++) {
+      counts[table.add(keyAt(values, i))]++;
+    }
+    List<Object> unexpected = newArrayList();
+    for (int i = 0, size = sizeOf(actual); i < size; i++) {
+      int ordinal = table.indexOf(keyAt(actual, i));
+      if (ordinal < 0 || counts[ordinal] == 0) {
+        unexpected.add(get(actual, i));
+        continue;
+      }
+      counts[ordinal]--;
+    }
+    List<Object> missing = newArrayList();
+    for (int i = 0; i < expectedSize; i++) {
+      int ordinal = table.indexOf(keyAt(values, i));
+      if (counts[ordinal] > 0) {
+        missing.add(get(values, i));
+        counts[ordinal]--;
+      }
+    }
+    if (missing.isEmpty() && unexpected.isEmpty()) {
+      return;
+    }
+    throw failureIfNotExactlyInAnyOrder(copyToList(values), missing, unexpected);
+  }
+
+  /**
+   * Verifies that the actual array does not have duplicates. The elements are added, in a single pass, to a hash set
+   * specialized for the primitive type of the array; only the duplicated elements are boxed. The search stops once
+   * {@link DuplicateDetection#maxReported()} duplicated elements have been found.
+   *
+   * @throws AssertionError           if the actual array is {@code null}.
+   * @throws IllegalArgumentException if the actual array is not an array of primitives.
+   * @throws AssertionError           if the actual array has duplicates.
+   * @since 1.5
+   */
+  protected final void assertDoesNotHaveDuplicateValues() {
+    isNotNull();
+    List<Object> duplicates = duplicatesIn(actual, DuplicateDetection.maxReported());
+    if (duplicates.isEmpty()) {
+      return;
+    }
+    throw failureIfDuplicatesFound(duplicates);
+  }
+
+  /**
+   * Verifies that each element of the actual array is greater than or equal to (or, if {@code strict}, greater than)
+   * the element before it. Elements are compared in a single pass, without boxing them; large arrays are checked in
+   * parallel (see {@link Parallelism}.)
+   *
+   * @param strict whether equal consecutive elements are out of order.
+   * @throws AssertionError           if the actual array is {@code null}.
+   * @throws IllegalArgumentException if the actual array is not an array of primitives.
+   * @throws AssertionError           if the actual array is not sorted.
+   * @since 1.5
+   */
+  protected final void assertIsSortedValues(boolean strict) {
+    isNotNull();
+    int index = firstUnsortedIndex(actual, strict);
+    if (index < 0) {
+      return;
+    }
+    throw failureIfNotSorted(strict ? "strictly sorted" : "sorted", strict, index, get(actual, index),
+        get(actual, index - 1));
+  }
+
+  /**
+   * Verifies that the actual array does not contain the given values. Unlike {@link #assertExcludes(Object...)}, the
+   * elements of the actual array are not boxed.
+   *
+   * @param values the values the actual array should exclude, as an array of the same type as the actual array.
+   * @throws AssertionError       if the actual array is {@code null}.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @throws AssertionError       if the actual array contains any of the given values.
+   * @since 1.5
+   */
+  protected final void assertExcludesValues(@NotNull Object values) {
+    isNotNull();
+    checkNotNull(values);
+    List<Object> found = matcherFor(values).foundIn(actual);
+    if (found.isEmpty()) {
+      return;
+    }
+    throw failureIfElementsNotExcluded(found);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -15,8 +15,11 @@
 package org.fest.assertions;
 
 import org.jetbrains.annotations.NotNull;
+import java.lang.reflect.Array;
+import java.util.AbstractList;
 import java.util.Collection;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.Set;
 
 import static java.lang.reflect.Array.get;
@@ -79,6 +82,39 @@ public final class ArrayInspection {
     return destination;
   }
 
+  /**
+   * Returns a fixed-size list backed by the given array, whose elements are boxed only when read.
+   *
+   * @param array the array.
+   * @return a list view of the given array.
+   * @throws NullPointerException     if the given array is {@code null}.
+   * @throws IllegalArgumentException if the given object is not an array.
+   * @since 1.5
+   */
+  static @NotNull List<Object> listView(@NotNull Object array) {
+    return new ArrayView(array, sizeOf(array));
+  }
+
+  private static class ArrayView extends AbstractList<Object> implements RandomAccess {
+    private final Object array;
+    private final int length;
+
+    ArrayView(@NotNull Object array, int length) {
+      this.array = array;
+      this.length = length;
+    }
+
+    @Override
+    public Object get(int index) {
+      return Array.get(array, index);
+    }
+
+    @Override
+    public int size() {
+      return length;
+    }
+  }
+
   /**
    * Returns the size of the given array.
    *
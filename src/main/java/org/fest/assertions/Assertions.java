@@ -23,6 +23,10 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.fest.util.Preconditions.checkNotNull;
 
 /**
  * Entry point for assertion methods for different data types. Each method in this class is a static factory for the
@@ -160,6 +164,18 @@ public class Assertions {
     return new CharArrayAssert(actual);
   }
 
+  /**
+   * Creates a new instance of {@link CharSequenceAssert}, which reads the given {@code CharSequence} in place. Without
+   * it, {@code StringBuilder}s, {@code StringBuffer}s and {@code CharBuffer}s are verified as {@code Object}s.
+   *
+   * @param actual the value to be the target of the assertions methods.
+   * @return the created assertion object.
+   * @since 1.5
+   */
+  public static @NotNull CharSequenceAssert assertThatCharSequence(@Nullable CharSequence actual) {
+    return new CharSequenceAssert(actual);
+  }
+
   /**
    * Creates a new instance of {@link CollectionAssert}.
    *
@@ -302,6 +318,18 @@ public class Assertions {
     return new IteratorAssert(actual);
   }
 
+  /**
+   * Creates a new instance of {@link StreamAssert}, which reads the elements of the given {@code Iterable} as each
+   * check needs them, without keeping them.
+   *
+   * @param actual the {@code Iterable} producing the elements to verify.
+   * @return the created assertion object.
+   * @since 1.5
+   */
+  public static @NotNull StreamAssert assertThatStream(@Nullable Iterable<?> actual) {
+    return new StreamAssert(actual);
+  }
+
   /**
    * Creates a new instance of {@link LongAssert}.
    *
@@ -447,4 +475,40 @@ public class Assertions {
   public static @NotNull ThrowableAssert assertThat(@Nullable Throwable actual) {
     return new ThrowableAssert(actual);
   }
+
+  /**
+   * Creates a set of values to look up the actual value of many assertions in, with
+   * {@link GenericAssert#isIn(Collection)} or {@link GenericAssert#isNotIn(Collection)}. The values are indexed once, so
+   * the set can be reused by any number of assertions without scanning the values again.
+   * <p/>
+   * Example:
+   * <pre>
+   * Set&lt;Object&gt; allowedCodes = membershipSet(codesFromDatabase);
+   * for (Order order : orders) {
+   *   assertThat(order.getCode()).isIn(allowedCodes);
+   * }
+   * </pre>
+   *
+   * @param values the values to index.
+   * @return the created set. It cannot be modified.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @since 1.5
+   */
+  public static @NotNull Set<Object> membershipSet(@NotNull Object... values) {
+    return new MembershipSet(asList(checkNotNull(values)));
+  }
+
+  /**
+   * Creates a set of values to look up the actual value of many assertions in, with
+   * {@link GenericAssert#isIn(Collection)} or {@link GenericAssert#isNotIn(Collection)}. The values are indexed once, so
+   * the set can be reused by any number of assertions without scanning the values again.
+   *
+   * @param values the values to index.
+   * @return the created set. It cannot be modified.
+   * @throws NullPointerException if the given collection is {@code null}.
+   * @since 1.5
+   */
+  public static @NotNull Set<Object> membershipSet(@NotNull Collection<?> values) {
+    return new MembershipSet(values);
+  }
 }
@@ -18,7 +18,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.util.Arrays;
 
-import static org.fest.assertions.ArrayInspection.copy;
 import static org.fest.assertions.ErrorMessages.unexpectedEqual;
 import static org.fest.assertions.ErrorMessages.unexpectedNotEqual;
 
@@ -50,7 +49,7 @@ public class ByteArrayAssert extends ArrayAssert<ByteArrayAssert, byte[]> {
    * @throws AssertionError       if the actual {@code byte} array does not contain the given values.
    */
   public @NotNull ByteArrayAssert contains(@NotNull byte... values) {
-    assertContains(copy(values));
+    assertContainsValues(values);
     return this;
   }
 
@@ -65,7 +64,114 @@ public class ByteArrayAssert extends ArrayAssert<ByteArrayAssert, byte[]> {
    *                              {@code byte} array contains elements other than the ones specified.
    */
   public @NotNull ByteArrayAssert containsOnly(@NotNull byte... values) {
-    assertContainsOnly(copy(values));
+    assertContainsOnlyValues(values);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code byte} array contains exactly the given values, in any order: each value must
+   * appear in the actual array as many times as it is given.
+   *
+   * @param values the values to look for.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code byte} array is {@code null}.
+   * @throws NullPointerException if the given {@code byte} array is {@code null}.
+   * @throws AssertionError       if some of the given values appear fewer times in the actual {@code byte} array, or
+   *                              if the actual {@code byte} array contains values, or copies of values, other than the
+   *                              ones specified.
+   * @since 1.5
+   */
+  public @NotNull ByteArrayAssert containsExactlyInAnyOrder(@NotNull byte... values) {
+    assertContainsExactlyInAnyOrderValues(values);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code byte} array does not have duplicates.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code byte} array is {@code null}.
+   * @throws AssertionError if the actual {@code byte} array has duplicates.
+   * @since 1.5
+   */
+  public @NotNull ByteArrayAssert doesNotHaveDuplicates() {
+    assertDoesNotHaveDuplicateValues();
+    return this;
+  }
+
+  /**
+   * Verifies that the elements of the actual {@code byte} array are sorted in ascending order. Equal consecutive
+   * elements are allowed.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code byte} array is {@code null}.
+   * @throws AssertionError if the actual {@code byte} array is not sorted.
+   * @since 1.5
+   */
+  public @NotNull ByteArrayAssert isSorted() {
+    assertIsSortedValues(false);
+    return this;
+  }
+
+  /**
+   * Verifies that the elements of the actual {@code byte} array are sorted in ascending order, and that no element is
+   * equal to the one before it.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code byte} array is {@code null}.
+   * @throws AssertionError if the actual {@code byte} array is not strictly sorted.
+   * @since 1.5
+   */
+  public @NotNull ByteArrayAssert isStrictlySorted() {
+    assertIsSortedValues(true);
+    return this;
+  }
+
+  /**
+   * Verifies that all the elements of the actual {@code byte} array satisfy the given condition. Large arrays are
+   * checked in parallel if the condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code byte} array is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if an element of the actual {@code byte} array does not satisfy the given condition.
+   * @since 1.5
+   */
+  public @NotNull ByteArrayAssert allSatisfy(@NotNull Condition<Byte> condition) {
+    assertAllSatisfy(condition);
+    return this;
+  }
+
+  /**
+   * Verifies that at least one element of the actual {@code byte} array satisfies the given condition. Large arrays
+   * are checked in parallel if the condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code byte} array is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if no element of the actual {@code byte} array satisfies the given condition.
+   * @since 1.5
+   */
+  public @NotNull ByteArrayAssert anySatisfy(@NotNull Condition<Byte> condition) {
+    assertAnySatisfy(condition);
+    return this;
+  }
+
+  /**
+   * Verifies that no element of the actual {@code byte} array satisfies the given condition. Large arrays are checked
+   * in parallel if the condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code byte} array is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if an element of the actual {@code byte} array satisfies the given condition.
+   * @since 1.5
+   */
+  public @NotNull ByteArrayAssert noneSatisfy(@NotNull Condition<Byte> condition) {
+    assertNoneSatisfy(condition);
     return this;
   }
 
@@ -79,7 +185,7 @@ public class ByteArrayAssert extends ArrayAssert<ByteArrayAssert, byte[]> {
    * @throws AssertionError       if the actual {@code byte} array contains any of the given values.
    */
   public @NotNull ByteArrayAssert excludes(@NotNull byte... values) {
-    assertExcludes(copy(values));
+    assertExcludesValues(values);
     return this;
   }
 
@@ -18,7 +18,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.util.Arrays;
 
-import static org.fest.assertions.ArrayInspection.copy;
 import static org.fest.assertions.ErrorMessages.unexpectedEqual;
 import static org.fest.assertions.ErrorMessages.unexpectedNotEqual;
 
@@ -50,7 +49,7 @@ public class CharArrayAssert extends ArrayAssert<CharArrayAssert, char[]> {
    * @throws AssertionError       if the actual {@code char} array does not contain the given values.
    */
   public @NotNull CharArrayAssert contains(@NotNull char... values) {
-    assertContains(copy(values));
+    assertContainsValues(values);
     return this;
   }
 
@@ -65,7 +64,114 @@ public class CharArrayAssert extends ArrayAssert<CharArrayAssert, char[]> {
    *                              {@code char} array contains elements other than the ones specified.
    */
   public @NotNull CharArrayAssert containsOnly(@NotNull char... values) {
-    assertContainsOnly(copy(values));
+    assertContainsOnlyValues(values);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code char} array contains exactly the given values, in any order: each value must
+   * appear in the actual array as many times as it is given.
+   *
+   * @param values the values to look for.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code char} array is {@code null}.
+   * @throws NullPointerException if the given {@code char} array is {@code null}.
+   * @throws AssertionError       if some of the given values appear fewer times in the actual {@code char} array, or
+   *                              if the actual {@code char} array contains values, or copies of values, other than the
+   *                              ones specified.
+   * @since 1.5
+   */
+  public @NotNull CharArrayAssert containsExactlyInAnyOrder(@NotNull char... values) {
+    assertContainsExactlyInAnyOrderValues(values);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code char} array does not have duplicates.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code char} array is {@code null}.
+   * @throws AssertionError if the actual {@code char} array has duplicates.
+   * @since 1.5
+   */
+  public @NotNull CharArrayAssert doesNotHaveDuplicates() {
+    assertDoesNotHaveDuplicateValues();
+    return this;
+  }
+
+  /**
+   * Verifies that the elements of the actual {@code char} array are sorted in ascending order. Equal consecutive
+   * elements are allowed.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code char} array is {@code null}.
+   * @throws AssertionError if the actual {@code char} array is not sorted.
+   * @since 1.5
+   */
+  public @NotNull CharArrayAssert isSorted() {
+    assertIsSortedValues(false);
+    return this;
+  }
+
+  /**
+   * Verifies that the elements of the actual {@code char} array are sorted in ascending order, and that no element is
+   * equal to the one before it.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code char} array is {@code null}.
+   * @throws AssertionError if the actual {@code char} array is not strictly sorted.
+   * @since 1.5
+   */
+  public @NotNull CharArrayAssert isStrictlySorted() {
+    assertIsSortedValues(true);
+    return this;
+  }
+
+  /**
+   * Verifies that all the elements of the actual {@code char} array satisfy the given condition. Large arrays are
+   * checked in parallel if the condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code char} array is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if an element of the actual {@code char} array does not satisfy the given condition.
+   * @since 1.5
+   */
+  public @NotNull CharArrayAssert allSatisfy(@NotNull Condition<Character> condition) {
+    assertAllSatisfy(condition);
+    return this;
+  }
+
+  /**
+   * Verifies that at least one element of the actual {@code char} array satisfies the given condition. Large arrays
+   * are checked in parallel if the condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code char} array is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if no element of the actual {@code char} array satisfies the given condition.
+   * @since 1.5
+   */
+  public @NotNull CharArrayAssert anySatisfy(@NotNull Condition<Character> condition) {
+    assertAnySatisfy(condition);
+    return this;
+  }
+
+  /**
+   * Verifies that no element of the actual {@code char} array satisfies the given condition. Large arrays are checked
+   * in parallel if the condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code char} array is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if an element of the actual {@code char} array satisfies the given condition.
+   * @since 1.5
+   */
+  public @NotNull CharArrayAssert noneSatisfy(@NotNull Condition<Character> condition) {
+    assertNoneSatisfy(condition);
     return this;
   }
 
@@ -79,7 +185,7 @@ public class CharArrayAssert extends ArrayAssert<CharArrayAssert, char[]> {
    * @throws AssertionError       if the actual {@code char} array contains any of the given values.
    */
   public @NotNull CharArrayAssert excludes(@NotNull char... values) {
-    assertExcludes(copy(values));
+    assertExcludesValues(values);
     return this;
   }
 
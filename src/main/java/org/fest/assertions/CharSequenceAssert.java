@@ -0,0 +1,215 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.regex.Pattern;
+
+import static org.fest.assertions.ErrorMessages.unexpectedEqual;
+import static org.fest.assertions.ErrorMessages.unexpectedNotEqual;
+import static org.fest.assertions.Formatting.format;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Assertions for {@code CharSequence}s, such as {@code StringBuilder}s or {@code CharBuffer}s. The actual
+ * {@code CharSequence} is read in place, one character at a time: it is never copied into a {@code String}, so large
+ * in-memory buffers can be verified without doubling their memory footprint.
+ * <p/>
+ * To create a new instance of this class invoke {@link Assertions#assertThatCharSequence(CharSequence)}.
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+public class CharSequenceAssert extends GroupAssert<CharSequenceAssert, CharSequence> {
+  /**
+   * Creates a new {@link CharSequenceAssert}.
+   *
+   * @param actual the target to verify.
+   */
+  protected CharSequenceAssert(@Nullable CharSequence actual) {
+    super(CharSequenceAssert.class, actual);
+  }
+
+  /**
+   * Returns the number of characters in the actual {@code CharSequence}.
+   *
+   * @return the number of characters in the actual {@code CharSequence}.
+   */
+  @Override
+  protected int actualGroupSize() {
+    isNotNull();
+    return actual.length();
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} has the same characters as the given one, regardless of their types.
+   *
+   * @param expected the given {@code CharSequence} to compare the actual one to.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code CharSequence} does not have the same characters as the given one.
+   */
+  @Override
+  public @NotNull CharSequenceAssert isEqualTo(@Nullable CharSequence expected) {
+    if (haveSameCharacters(actual, expected)) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(unexpectedNotEqual(actual, expected));
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} does not have the same characters as the given one, regardless of
+   * their types.
+   *
+   * @param other the given {@code CharSequence} to compare the actual one to.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code CharSequence} has the same characters as the given one.
+   */
+  @Override
+  public @NotNull CharSequenceAssert isNotEqualTo(@Nullable CharSequence other) {
+    if (!haveSameCharacters(actual, other)) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(unexpectedEqual(actual, other));
+  }
+
+  private static boolean haveSameCharacters(@Nullable CharSequence s1, @Nullable CharSequence s2) {
+    if (s1 == null || s2 == null) {
+      return s1 == s2;
+    }
+    int length = s1.length();
+    return s2.length() == length && regionMatches(s1, 0, s2, length);
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} contains the given one.
+   *
+   * @param expected the given {@code CharSequence} expected to be contained in the actual one.
+   * @return this assertion object.
+   * @throws NullPointerException if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError       if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError       if the actual {@code CharSequence} does not contain the given one.
+   */
+  public @NotNull CharSequenceAssert contains(@NotNull CharSequence expected) {
+    checkNotNull(expected);
+    isNotNull();
+    if (indexOf(actual, expected) != -1) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(format("<%s> should contain:<%s>", actual, expected));
+  }
+
+  private static int indexOf(@NotNull CharSequence s, @NotNull CharSequence target) {
+    int length = target.length();
+    if (length == 0) {
+      return 0;
+    }
+    char first = target.charAt(0);
+    for (int i = 0, last = s.length() - length; i <= last; i++) {
+      if (s.charAt(i) == first && regionMatches(s, i, target, length)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} starts with the given one.
+   *
+   * @param expected the given {@code CharSequence} expected to be at the beginning of the actual one.
+   * @return this assertion object.
+   * @throws NullPointerException if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError       if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError       if the actual {@code CharSequence} does not start with the given one.
+   */
+  public @NotNull CharSequenceAssert startsWith(@NotNull CharSequence expected) {
+    checkNotNull(expected);
+    isNotNull();
+    int length = expected.length();
+    if (actual.length() >= length && regionMatches(actual, 0, expected, length)) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(format("<%s> should start with:<%s>", actual, expected));
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} ends with the given one.
+   *
+   * @param expected the given {@code CharSequence} expected to be at the end of the actual one.
+   * @return this assertion object.
+   * @throws NullPointerException if the given {@code CharSequence} is {@code null}.
+   * @throws AssertionError       if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError       if the actual {@code CharSequence} does not end with the given one.
+   */
+  public @NotNull CharSequenceAssert endsWith(@NotNull CharSequence expected) {
+    checkNotNull(expected);
+    isNotNull();
+    int length = expected.length();
+    int offset = actual.length() - length;
+    if (offset >= 0 && regionMatches(actual, offset, expected, length)) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(format("<%s> should end with:<%s>", actual, expected));
+  }
+
+  // the caller checks that s has at least (offset + length) characters
+  private static boolean regionMatches(@NotNull CharSequence s, int offset, @NotNull CharSequence other, int length) {
+    for (int i = 0; i < length; i++) {
+      if (s.charAt(offset + i) != other.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} matches the given regular expression.
+   *
+   * @param regex the given regular expression expected to be matched by the actual {@code CharSequence}.
+   * @return this assertion object.
+   * @throws NullPointerException                   if the given regular expression is {@code null}.
+   * @throws java.util.regex.PatternSyntaxException if the given regular expression is not valid.
+   * @throws AssertionError                         if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError                         if the actual {@code CharSequence} does not match the given
+   *                                                regular expression.
+   */
+  public @NotNull CharSequenceAssert matches(@NotNull String regex) {
+    return matches(PatternCache.compile(regex));
+  }
+
+  /**
+   * Verifies that the actual {@code CharSequence} matches the given pattern.
+   *
+   * @param pattern the given pattern expected to be matched by the actual {@code CharSequence}.
+   * @return this assertion object.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws AssertionError       if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError       if the actual {@code CharSequence} does not match the given pattern.
+   */
+  public @NotNull CharSequenceAssert matches(@NotNull Pattern pattern) {
+    checkNotNull(pattern);
+    isNotNull();
+    if (pattern.matcher(actual).matches()) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(format("<%s> should match the regular expression:<%s>", actual, pattern.pattern()));
+  }
+}
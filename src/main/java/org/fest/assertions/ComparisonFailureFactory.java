@@ -17,26 +17,34 @@ package org.fest.assertions;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import static org.fest.util.Preconditions.checkNotNull;
-import static org.fest.util.Strings.isNullOrEmpty;
-import static org.fest.util.Strings.quote;
-import static org.fest.util.ToString.toStringOf;
+import static org.fest.assertions.Truncation.toStringOf;
 
 /**
- * Creates instances of JUnit's {@code ComparisonFailure}.
+ * Creates instances of JUnit's {@code ComparisonFailure}, or of the failures created by a custom
+ * {@link FailureFactory}.
  *
  * @author Yvonne Wang
  * @author Alex Ruiz
  */
 public final class ComparisonFailureFactory {
-  private static final String EMPTY_MESSAGE = "";
-  private static ConstructorInvoker constructorInvoker = new ConstructorInvoker();
+  private static final FailureFactory DEFAULT_FAILURE_FACTORY =
+      ReflectiveFailureFactory.resolve(ComparisonFailureFactory.class.getClassLoader());
+
+  private static volatile FailureFactory failureFactory = DEFAULT_FAILURE_FACTORY;
 
   private ComparisonFailureFactory() {
   }
 
-  static void constructorInvoker(@NotNull ConstructorInvoker newConstructorInvoker) {
-    constructorInvoker = checkNotNull(newConstructorInvoker);
+  /**
+   * Specifies the {@link FailureFactory} to use to create comparison failures. By default, JUnit 4's
+   * {@code ComparisonFailure} or opentest4j's {@code AssertionFailedError} are created, if any of them is in the
+   * classpath.
+   *
+   * @param newFailureFactory the factory to use, or {@code null} to use the default one.
+   * @since 1.5
+   */
+  public static void failureFactory(@Nullable FailureFactory newFailureFactory) {
+    failureFactory = newFailureFactory == null ? DEFAULT_FAILURE_FACTORY : newFailureFactory;
   }
 
   /**
@@ -50,8 +58,8 @@ public final class ComparisonFailureFactory {
   public static @Nullable AssertionError comparisonFailure(
       @Nullable String message, @Nullable Object expected, @Nullable Object actual) {
     try {
-      return newComparisonFailure(clean(message), expected, actual);
-    } catch (Exception e) {
+      return failureFactory.comparisonFailure(clean(message), asString(expected), asString(actual));
+    } catch (RuntimeException e) {
       return null;
     }
   }
@@ -60,32 +68,8 @@ public final class ComparisonFailureFactory {
     return message == null ? "" : message;
   }
 
-  private static @Nullable AssertionError newComparisonFailure(
-      @Nullable String message, @Nullable Object expected, @Nullable Object actual) throws Exception {
-    String className = "org.junit.ComparisonFailure";
-    Class<?>[] parameterTypes = new Class<?>[]{String.class, String.class, String.class};
-    Object[] parameterValues = new Object[]{format(message), asString(expected), asString(actual)};
-    Object o = constructorInvoker.newInstance(className, parameterTypes, parameterValues);
-    if (o instanceof AssertionError) {
-      return (AssertionError) o;
-    }
-    return null;
-  }
-
+  // large values are cut within the limits set in Truncation, so that their whole representation is never built
   private static @Nullable String asString(@Nullable Object o) {
-    if (o instanceof String) {
-      return quote((String) o);
-    }
-    if (o == null) {
-      return null;
-    }
     return toStringOf(o);
   }
-
-  private static @NotNull String format(@Nullable String message) {
-    if (isNullOrEmpty(message)) {
-      return EMPTY_MESSAGE;
-    }
-    return String.format("[%s]", message);
-  }
 }
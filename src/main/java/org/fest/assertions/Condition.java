@@ -29,6 +29,7 @@ import static org.fest.util.Strings.isNullOrEmpty;
  */
 public abstract class Condition<T> {
   private String description;
+  private volatile boolean threadSafe;
 
   /**
    * Creates a new {@link Condition}.
@@ -65,6 +66,29 @@ public abstract class Condition<T> {
     return String.format("%s:<%s>", s, descriptionToAdd);
   }
 
+  /**
+   * Indicates that {@link #matches(Object)} can be called from several threads at the same time. Assertions that
+   * evaluate this condition on every element of a large group, such as {@link ObjectGroupAssert#allSatisfy(Condition)},
+   * then split their work across threads (see {@link Parallelism}.)
+   *
+   * @return this condition.
+   * @since 1.5
+   */
+  public final @NotNull Condition<T> asThreadSafe() {
+    threadSafe = true;
+    return this;
+  }
+
+  /**
+   * Indicates whether {@link #matches(Object)} can be called from several threads at the same time.
+   *
+   * @return {@code true} if this condition has been marked as thread-safe, {@code false} otherwise.
+   * @since 1.5
+   */
+  public final boolean isThreadSafe() {
+    return threadSafe;
+  }
+
   /**
    * @return the description of this condition.
    */
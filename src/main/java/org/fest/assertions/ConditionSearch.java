@@ -0,0 +1,98 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.assertions.Parallelism.RangeTask;
+import org.jetbrains.annotations.NotNull;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.sort;
+import static org.fest.assertions.Parallelism.forEachRange;
+import static org.fest.util.Lists.newArrayList;
+
+/**
+ * Evaluates a {@link Condition} on the elements of a group, stopping as soon as enough elements with the wanted outcome
+ * have been found.
+ * <p/>
+ * If the condition has been marked as thread-safe (see {@link Condition#asThreadSafe()}), large groups are split in
+ * contiguous ranges, checked in parallel (see {@link Parallelism}.) Once a range has found enough elements, ranges
+ * stop looking past the last of them. The result is the same as when the group is checked in a single thread.
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+final class ConditionSearch {
+  /**
+   * The maximum number of elements reported in failure messages.
+   */
+  static final int MAX_REPORTED = 10;
+
+  private ConditionSearch() {
+  }
+
+  /**
+   * Returns the indices of the first elements for which the given condition returns the given result, in ascending
+   * order.
+   *
+   * @param elements  the elements to evaluate the condition on, in a list that supports fast random access.
+   * @param condition the condition to evaluate.
+   * @param result    the result to look for.
+   * @param max       the maximum number of indices to return.
+   * @return the indices of the first elements for which the condition returns the given result.
+   */
+  @SuppressWarnings("unchecked")
+  static @NotNull List<Integer> indicesWhere(@NotNull final List<?> elements, @NotNull Condition<?> condition,
+      final boolean result, final int max) {
+    final Condition<Object> c = (Condition<Object>) condition;
+    final AtomicInteger last = new AtomicInteger(Integer.MAX_VALUE);
+    final List<Integer> found = newArrayList();
+    RangeTask task = new RangeTask() {
+      @Override
+      public void run(int from, int to) {
+        List<Integer> indices = newArrayList();
+        for (int i = from; i < to && i <= last.get(); i++) {
+          if (c.matches(elements.get(i)) != result) {
+            continue;
+          }
+          indices.add(i);
+          if (indices.size() == max) {
+            lower(last, i);
+            break;
+          }
+        }
+        synchronized (found) {
+          found.addAll(indices);
+        }
+      }
+    };
+    if (condition.isThreadSafe()) {
+      forEachRange(elements.size(), task);
+    } else {
+      task.run(0, elements.size());
+    }
+    sort(found);
+    return found.size() > max ? newArrayList(found.subList(0, max)) : found;
+  }
+
+  private static void lower(@NotNull AtomicInteger last, int index) {
+    while (true) {
+      int current = last.get();
+      if (index >= current || last.compareAndSet(current, index)) {
+        return;
+      }
+    }
+  }
+}
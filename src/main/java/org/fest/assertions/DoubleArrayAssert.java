@@ -19,7 +19,6 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Arrays;
 
 import static java.lang.Math.abs;
-import static org.fest.assertions.ArrayInspection.copy;
 import static org.fest.assertions.ErrorMessages.unexpectedEqual;
 import static org.fest.assertions.ErrorMessages.unexpectedNotEqual;
 import static org.fest.assertions.Formatting.format;
@@ -53,7 +52,7 @@ public class DoubleArrayAssert extends ArrayAssert<DoubleArrayAssert, double[]>
    * @throws AssertionError       if the actual {@code double} array does not contain the given values.
    */
   public @NotNull DoubleArrayAssert contains(@NotNull double... values) {
-    assertContains(copy(values));
+    assertContainsValues(values);
     return this;
   }
 
@@ -68,7 +67,114 @@ public class DoubleArrayAssert extends ArrayAssert<DoubleArrayAssert, double[]>
    *                              {@code double} array contains elements other than the ones specified.
    */
   public @NotNull DoubleArrayAssert containsOnly(@NotNull double... values) {
-    assertContainsOnly(copy(values));
+    assertContainsOnlyValues(values);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code double} array contains exactly the given values, in any order: each value must
+   * appear in the actual array as many times as it is given.
+   *
+   * @param values the values to look for.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code double} array is {@code null}.
+   * @throws NullPointerException if the given {@code double} array is {@code null}.
+   * @throws AssertionError       if some of the given values appear fewer times in the actual {@code double} array, or
+   *                              if the actual {@code double} array contains values, or copies of values, other than the
+   *                              ones specified.
+   * @since 1.5
+   */
+  public @NotNull DoubleArrayAssert containsExactlyInAnyOrder(@NotNull double... values) {
+    assertContainsExactlyInAnyOrderValues(values);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code double} array does not have duplicates.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code double} array is {@code null}.
+   * @throws AssertionError if the actual {@code double} array has duplicates.
+   * @since 1.5
+   */
+  public @NotNull DoubleArrayAssert doesNotHaveDuplicates() {
+    assertDoesNotHaveDuplicateValues();
+    return this;
+  }
+
+  /**
+   * Verifies that the elements of the actual {@code double} array are sorted in ascending order. Equal consecutive
+   * elements are allowed.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code double} array is {@code null}.
+   * @throws AssertionError if the actual {@code double} array is not sorted.
+   * @since 1.5
+   */
+  public @NotNull DoubleArrayAssert isSorted() {
+    assertIsSortedValues(false);
+    return this;
+  }
+
+  /**
+   * Verifies that the elements of the actual {@code double} array are sorted in ascending order, and that no element is
+   * equal to the one before it.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code double} array is {@code null}.
+   * @throws AssertionError if the actual {@code double} array is not strictly sorted.
+   * @since 1.5
+   */
+  public @NotNull DoubleArrayAssert isStrictlySorted() {
+    assertIsSortedValues(true);
+    return this;
+  }
+
+  /**
+   * Verifies that all the elements of the actual {@code double} array satisfy the given condition. Large arrays are
+   * checked in parallel if the condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code double} array is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if an element of the actual {@code double} array does not satisfy the given condition.
+   * @since 1.5
+   */
+  public @NotNull DoubleArrayAssert allSatisfy(@NotNull Condition<Double> condition) {
+    assertAllSatisfy(condition);
+    return this;
+  }
+
+  /**
+   * Verifies that at least one element of the actual {@code double} array satisfies the given condition. Large arrays
+   * are checked in parallel if the condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code double} array is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if no element of the actual {@code double} array satisfies the given condition.
+   * @since 1.5
+   */
+  public @NotNull DoubleArrayAssert anySatisfy(@NotNull Condition<Double> condition) {
+    assertAnySatisfy(condition);
+    return this;
+  }
+
+  /**
+   * Verifies that no element of the actual {@code double} array satisfies the given condition. Large arrays are checked
+   * in parallel if the condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code double} array is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if an element of the actual {@code double} array satisfies the given condition.
+   * @since 1.5
+   */
+  public @NotNull DoubleArrayAssert noneSatisfy(@NotNull Condition<Double> condition) {
+    assertNoneSatisfy(condition);
     return this;
   }
 
@@ -82,7 +188,7 @@ public class DoubleArrayAssert extends ArrayAssert<DoubleArrayAssert, double[]>
    * @throws AssertionError       if the actual {@code double} array contains any of the given values.
    */
   public @NotNull DoubleArrayAssert excludes(@NotNull double... values) {
-    assertExcludes(copy(values));
+    assertExcludesValues(values);
     return this;
   }
 
@@ -0,0 +1,67 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+/**
+ * Settings for the assertions that look for duplicates, such as {@link ObjectGroupAssert#doesNotHaveDuplicates()}.
+ * <p/>
+ * The search for duplicates stops as soon as the number of duplicates set with {@link #setMaxReported(int)} have been
+ * found, and the failure reports only those. Checking a large group that turns out to have many duplicates then costs
+ * no more than finding the first ones.
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+public final class DuplicateDetection {
+  /**
+   * The default maximum number of duplicates to look for.
+   */
+  public static final int DEFAULT_MAX_REPORTED = 100;
+
+  private static volatile int maxReported = DEFAULT_MAX_REPORTED;
+
+  private DuplicateDetection() {
+  }
+
+  /**
+   * Sets the number of distinct duplicated elements after which the search for duplicates stops. Use
+   * {@code Integer.MAX_VALUE} to always report all the duplicates.
+   *
+   * @param max the maximum number of duplicates to look for.
+   * @throws IllegalArgumentException if the given number is less than 1.
+   */
+  public static void setMaxReported(int max) {
+    if (max < 1) {
+      throw new IllegalArgumentException("The maximum number of duplicates to report should be positive");
+    }
+    maxReported = max;
+  }
+
+  /**
+   * Returns the number of distinct duplicated elements after which the search for duplicates stops.
+   *
+   * @return the maximum number of duplicates to look for.
+   */
+  public static int maxReported() {
+    return maxReported;
+  }
+
+  /**
+   * Restores the default maximum number of duplicates to look for.
+   */
+  public static void reset() {
+    maxReported = DEFAULT_MAX_REPORTED;
+  }
+}
@@ -0,0 +1,248 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.jetbrains.annotations.NotNull;
+import java.util.List;
+
+import static java.lang.Double.doubleToLongBits;
+import static java.lang.Float.floatToIntBits;
+import static java.lang.reflect.Array.get;
+import static org.fest.assertions.ArrayInspection.sizeOf;
+import static org.fest.assertions.PrimitiveArrayMatcher.keyAt;
+import static org.fest.util.Lists.newArrayList;
+
+/**
+ * Finds the duplicated elements of an array of primitives in a single pass, without boxing them.
+ * <p/>
+ * {@code int}, {@code float} (by their bits) and {@code long} or {@code double} (by their bits) elements are added to
+ * an open-addressing hash set of the matching primitive type; {@code byte}, {@code char} and {@code short} elements
+ * are marked in a table with one entry per possible value. Values are compared the same way their wrapper types do in
+ * {@code equals}. Only the duplicated elements reported back to the caller are boxed.
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+final class DuplicateFinder {
+  private final Object array;
+  private final int maxReported;
+  private final LongKeyTable reported = new LongKeyTable(0);
+  private final List<Object> duplicates = newArrayList();
+
+  /**
+   * Returns the elements that appear more than once in the given array of primitives, in the order of their second
+   * appearance. The search stops once the given number of duplicated elements has been found.
+   *
+   * @param array       the array of primitives.
+   * @param maxReported the maximum number of duplicated elements to look for.
+   * @return the duplicated elements.
+   * @throws IllegalArgumentException if the given object is not an array of primitives.
+   */
+  static @NotNull List<Object> duplicatesIn(@NotNull Object array, int maxReported) {
+    DuplicateFinder finder = new DuplicateFinder(array, maxReported);
+    finder.scan();
+    return finder.duplicates;
+  }
+
+  private DuplicateFinder(@NotNull Object array, int maxReported) {
+    this.array = array;
+    this.maxReported = maxReported;
+  }
+
+  private void scan() {
+    if (array instanceof int[]) {
+      int[] values = (int[]) array;
+      IntSet seen = new IntSet(values.length);
+      for (int i = 0; i < values.length; i++) {
+        if (!seen.add(values[i]) && report(values[i], i)) {
+          return;
+        }
+      }
+      return;
+    }
+    if (array instanceof long[]) {
+      long[] values = (long[]) array;
+      LongSet seen = new LongSet(values.length);
+      for (int i = 0; i < values.length; i++) {
+        if (!seen.add(values[i]) && report(values[i], i)) {
+          return;
+        }
+      }
+      return;
+    }
+    if (array instanceof double[]) {
+      double[] values = (double[]) array;
+      LongSet seen = new LongSet(values.length);
+      for (int i = 0; i < values.length; i++) {
+        long bits = doubleToLongBits(values[i]);
+        if (!seen.add(bits) && report(bits, i)) {
+          return;
+        }
+      }
+      return;
+    }
+    if (array instanceof float[]) {
+      float[] values = (float[]) array;
+      IntSet seen = new IntSet(values.length);
+      for (int i = 0; i < values.length; i++) {
+        int bits = floatToIntBits(values[i]);
+        if (!seen.add(bits) && report(bits, i)) {
+          return;
+        }
+      }
+      return;
+    }
+    boolean smallValues = array instanceof short[] || array instanceof char[] || array instanceof byte[]
+        || array instanceof boolean[];
+    if (!smallValues) {
+      throw new IllegalArgumentException("The given object is not an array of primitives");
+    }
+    // few enough possible values to have one entry for each
+    boolean[] seen = new boolean[1 << 16];
+    for (int i = 0, length = sizeOf(array); i < length; i++) {
+      long key = keyAt(array, i);
+      int index = (int) key & 0xFFFF;
+      if (seen[index]) {
+        if (report(key, i)) {
+          return;
+        }
+        continue;
+      }
+      seen[index] = true;
+    }
+  }
+
+  // returns true when the search should stop
+  private boolean report(long key, int index) {
+    int count = reported.size();
+    if (reported.add(key) == count) {
+      duplicates.add(get(array, index));
+    }
+    return duplicates.size() >= maxReported;
+  }
+
+  private static int mix(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  private static int capacityFor(int expectedSize) {
+    int capacity = 16;
+    while (capacity < (1 << 30) && capacity * 3L < expectedSize * 4L) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  /**
+   * Open-addressing set of {@code int}s. Zero marks an empty slot, so it is tracked apart.
+   */
+  private static class IntSet {
+    private int[] slots;
+    private int size;
+    private boolean hasZero;
+
+    IntSet(int expectedSize) {
+      slots = new int[capacityFor(expectedSize)];
+    }
+
+    boolean add(int value) {
+      if (value == 0) {
+        boolean added = !hasZero;
+        hasZero = true;
+        return added;
+      }
+      int mask = slots.length - 1;
+      int slot = mix(value) & mask;
+      while (slots[slot] != 0) {
+        if (slots[slot] == value) {
+          return false;
+        }
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = value;
+      if (++size * 4L > slots.length * 3L) {
+        rehash();
+      }
+      return true;
+    }
+
+    private void rehash() {
+      int[] old = slots;
+      slots = new int[old.length << 1];
+      int mask = slots.length - 1;
+      for (int value : old) {
+        if (value == 0) {
+          continue;
+        }
+        int slot = mix(value) & mask;
+        while (slots[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        slots[slot] = value;
+      }
+    }
+  }
+
+  /**
+   * Open-addressing set of {@code long}s. Zero marks an empty slot, so it is tracked apart.
+   */
+  private static class LongSet {
+    private long[] slots;
+    private int size;
+    private boolean hasZero;
+
+    LongSet(int expectedSize) {
+      slots = new long[capacityFor(expectedSize)];
+    }
+
+    boolean add(long value) {
+      if (value == 0) {
+        boolean added = !hasZero;
+        hasZero = true;
+        return added;
+      }
+      int mask = slots.length - 1;
+      int slot = mix(value) & mask;
+      while (slots[slot] != 0) {
+        if (slots[slot] == value) {
+          return false;
+        }
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = value;
+      if (++size * 4L > slots.length * 3L) {
+        rehash();
+      }
+      return true;
+    }
+
+    private void rehash() {
+      long[] old = slots;
+      slots = new long[old.length << 1];
+      int mask = slots.length - 1;
+      for (long value : old) {
+        if (value == 0) {
+          continue;
+        }
+        int slot = mix(value) & mask;
+        while (slots[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        slots[slot] = value;
+      }
+    }
+  }
+}
@@ -17,12 +17,14 @@ package org.fest.assertions;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import static java.util.Arrays.copyOfRange;
 import static org.fest.assertions.ComparisonFailureFactory.comparisonFailure;
 import static org.fest.assertions.ErrorMessages.unexpectedEqual;
 import static org.fest.assertions.ErrorMessages.unexpectedNotEqual;
 import static org.fest.assertions.Formatting.*;
 import static org.fest.util.Arrays.array;
 import static org.fest.util.Objects.areEqual;
+import static org.fest.util.Preconditions.checkNotNull;
 
 /**
  * Common failures.
@@ -31,6 +33,15 @@ import static org.fest.util.Objects.areEqual;
  * @author Yvonne Wang
  */
 public final class Fail {
+  private static final String FEST_PACKAGE = Fail.class.getPackage().getName();
+
+  private static final ThreadLocal<StackTraceMode> STACK_TRACE_MODE = new ThreadLocal<StackTraceMode>() {
+    @Override
+    protected StackTraceMode initialValue() {
+      return StackTraceMode.FULL;
+    }
+  };
+
   /**
    * This constructor is protected to make it possible to subclass this class. Since all its methods are static, there
    * is no point on creating a new instance of it.
@@ -100,9 +111,11 @@ public final class Fail {
    */
   protected static @NotNull AssertionError comparisonFailed(
       @Nullable Description description, @Nullable Object actual, @Nullable Object expected) {
-    AssertionError comparisonFailure = comparisonFailure(valueOf(description), expected, actual);
-    if (comparisonFailure != null) {
-      return comparisonFailure;
+    if (stackTraceMode() != StackTraceMode.NONE) {
+      AssertionError comparisonFailure = comparisonFailure(valueOf(description), expected, actual);
+      if (comparisonFailure != null) {
+        return comparisonFailure;
+      }
     }
     return failure(format(description, unexpectedNotEqual(actual, expected)));
   }
@@ -267,13 +280,88 @@ public final class Fail {
   }
 
   /**
-   * Creates a {@code AssertionError} with the given message.
+   * Creates a {@code AssertionError} with the given message, recording as much of the stack trace as the
+   * {@link #stackTraceMode() mode} of the current thread specifies.
    *
    * @param message the message of the exception to create.
    * @return the created exception.
    * @since 1.2
    */
   public static @NotNull AssertionError failure(@Nullable String message) {
-    return new AssertionError(message);
+    switch (stackTraceMode()) {
+      case NONE:
+        return new ErrorWithoutStackTrace(message);
+      case TRIMMED:
+        return trimmed(new AssertionError(message));
+      default:
+        return new AssertionError(message);
+    }
+  }
+
+  private static @NotNull AssertionError trimmed(@NotNull AssertionError error) {
+    StackTraceElement[] stackTrace = error.getStackTrace();
+    int start = 0;
+    while (start < stackTrace.length && isInFestPackage(stackTrace[start])) {
+      start++;
+    }
+    error.setStackTrace(copyOfRange(stackTrace, start, stackTrace.length));
+    return error;
+  }
+
+  private static boolean isInFestPackage(@NotNull StackTraceElement frame) {
+    String className = frame.getClassName();
+    int lastDot = className.lastIndexOf('.');
+    return lastDot == FEST_PACKAGE.length() && className.startsWith(FEST_PACKAGE);
+  }
+
+  /**
+   * Sets how much of the stack trace is recorded in the {@code AssertionError}s thrown by failed assertions in the
+   * current thread. Errors thrown by other threads are not affected, so bulk checks can use
+   * {@link StackTraceMode#NONE} and restore the previous mode when done, while failures anywhere else keep their full
+   * stack trace:
+   * <pre>
+   * StackTraceMode previous = Fail.setStackTraceMode(StackTraceMode.NONE);
+   * try {
+   *   // trigger and catch many failures
+   * } finally {
+   *   Fail.setStackTraceMode(previous);
+   * }
+   * </pre>
+   * When no stack trace is recorded, JUnit's {@code ComparisonFailure} is not used either, since it cannot be created
+   * without one.
+   *
+   * @param mode the new mode.
+   * @return the previous mode.
+   * @throws NullPointerException if the given mode is {@code null}.
+   * @since 1.5
+   */
+  public static @NotNull StackTraceMode setStackTraceMode(@NotNull StackTraceMode mode) {
+    StackTraceMode previous = stackTraceMode();
+    STACK_TRACE_MODE.set(checkNotNull(mode));
+    return previous;
+  }
+
+  /**
+   * Returns how much of the stack trace is recorded in the {@code AssertionError}s thrown by failed assertions in the
+   * current thread.
+   *
+   * @return the current mode.
+   * @since 1.5
+   */
+  public static @NotNull StackTraceMode stackTraceMode() {
+    return STACK_TRACE_MODE.get();
+  }
+
+  private static class ErrorWithoutStackTrace extends AssertionError {
+    private static final long serialVersionUID = 1L;
+
+    ErrorWithoutStackTrace(@Nullable String message) {
+      super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
   }
 }
@@ -0,0 +1,40 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Creates the {@code AssertionError}s thrown when two values are not equal, usually to integrate with a test framework
+ * (for example, to let an IDE show the differences between the two values.) Implementations must be thread-safe.
+ *
+ * @see ComparisonFailureFactory#failureFactory(FailureFactory)
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+public interface FailureFactory {
+  /**
+   * Creates an {@code AssertionError} describing a comparison failure.
+   *
+   * @param message  the description of the actual value, or an empty {@code String} if there is none.
+   * @param expected the {@code String} representation of the expected value, or {@code null}.
+   * @param actual   the {@code String} representation of the actual value, or {@code null}.
+   * @return the created {@code AssertionError}, or {@code null} if this factory cannot create one, in which case a
+   *         regular {@code AssertionError} is thrown.
+   */
+  @Nullable AssertionError comparisonFailure(@NotNull String message, @Nullable String expected,
+                                             @Nullable String actual);
+}
@@ -14,7 +14,7 @@
  */
 package org.fest.assertions;
 
-import org.fest.assertions.FileContentComparator.LineDiff;
+import org.fest.assertions.FileContentComparator.Hunk;
 import org.fest.util.VisibleForTesting;
 
 import org.jetbrains.annotations.NotNull;
@@ -136,6 +136,9 @@ public class FileAssert extends GenericAssert<FileAssert, File> {
    * Verifies that the content of the actual {@code File} is equal to the content of the given one. Adapted from <a
    * href="http://junit-addons.sourceforge.net/junitx/framework/FileAssert.html" target="_blank">FileAssert</a> (from <a
    * href="http://sourceforge.net/projects/junit-addons">JUnit-addons</a>.)
+   * <p/>
+   * If the contents are not equal, the failure message lists their differences as a unified diff from the given
+   * {@code File} to the actual one.
    *
    * @param expected the given {@code File} to compare the actual {@code File} to.
    * @return this assertion object.
@@ -148,7 +151,7 @@ public class FileAssert extends GenericAssert<FileAssert, File> {
     isNotNull();
     assertExists(actual).assertExists(expected);
     try {
-      LineDiff[] diffs = comparator.compareContents(actual, expected);
+      Hunk[] diffs = comparator.compareContents(actual, expected);
       if (!isNullOrEmpty(diffs)) {
         fail(expected, diffs);
       }
@@ -158,14 +161,17 @@ public class FileAssert extends GenericAssert<FileAssert, File> {
     return this;
   }
 
-  private void fail(@NotNull File expected, @NotNull LineDiff[] diffs) {
+  private void fail(@NotNull File expected, @NotNull Hunk[] diffs) {
     failIfCustomMessageIsSet();
     StringBuilder b = new StringBuilder();
     b.append(String.format("file:%s and file:%s do not have same contents:", inBrackets(actual), inBrackets(expected)));
-    for (LineDiff diff : diffs) {
-      String line = String.format("%nline:<%d>, expected:%s but was:%s", diff.lineNumber, inBrackets(diff.expected),
-          inBrackets(diff.actual));
-      b.append(line);
+    b.append(String.format("%n--- expected%n+++ actual"));
+    for (Hunk diff : diffs) {
+      b.append(String.format("%n@@ -%d,%d +%d,%d @@", diff.expectedStart, diff.expectedCount, diff.actualStart,
+          diff.actualCount));
+      for (String line : diff.lines) {
+        b.append(String.format("%n%s", line));
+      }
     }
     fail(b.toString());
   }
@@ -15,16 +15,22 @@
 package org.fest.assertions;
 
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
+import static java.lang.Math.min;
 import static java.lang.String.format;
-import static org.fest.assertions.FileContentComparator.LineDiff.lineDiff;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.Charset.defaultCharset;
 import static org.fest.util.Closeables.closeQuietly;
 import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Maps.newHashMap;
 import static org.fest.util.Objects.*;
-import static org.fest.util.Strings.quote;
 
 /**
  * Compares the contents of two files.
@@ -34,78 +40,302 @@ import static org.fest.util.Strings.quote;
  * @author Yvonne Wang
  */
 class FileContentComparator {
-  private static final String EOF = "EOF";
+  private static final int CONTEXT = 3;
+  private static final int MAX_LINES = 10000;
+  private static final int CHUNK_SIZE = 1 << 26;
+  private static final int MIN_MAPPED_SIZE = 1 << 20;
 
   /*
-   * Verifies that the given files have the same content. Adapted from <a
-   * href="http://junit-addons.sourceforge.net/junitx/framework/FileAssert.html" target="_blank">FileAssert</a> (from <a
-   * href="http://sourceforge.net/projects/junit-addons">JUnit-addons</a>.)
+   * Verifies that the given files have the same content, returning their differences as the hunks of a unified diff
+   * from the expected file to the actual one.
+   *
+   * The files are first compared byte by byte, in large chunks. Lines are decoded only if the files are not identical,
+   * starting a few lines before the line where the first different byte is, and at most MAX_LINES lines of each file
+   * are compared at a time (see MyersDiff.) The byte comparison only finds identical files early: the lines decide
+   * whether files that are not identical have the same content, so files that only differ in their line separators do.
    */
-  @NotNull LineDiff[] compareContents(@NotNull File actual, @NotNull File expected) throws IOException {
-    InputStream ais = null;
-    InputStream eis = null;
+  @NotNull Hunk[] compareContents(@NotNull File actual, @NotNull File expected) throws IOException {
+    long mismatch = firstMismatch(actual, expected);
+    if (mismatch < 0) {
+      return new Hunk[0];
+    }
+    LineStart start = isAsciiCompatible(defaultCharset()) ? lineStart(actual, mismatch) : LineStart.FIRST_LINE;
+    int skipped = 0;
+    while (true) {
+      List<String> actualLines = readLines(actual, start, skipped);
+      List<String> expectedLines = readLines(expected, start, skipped);
+      boolean truncated = actualLines.size() > MAX_LINES || expectedLines.size() > MAX_LINES;
+      if (truncated) {
+        actualLines = actualLines.subList(0, min(actualLines.size(), MAX_LINES));
+        expectedLines = expectedLines.subList(0, min(expectedLines.size(), MAX_LINES));
+      }
+      List<Hunk> hunks = hunks(expectedLines, actualLines, start.lineNumber + skipped, truncated);
+      if (!hunks.isEmpty() || !truncated) {
+        return hunks.toArray(new Hunk[hunks.size()]);
+      }
+      // the lines read are equal, but the files may still differ after them
+      skipped += MAX_LINES - CONTEXT;
+    }
+  }
+
+  // Returns the offset of the first byte that is different in the given files, or -1 if the files are identical.
+  private static long firstMismatch(@NotNull File actual, @NotNull File expected) throws IOException {
+    FileInputStream ais = null;
+    FileInputStream eis = null;
     try {
       ais = new FileInputStream(actual);
       eis = new FileInputStream(expected);
-      List<LineDiff> diffs = verifyEqualContent(readerFor(ais), readerFor(eis));
-      return diffs.toArray(new LineDiff[diffs.size()]);
+      FileChannel a = ais.getChannel();
+      FileChannel e = eis.getChannel();
+      long size = min(a.size(), e.size());
+      for (long position = 0; position < size; position += CHUNK_SIZE) {
+        int length = (int) min(CHUNK_SIZE, size - position);
+        int index = firstMismatch(region(a, position, length), region(e, position, length));
+        if (index >= 0) {
+          return position + index;
+        }
+      }
+      return a.size() == e.size() ? -1 : size;
     } finally {
       closeQuietly(eis);
       closeQuietly(ais);
     }
   }
 
-  private @NotNull LineNumberReader readerFor(@NotNull InputStream inputStream) {
-    return new LineNumberReader(new BufferedReader(new InputStreamReader(inputStream)));
+  private static int firstMismatch(@NotNull ByteBuffer a, @NotNull ByteBuffer e) {
+    int length = min(a.limit(), e.limit());
+    int i = 0;
+    while (i + 8 <= length && a.getLong(i) == e.getLong(i)) {
+      i += 8;
+    }
+    for (; i < length; i++) {
+      if (a.get(i) != e.get(i)) {
+        return i;
+      }
+    }
+    return a.limit() == e.limit() ? -1 : length;
   }
 
-  private @NotNull List<LineDiff> verifyEqualContent(
-      @NotNull LineNumberReader actual, @NotNull LineNumberReader expected) throws IOException {
-    List<LineDiff> diffs = newArrayList();
-    while (true) {
-      if (!expected.ready() && !actual.ready()) {
-        return diffs;
+  // Large regions are memory-mapped. Small ones are read into the heap instead: mapping has a fixed cost and, on some
+  // platforms, a mapped file cannot be deleted until the mapping is garbage-collected.
+  private static @NotNull ByteBuffer region(@NotNull FileChannel channel, long position, int length)
+      throws IOException {
+    if (length >= MIN_MAPPED_SIZE) {
+      return channel.map(READ_ONLY, position, length);
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        break;
+      }
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  // Finds the start of the line that is CONTEXT lines before the one containing the byte at the given offset, counting
+  // the lines before it the same way BufferedReader does: a line ends with '\n', '\r' or "\r\n".
+  private static @NotNull LineStart lineStart(@NotNull File file, long offset) throws IOException {
+    FileInputStream is = null;
+    try {
+      is = new FileInputStream(file);
+      FileChannel channel = is.getChannel();
+      LineStart[] starts = new LineStart[CONTEXT + 1];
+      int startCount = 0;
+      int lineCount = 0;
+      boolean afterCarriageReturn = false;
+      for (long position = 0; position < offset; position += CHUNK_SIZE) {
+        ByteBuffer buffer = region(channel, position, (int) min(CHUNK_SIZE, offset - position));
+        for (int i = 0; i < buffer.limit(); i++) {
+          byte b = buffer.get(i);
+          if (afterCarriageReturn && b != '\n') {
+            starts[startCount++ % starts.length] = new LineStart(position + i, ++lineCount);
+          }
+          if (b == '\n') {
+            starts[startCount++ % starts.length] = new LineStart(position + i + 1, ++lineCount);
+          }
+          afterCarriageReturn = b == '\r';
+        }
+      }
+      return startCount > CONTEXT ? starts[(startCount - CONTEXT - 1) % starts.length] : LineStart.FIRST_LINE;
+    } finally {
+      closeQuietly(is);
+    }
+  }
+
+  // Lines can be found at the byte level only if line separators are encoded as single ASCII bytes.
+  private static boolean isAsciiCompatible(@NotNull Charset charset) {
+    String ascii = "\r\n azAZ09";
+    try {
+      return Arrays.equals(ascii.getBytes(charset), ascii.getBytes("US-ASCII"));
+    } catch (UnsupportedEncodingException e) {
+      return false;
+    }
+  }
+
+  private static @NotNull List<String> readLines(@NotNull File file, @NotNull LineStart start, int skipped)
+      throws IOException {
+    FileInputStream is = null;
+    try {
+      is = new FileInputStream(file);
+      is.getChannel().position(start.offset);
+      BufferedReader reader = new BufferedReader(new InputStreamReader(is));
+      for (int i = 0; i < skipped; i++) {
+        if (reader.readLine() == null) {
+          break;
+        }
       }
-      int lineNumber = expected.getLineNumber();
-      String actualLine = actual.readLine();
-      String expectedLine = expected.readLine();
-      if (areEqual(actualLine, expectedLine)) {
+      List<String> lines = newArrayList();
+      String line;
+      while (lines.size() <= MAX_LINES && (line = reader.readLine()) != null) {
+        lines.add(line);
+      }
+      return lines;
+    } finally {
+      closeQuietly(is);
+    }
+  }
+
+  private static @NotNull List<Hunk> hunks(@NotNull List<String> expected, @NotNull List<String> actual,
+      int firstLineNumber, boolean truncated) {
+    Map<String, Integer> ids = newHashMap();
+    int[] expectedIds = idsOf(expected, ids);
+    int[] actualIds = idsOf(actual, ids);
+    boolean[] removed = new boolean[expectedIds.length];
+    boolean[] added = new boolean[actualIds.length];
+    MyersDiff.diff(expectedIds, actualIds, removed, added);
+    List<int[]> changes = changes(removed, added);
+    if (truncated && changes.size() > 1) {
+      // the last change may only be caused by the files being truncated
+      int[] last = changes.get(changes.size() - 1);
+      if (last[1] == removed.length || last[3] == added.length) {
+        changes.remove(changes.size() - 1);
+      }
+    }
+    List<Hunk> hunks = newArrayList();
+    int first = 0;
+    for (int i = 1; i <= changes.size(); i++) {
+      if (i < changes.size() && changes.get(i)[0] - changes.get(i - 1)[1] <= 2 * CONTEXT) {
+        continue;
+      }
+      hunks.add(hunk(expected, actual, changes.subList(first, i), firstLineNumber));
+      first = i;
+    }
+    return hunks;
+  }
+
+  private static @NotNull int[] idsOf(@NotNull List<String> lines, @NotNull Map<String, Integer> ids) {
+    int[] result = new int[lines.size()];
+    for (int i = 0; i < result.length; i++) {
+      String line = lines.get(i);
+      Integer id = ids.get(line);
+      if (id == null) {
+        id = ids.size();
+        ids.put(line, id);
+      }
+      result[i] = id;
+    }
+    return result;
+  }
+
+  // Groups consecutive removed and added lines into changes: {expectedStart, expectedEnd, actualStart, actualEnd}.
+  private static @NotNull List<int[]> changes(@NotNull boolean[] removed, @NotNull boolean[] added) {
+    List<int[]> changes = newArrayList();
+    int i = 0;
+    int j = 0;
+    while (i < removed.length || j < added.length) {
+      if ((i < removed.length && removed[i]) || (j < added.length && added[j])) {
+        int[] change = { i, i, j, j };
+        while (i < removed.length && removed[i]) {
+          i++;
+        }
+        while (j < added.length && added[j]) {
+          j++;
+        }
+        change[1] = i;
+        change[3] = j;
+        changes.add(change);
         continue;
       }
-      diffs.add(lineDiff(lineNumber, actualLine, expectedLine));
-      if (!actual.ready() && expected.ready()) {
-        diffs.add(lineDiff(lineNumber, EOF, expectedLine));
-        return diffs;
+      i++;
+      j++;
+    }
+    return changes;
+  }
+
+  private static @NotNull Hunk hunk(@NotNull List<String> expected, @NotNull List<String> actual,
+      @NotNull List<int[]> changes, int firstLineNumber) {
+    int[] first = changes.get(0);
+    int[] last = changes.get(changes.size() - 1);
+    int before = min(CONTEXT, first[0]);
+    int after = min(CONTEXT, expected.size() - last[1]);
+    List<String> lines = newArrayList();
+    int i = first[0] - before;
+    for (int[] change : changes) {
+      for (; i < change[0]; i++) {
+        lines.add(" " + expected.get(i));
+      }
+      for (; i < change[1]; i++) {
+        lines.add("-" + expected.get(i));
       }
-      if (actual.ready() && !expected.ready()) {
-        diffs.add(lineDiff(lineNumber, actualLine, EOF));
-        return diffs;
+      for (int j = change[2]; j < change[3]; j++) {
+        lines.add("+" + actual.get(j));
       }
     }
+    for (; i < last[1] + after; i++) {
+      lines.add(" " + expected.get(i));
+    }
+    int expectedCount = last[1] + after - (first[0] - before);
+    int actualCount = last[3] + after - (first[2] - before);
+    return new Hunk(startOf(firstLineNumber + first[0] - before, expectedCount), expectedCount,
+        startOf(firstLineNumber + first[2] - before, actualCount), actualCount, lines);
   }
 
-  static class LineDiff {
+  // In a unified diff, lines are numbered from 1 and an empty range starts at the line before it.
+  private static int startOf(int index, int count) {
+    return count == 0 ? index : index + 1;
+  }
+
+  private static class LineStart {
+    static final LineStart FIRST_LINE = new LineStart(0, 0);
+
+    final long offset;
     final int lineNumber;
-    final String actual;
-    final String expected;
 
-    private LineDiff(int lineNumber, @Nullable String actual, @Nullable String expected) {
+    LineStart(long offset, int lineNumber) {
+      this.offset = offset;
       this.lineNumber = lineNumber;
-      this.actual = actual;
-      this.expected = expected;
+    }
+  }
+
+  static class Hunk {
+    final int expectedStart;
+    final int expectedCount;
+    final int actualStart;
+    final int actualCount;
+    final List<String> lines;
+
+    private Hunk(int expectedStart, int expectedCount, int actualStart, int actualCount, @NotNull List<String> lines) {
+      this.expectedStart = expectedStart;
+      this.expectedCount = expectedCount;
+      this.actualStart = actualStart;
+      this.actualCount = actualCount;
+      this.lines = lines;
     }
 
-    static LineDiff lineDiff(int lineNumber, @Nullable String actual, @Nullable String expected) {
-      return new LineDiff(lineNumber, actual, expected);
+    static Hunk hunk(int expectedStart, int expectedCount, int actualStart, int actualCount, @NotNull String... lines) {
+      return new Hunk(expectedStart, expectedCount, actualStart, actualCount, newArrayList(lines));
     }
 
     @Override
     public int hashCode() {
       final int prime = HASH_CODE_PRIME;
       int result = 1;
-      result = prime * result + hashCodeFor(actual);
-      result = prime * result + hashCodeFor(expected);
-      result = prime * result + lineNumber;
+      result = prime * result + expectedStart;
+      result = prime * result + expectedCount;
+      result = prime * result + actualStart;
+      result = prime * result + actualCount;
+      result = prime * result + hashCodeFor(lines);
       return result;
     }
 
@@ -120,19 +350,20 @@ class FileContentComparator {
       if (getClass() != obj.getClass()) {
         return false;
       }
-      LineDiff other = (LineDiff) obj;
-      if (!areEqual(actual, other.actual)) {
+      Hunk other = (Hunk) obj;
+      if (expectedStart != other.expectedStart || expectedCount != other.expectedCount) {
         return false;
       }
-      if (!areEqual(expected, other.expected)) {
+      if (actualStart != other.actualStart || actualCount != other.actualCount) {
         return false;
       }
-      return lineNumber == other.lineNumber;
+      return areEqual(lines, other.lines);
     }
 
     @Override
     public String toString() {
-      return format("LineDiff [actual=%s, expected=%s, lineNumber=%d]", quote(actual), quote(expected), lineNumber);
+      return format("Hunk [expectedStart=%d, expectedCount=%d, actualStart=%d, actualCount=%d, lines=%s]", expectedStart,
+          expectedCount, actualStart, actualCount, lines);
     }
   }
 }
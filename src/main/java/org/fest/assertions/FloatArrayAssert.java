@@ -18,7 +18,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.util.Arrays;
 
-import static org.fest.assertions.ArrayInspection.copy;
 import static org.fest.assertions.ErrorMessages.unexpectedEqual;
 import static org.fest.assertions.ErrorMessages.unexpectedNotEqual;
 
@@ -50,7 +49,7 @@ public class FloatArrayAssert extends ArrayAssert<FloatArrayAssert, float[]> {
    * @throws AssertionError       if the actual {@code float} array does not contain the given values.
    */
   public @NotNull FloatArrayAssert contains(@NotNull float... values) {
-    assertContains(copy(values));
+    assertContainsValues(values);
     return this;
   }
 
@@ -65,7 +64,114 @@ public class FloatArrayAssert extends ArrayAssert<FloatArrayAssert, float[]> {
    *                              {@code float} array contains elements other than the ones specified.
    */
   public @NotNull FloatArrayAssert containsOnly(@NotNull float... values) {
-    assertContainsOnly(copy(values));
+    assertContainsOnlyValues(values);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code float} array contains exactly the given values, in any order: each value must
+   * appear in the actual array as many times as it is given.
+   *
+   * @param values the values to look for.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code float} array is {@code null}.
+   * @throws NullPointerException if the given {@code float} array is {@code null}.
+   * @throws AssertionError       if some of the given values appear fewer times in the actual {@code float} array, or
+   *                              if the actual {@code float} array contains values, or copies of values, other than the
+   *                              ones specified.
+   * @since 1.5
+   */
+  public @NotNull FloatArrayAssert containsExactlyInAnyOrder(@NotNull float... values) {
+    assertContainsExactlyInAnyOrderValues(values);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code float} array does not have duplicates.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code float} array is {@code null}.
+   * @throws AssertionError if the actual {@code float} array has duplicates.
+   * @since 1.5
+   */
+  public @NotNull FloatArrayAssert doesNotHaveDuplicates() {
+    assertDoesNotHaveDuplicateValues();
+    return this;
+  }
+
+  /**
+   * Verifies that the elements of the actual {@code float} array are sorted in ascending order. Equal consecutive
+   * elements are allowed.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code float} array is {@code null}.
+   * @throws AssertionError if the actual {@code float} array is not sorted.
+   * @since 1.5
+   */
+  public @NotNull FloatArrayAssert isSorted() {
+    assertIsSortedValues(false);
+    return this;
+  }
+
+  /**
+   * Verifies that the elements of the actual {@code float} array are sorted in ascending order, and that no element is
+   * equal to the one before it.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code float} array is {@code null}.
+   * @throws AssertionError if the actual {@code float} array is not strictly sorted.
+   * @since 1.5
+   */
+  public @NotNull FloatArrayAssert isStrictlySorted() {
+    assertIsSortedValues(true);
+    return this;
+  }
+
+  /**
+   * Verifies that all the elements of the actual {@code float} array satisfy the given condition. Large arrays are
+   * checked in parallel if the condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code float} array is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if an element of the actual {@code float} array does not satisfy the given condition.
+   * @since 1.5
+   */
+  public @NotNull FloatArrayAssert allSatisfy(@NotNull Condition<Float> condition) {
+    assertAllSatisfy(condition);
+    return this;
+  }
+
+  /**
+   * Verifies that at least one element of the actual {@code float} array satisfies the given condition. Large arrays
+   * are checked in parallel if the condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code float} array is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if no element of the actual {@code float} array satisfies the given condition.
+   * @since 1.5
+   */
+  public @NotNull FloatArrayAssert anySatisfy(@NotNull Condition<Float> condition) {
+    assertAnySatisfy(condition);
+    return this;
+  }
+
+  /**
+   * Verifies that no element of the actual {@code float} array satisfies the given condition. Large arrays are checked
+   * in parallel if the condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code float} array is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if an element of the actual {@code float} array satisfies the given condition.
+   * @since 1.5
+   */
+  public @NotNull FloatArrayAssert noneSatisfy(@NotNull Condition<Float> condition) {
+    assertNoneSatisfy(condition);
     return this;
   }
 
@@ -78,7 +184,7 @@ public class FloatArrayAssert extends ArrayAssert<FloatArrayAssert, float[]> {
    * @throws NullPointerException if the given {@code float} array is {@code null}.
    */
   public @NotNull FloatArrayAssert excludes(@NotNull float... values) {
-    assertExcludes(copy(values));
+    assertExcludesValues(values);
     return this;
   }
 
@@ -18,10 +18,10 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.util.IllegalFormatException;
 
+import static org.fest.assertions.Truncation.toStringOf;
 import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Strings.concat;
 import static org.fest.util.Strings.isNullOrEmpty;
-import static org.fest.util.ToString.toStringOf;
 
 /**
  * Utility methods for formatting values.
@@ -88,7 +88,8 @@ public final class Formatting {
   /**
    * Returns the {@code String} representation of the given object in between brackets ("<" and ">"). This method has
    * special support for arrays, {@code Class<?>}, {@code Collection}s, {@code Map}s, {@code File}s and
-   * {@code Dimension}s. For any other types, this method simply calls its {@code toString} implementation.
+   * {@code Dimension}s. For any other types, this method simply calls its {@code toString} implementation. Large values
+   * are truncated (see {@link Truncation}.)
    *
    * @param o the given object.
    * @return the {@code String} representation of the given object in between brackets.
@@ -102,7 +103,8 @@ public final class Formatting {
   }
 
   /**
-   * Returns a formatted string using the specified format {@code String} and arguments.
+   * Returns a formatted string using the specified format {@code String} and arguments. Arguments are replaced by their
+   * {@code String} representation, truncated if they are too large (see {@link Truncation}.)
    *
    * @param format a format {@code String}.
    * @param args   Arguments referenced by the format specifiers in the format {@code String}. If there are more
@@ -17,12 +17,14 @@ package org.fest.assertions;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 
+import static java.util.Arrays.asList;
 import static org.fest.assertions.ErrorMessages.unexpectedIn;
 import static org.fest.assertions.ErrorMessages.unexpectedNotIn;
 import static org.fest.assertions.Fail.*;
 import static org.fest.assertions.Formatting.format;
-import static org.fest.util.Lists.newArrayList;
 import static org.fest.util.Objects.areEqual;
 import static org.fest.util.Preconditions.checkNotNull;
 
@@ -287,11 +289,13 @@ public abstract class GenericAssert<S, A> extends Assert {
    * @throws NullPointerException if the given parameter is null.
    */
   public final @NotNull S isIn(@NotNull Object... values) {
-    return isIn(newArrayList(values));
+    return isIn(asList(checkNotNull(values)));
   }
 
   /**
-   * Verifies that the actual value is in the given collection.
+   * Verifies that the actual value is in the given collection. If the collection is a {@code HashSet} or a
+   * {@code LinkedHashSet} the actual value is looked up with {@code contains}, otherwise the collection is scanned. To
+   * look up many values in the same large collection, build it once with {@link Assertions#membershipSet(Collection)}.
    *
    * @param values the given collection to search the actual value in. must not be null.
    * @return this assertion object.
@@ -316,15 +320,17 @@ public abstract class GenericAssert<S, A> extends Assert {
    * @throws NullPointerException if the given parameter is null.
    */
   public final @NotNull S isNotIn(@NotNull Object... values) {
-    return isNotIn(newArrayList(values));
+    return isNotIn(asList(checkNotNull(values)));
   }
 
   /**
-   * Verifies that the actual value is in the given collection.
+   * Verifies that the actual value is not in the given collection. If the collection is a {@code HashSet} or a
+   * {@code LinkedHashSet} the actual value is looked up with {@code contains}, otherwise the collection is scanned. To
+   * look up many values in the same large collection, build it once with {@link Assertions#membershipSet(Collection)}.
    *
    * @param values the given collection to search the actual value in. must not be null.
    * @return this assertion object.
-   * @throws AssertionError       if the actual value is not in the given collection.
+   * @throws AssertionError       if the actual value is in the given collection.
    * @throws NullPointerException if the given collection is null.
    */
   public final @NotNull S isNotIn(@NotNull Collection<?> values) {
@@ -340,6 +346,9 @@ public abstract class GenericAssert<S, A> extends Assert {
     if (values.isEmpty()) {
       return false;
     }
+    if (canLookUpActualIn(values)) {
+      return values.contains(actual);
+    }
     for (Object value : values) {
       if (areEqual(actual, value)) {
         return true;
@@ -348,6 +357,18 @@ public abstract class GenericAssert<S, A> extends Assert {
     return false;
   }
 
+  // Other sets may compare with a comparator or by identity, or reject null. Hash sets do not compare arrays element by
+  // element.
+  private boolean canLookUpActualIn(@NotNull Collection<?> values) {
+    if (values instanceof MembershipSet) {
+      return true;
+    }
+    if (actual == null || actual.getClass().isArray()) {
+      return false;
+    }
+    return values.getClass() == HashSet.class || values.getClass() == LinkedHashSet.class;
+  }
+
   /**
    * Replaces the default message displayed in case of a failure with the given one.
    * <p/>
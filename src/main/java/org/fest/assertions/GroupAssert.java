@@ -46,7 +46,7 @@ public abstract class GroupAssert<S, A> extends GenericAssert<S, A> {
    * @throws AssertionError if the actual group of values is not {@code null} or not empty.
    */
   public final void isNullOrEmpty() {
-    if (actual == null || !hasElements()) {
+    if (actual == null || !actualGroupHasElements()) {
       return;
     }
     failIfCustomMessageIsSet();
@@ -60,17 +60,13 @@ public abstract class GroupAssert<S, A> extends GenericAssert<S, A> {
    */
   public final void isEmpty() {
     isNotNull();
-    if (!hasElements()) {
+    if (!actualGroupHasElements()) {
       return;
     }
     failIfCustomMessageIsSet();
     fail(format("expecting empty, but was:<%s>", actual));
   }
 
-  private boolean hasElements() {
-    return actualGroupSize() > 0;
-  }
-
   /**
    * Verifies that the actual group contains at least on value.
    *
@@ -79,7 +75,7 @@ public abstract class GroupAssert<S, A> extends GenericAssert<S, A> {
    */
   public final @NotNull S isNotEmpty() {
     isNotNull();
-    if (hasElements()) {
+    if (actualGroupHasElements()) {
       return myself();
     }
     failIfCustomMessageIsSet();
@@ -93,7 +89,7 @@ public abstract class GroupAssert<S, A> extends GenericAssert<S, A> {
    * @return this assertion object.
    * @throws AssertionError if the number of values of the actual group is not equal to the given one.
    */
-  public final @NotNull S hasSize(int expected) {
+  public @NotNull S hasSize(int expected) {
     isNotNull();
     int size = actualGroupSize();
     if (size == expected) {
@@ -110,4 +106,17 @@ public abstract class GroupAssert<S, A> extends GenericAssert<S, A> {
    * @throws AssertionError if the actual group of values is {@code null}.
    */
   protected abstract int actualGroupSize();
+
+  /**
+   * Indicates whether the actual group of values contains at least one value. The default implementation checks the
+   * value returned by {@link #actualGroupSize()}; subclasses can override this method when computing the size of the
+   * actual group is expensive.
+   *
+   * @return {@code true} if the actual group of values is not empty, {@code false} otherwise.
+   * @throws AssertionError if the actual group of values is {@code null}.
+   * @since 1.5
+   */
+  protected boolean actualGroupHasElements() {
+    return actualGroupSize() > 0;
+  }
 }
@@ -28,6 +28,8 @@ import static org.fest.assertions.ErrorMessages.unexpectedNotEqual;
 import static org.fest.assertions.Fail.comparisonFailed;
 import static org.fest.assertions.Fail.failWithMessage;
 import static org.fest.assertions.Formatting.format;
+import static org.fest.assertions.ImageComparator.colorComparator;
+import static org.fest.assertions.ImageComparator.exactComparator;
 import static org.fest.assertions.Threshold.threshold;
 import static org.fest.util.Objects.areEqual;
 import static org.fest.util.Preconditions.checkNotNull;
@@ -141,21 +143,14 @@ public class ImageAssert extends GenericAssert<ImageAssert, BufferedImage> {
   }
 
   private void failIfNotEqualColor(@NotNull BufferedImage expected, @NotNull Threshold threshold) {
-    int w = actual.getWidth();
-    int h = actual.getHeight();
-    for (int x = 0; x < w; x++) {
-      for (int y = 0; y < h; y++) {
-        failIfNotEqual(new RGBColor(actual.getRGB(x, y)), new RGBColor(expected.getRGB(x, y)), threshold, x, y);
-      }
-    }
-  }
-
-  private void failIfNotEqual(@NotNull RGBColor a, @NotNull RGBColor e, @NotNull Threshold threshold, int x, int y) {
-    if (a.isEqualTo(e, threshold.value())) {
+    Point mismatch = colorComparator(actual, expected, threshold).firstMismatch();
+    if (mismatch == null) {
       return;
     }
+    RGBColor a = new RGBColor(actual.getRGB(mismatch.x, mismatch.y));
+    RGBColor e = new RGBColor(expected.getRGB(mismatch.x, mismatch.y));
     failIfCustomMessageIsSet();
-    fail(String.format("expected:<%s> but was:<%s> at pixel [%d,%d]", a, e, x, y));
+    fail(String.format("expected:<%s> but was:<%s> at pixel [%d,%d]", a, e, mismatch.x, mismatch.y));
   }
 
   /**
@@ -183,16 +178,7 @@ public class ImageAssert extends GenericAssert<ImageAssert, BufferedImage> {
   }
 
   private boolean hasEqualColor(@NotNull BufferedImage expected) {
-    int w = actual.getWidth();
-    int h = actual.getHeight();
-    for (int x = 0; x < w; x++) {
-      for (int y = 0; y < h; y++) {
-        if (actual.getRGB(x, y) != expected.getRGB(x, y)) {
-          return false;
-        }
-      }
-    }
-    return true;
+    return !exactComparator(actual, expected).hasMismatch();
   }
 
   /**
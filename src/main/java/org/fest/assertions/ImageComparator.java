@@ -0,0 +1,293 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.assertions.Parallelism.RangeTask;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.Raster;
+import java.awt.image.SampleModel;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.awt.image.BufferedImage.*;
+import static java.lang.Math.abs;
+import static java.lang.Math.min;
+import static java.lang.System.arraycopy;
+import static org.fest.assertions.Parallelism.forEachRange;
+
+/**
+ * Compares the pixels of two images of the same size.
+ * <p/>
+ * Images are read one row at a time, into reusable buffers of packed ARGB values (see
+ * {@link BufferedImage#getRGB(int, int)}), and colors are compared without creating any objects per pixel. Images of
+ * type {@code TYPE_INT_RGB}, {@code TYPE_INT_ARGB}, {@code TYPE_3BYTE_BGR} and {@code TYPE_4BYTE_ABGR} are read
+ * directly from their {@code DataBuffer}; images of any other type are read through
+ * {@link BufferedImage#getRGB(int, int, int, int, int[], int, int)}.
+ * <p/>
+ * When images differ in more than one pixel, the reported mismatch is the one in the leftmost column and, within that
+ * column, in the topmost row. Images with at least as many pixels as the {@link Parallelism#threshold() threshold} are
+ * compared in parallel, with the same result.
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+final class ImageComparator {
+  private static final int RGB_MASK = 0x00FFFFFF;
+  private static final int ARGB_MASK = 0xFFFFFFFF;
+  private static final long NONE = Long.MAX_VALUE;
+
+  private final BufferedImage actual;
+  private final BufferedImage expected;
+  private final int mask;
+  private final int threshold;
+
+  /**
+   * Creates a comparator that considers two pixels equal if the difference between each of their red, green and blue
+   * values is less than or equal to the given threshold. Alpha values are ignored.
+   *
+   * @param actual    the actual image.
+   * @param expected  the expected image, of the same size as the actual one.
+   * @param threshold the threshold.
+   * @return the created comparator.
+   */
+  static @NotNull ImageComparator colorComparator(
+      @NotNull BufferedImage actual, @NotNull BufferedImage expected, @NotNull Threshold threshold) {
+    return new ImageComparator(actual, expected, RGB_MASK, threshold.value());
+  }
+
+  /**
+   * Creates a comparator that considers two pixels equal only if their ARGB values are equal.
+   *
+   * @param actual   the actual image.
+   * @param expected the expected image, of the same size as the actual one.
+   * @return the created comparator.
+   */
+  static @NotNull ImageComparator exactComparator(@NotNull BufferedImage actual, @NotNull BufferedImage expected) {
+    return new ImageComparator(actual, expected, ARGB_MASK, 0);
+  }
+
+  private ImageComparator(@NotNull BufferedImage actual, @NotNull BufferedImage expected, int mask, int threshold) {
+    this.actual = actual;
+    this.expected = expected;
+    this.mask = mask;
+    this.threshold = threshold;
+  }
+
+  /**
+   * Returns the coordinates of the first pixel whose colors are not equal: the one in the leftmost column and, within
+   * that column, in the topmost row.
+   *
+   * @return the coordinates of the first pixel whose colors are not equal, or {@code null} if all pixels are equal.
+   */
+  @Nullable Point firstMismatch() {
+    return search(true);
+  }
+
+  /**
+   * Indicates whether the images have at least one pixel whose colors are not equal. Comparison stops at the first such
+   * pixel.
+   *
+   * @return {@code true} if the images have a pixel whose colors are not equal, {@code false} otherwise.
+   */
+  boolean hasMismatch() {
+    return search(false) != null;
+  }
+
+  // Large images are split in bands of rows, compared in parallel (see Parallelism.) Bands share the best mismatch
+  // found so far, encoded as (x << 32 | y) so that the first pixel is the one with the smallest key, and stop as soon as
+  // none of their remaining pixels can have a smaller key. The result is the same no matter how the rows are split.
+  private @Nullable Point search(final boolean first) {
+    final AtomicLong found = new AtomicLong(NONE);
+    forEachRange(actual.getHeight(), actual.getWidth(), new RangeTask() {
+      @Override
+      public void run(int from, int to) {
+        compareRows(from, to, found, first);
+      }
+    });
+    long key = found.get();
+    return key == NONE ? null : new Point((int) (key >>> 32), (int) key);
+  }
+
+  private void compareRows(int fromY, int toY, @NotNull AtomicLong found, boolean first) {
+    int width = actual.getWidth();
+    RowReader actualRows = RowReader.readerFor(actual);
+    RowReader expectedRows = RowReader.readerFor(expected);
+    int[] actualRow = new int[width];
+    int[] expectedRow = new int[width];
+    for (int y = fromY; y < toY; y++) {
+      int columns = columnsToCompare(found.get(), y, width, first);
+      if (columns == 0) {
+        return;
+      }
+      actualRows.read(y, actualRow, columns);
+      expectedRows.read(y, expectedRow, columns);
+      int x = firstMismatchIn(actualRow, expectedRow, columns);
+      if (x >= 0) {
+        record(found, ((long) x << 32) | y);
+      }
+    }
+  }
+
+  private static int columnsToCompare(long found, int y, int width, boolean first) {
+    if (found == NONE) {
+      return width;
+    }
+    if (!first) {
+      return 0;
+    }
+    int x = (int) (found >>> 32);
+    return min(width, y < (int) found ? x + 1 : x);
+  }
+
+  private static void record(@NotNull AtomicLong found, long key) {
+    while (true) {
+      long current = found.get();
+      if (key >= current || found.compareAndSet(current, key)) {
+        return;
+      }
+    }
+  }
+
+  private int firstMismatchIn(@NotNull int[] actualRow, @NotNull int[] expectedRow, int columns) {
+    for (int x = 0; x < columns; x++) {
+      int a = actualRow[x];
+      int e = expectedRow[x];
+      if (((a ^ e) & mask) == 0) {
+        continue;
+      }
+      if (threshold == 0 || !isWithinThreshold(a, e)) {
+        return x;
+      }
+    }
+    return -1;
+  }
+
+  private boolean isWithinThreshold(int a, int e) {
+    if (abs(((a >> 16) & 0xFF) - ((e >> 16) & 0xFF)) > threshold) {
+      return false;
+    }
+    if (abs(((a >> 8) & 0xFF) - ((e >> 8) & 0xFF)) > threshold) {
+      return false;
+    }
+    return abs((a & 0xFF) - (e & 0xFF)) <= threshold;
+  }
+
+  /**
+   * Reads rows of pixels as packed ARGB values.
+   */
+  private abstract static class RowReader {
+    static @NotNull RowReader readerFor(@NotNull BufferedImage image) {
+      Raster raster = image.getRaster();
+      if (raster.getSampleModelTranslateX() != 0 || raster.getSampleModelTranslateY() != 0) {
+        return new GenericRowReader(image);
+      }
+      DataBuffer buffer = raster.getDataBuffer();
+      SampleModel sampleModel = raster.getSampleModel();
+      switch (image.getType()) {
+        case TYPE_INT_ARGB:
+        case TYPE_INT_RGB:
+          if (buffer instanceof DataBufferInt && sampleModel instanceof SinglePixelPackedSampleModel) {
+            int stride = ((SinglePixelPackedSampleModel) sampleModel).getScanlineStride();
+            return new IntRowReader((DataBufferInt) buffer, stride, image.getType() == TYPE_INT_RGB);
+          }
+          break;
+        case TYPE_3BYTE_BGR:
+        case TYPE_4BYTE_ABGR:
+          if (buffer instanceof DataBufferByte && sampleModel instanceof ComponentSampleModel) {
+            int stride = ((ComponentSampleModel) sampleModel).getScanlineStride();
+            return new ByteRowReader((DataBufferByte) buffer, stride, image.getType() == TYPE_4BYTE_ABGR);
+          }
+          break;
+        default:
+      }
+      return new GenericRowReader(image);
+    }
+
+    abstract void read(int y, @NotNull int[] row, int columns);
+  }
+
+  private static class IntRowReader extends RowReader {
+    private final int[] data;
+    private final int offset;
+    private final int stride;
+    private final boolean opaque;
+
+    IntRowReader(@NotNull DataBufferInt buffer, int stride, boolean opaque) {
+      data = buffer.getData();
+      offset = buffer.getOffset();
+      this.stride = stride;
+      this.opaque = opaque;
+    }
+
+    @Override
+    void read(int y, @NotNull int[] row, int columns) {
+      int start = offset + y * stride;
+      if (!opaque) {
+        arraycopy(data, start, row, 0, columns);
+        return;
+      }
+      for (int x = 0; x < columns; x++) {
+        row[x] = 0xFF000000 | data[start + x];
+      }
+    }
+  }
+
+  private static class ByteRowReader extends RowReader {
+    private final byte[] data;
+    private final int offset;
+    private final int stride;
+    private final boolean hasAlpha;
+
+    ByteRowReader(@NotNull DataBufferByte buffer, int stride, boolean hasAlpha) {
+      data = buffer.getData();
+      offset = buffer.getOffset();
+      this.stride = stride;
+      this.hasAlpha = hasAlpha;
+    }
+
+    @Override
+    void read(int y, @NotNull int[] row, int columns) {
+      int i = offset + y * stride;
+      for (int x = 0; x < columns; x++) {
+        int alpha = hasAlpha ? data[i++] & 0xFF : 0xFF;
+        int b = data[i++] & 0xFF;
+        int g = data[i++] & 0xFF;
+        int r = data[i++] & 0xFF;
+        row[x] = (alpha << 24) | (r << 16) | (g << 8) | b;
+      }
+    }
+  }
+
+  private static class GenericRowReader extends RowReader {
+    private final BufferedImage image;
+
+    GenericRowReader(@NotNull BufferedImage image) {
+      this.image = image;
+    }
+
+    @Override
+    void read(int y, @NotNull int[] row, int columns) {
+      image.getRGB(0, y, columns, 1, row, 0, row.length);
+    }
+  }
+}
@@ -17,15 +17,22 @@ package org.fest.assertions;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.newSetFromMap;
 import static org.fest.assertions.Collections.found;
 import static org.fest.assertions.Collections.notFound;
 import static org.fest.assertions.Formatting.format;
-import static org.fest.util.Collections.duplicatesFrom;
+import static org.fest.assertions.SortOrder.firstUnsortedIndex;
 import static org.fest.util.Lists.emptyList;
 import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Maps.newHashMap;
 import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Sets.newLinkedHashSet;
 
@@ -40,6 +47,10 @@ import static org.fest.util.Sets.newLinkedHashSet;
  * @since 1.3
  */
 public abstract class ItemGroupAssert<S, A> extends GroupAssert<S, A> {
+  private boolean snapshotEnabled;
+  private Set<Object> actualSetSnapshot;
+  private List<Object> actualListSnapshot;
+
   /**
    * Creates a new {@link ItemGroupAssert}.
    *
@@ -50,6 +61,25 @@ public abstract class ItemGroupAssert<S, A> extends GroupAssert<S, A> {
     super(selfType, actual);
   }
 
+  /**
+   * Makes the group checks of this assertion object ({@code contains}, {@code containsOnly}, {@code excludes} and
+   * {@code doesNotHaveDuplicates}) share a single copy of the actual group, instead of copying it for every check. The
+   * copy is taken lazily, by the first check that needs it.
+   * <p/>
+   * For example, the following chain copies the actual collection only once:
+   * <pre>
+   * assertThat(bigList).usingSnapshot().contains(a).excludes(b).containsOnly(c, d);
+   * </pre>
+   * Changes made to the actual group after the copy has been taken are not seen by subsequent checks.
+   *
+   * @return this assertion object.
+   * @since 1.5
+   */
+  public final @NotNull S usingSnapshot() {
+    snapshotEnabled = true;
+    return myself();
+  }
+
   /**
    * Verifies that the actual actual group of objects contains the given objects, in any order.
    *
@@ -68,8 +98,17 @@ public abstract class ItemGroupAssert<S, A> extends GroupAssert<S, A> {
     throw failureIfExpectedElementsNotFound(notFound);
   }
 
-  private Collection<Object> notFoundInActual(@NotNull Object... objects) {
-    return notFound(actualAsSet(), objects);
+  /**
+   * Returns the given objects that are not in the actual group, in the order they were specified. The default
+   * implementation looks them up in a copy of the actual group (see {@link #actualAsSet()}); subclasses can override
+   * this method when copying the actual group is expensive.
+   *
+   * @param objects the objects to look for.
+   * @return the given objects that are not in the actual group.
+   * @since 1.5
+   */
+  protected @NotNull Collection<Object> notFoundInActual(@NotNull Object... objects) {
+    return notFound(actualSet(), objects);
   }
 
   /**
@@ -84,15 +123,74 @@ public abstract class ItemGroupAssert<S, A> extends GroupAssert<S, A> {
   protected final void assertContainsOnly(@NotNull Object... objects) {
     isNotNull();
     checkNotNull(objects);
-    Set<Object> copy = actualAsSet();
-    List<Object> notFound = notFoundInCopy(copy, newLinkedHashSet(objects));
+    Set<Object> copy = actualSet();
+    Set<Object> expected = newLinkedHashSet(objects);
+    List<Object> notFound = notFoundInCopy(copy, expected);
     if (!notFound.isEmpty()) {
       throw failureIfExpectedElementsNotFound(notFound);
     }
-    if (copy == null || copy.isEmpty()) {
+    List<Object> unexpected = unexpectedInCopy(copy, expected);
+    if (unexpected.isEmpty()) {
       return;
     }
-    throw failureIfUnexpectedElementsFound(copy);
+    throw failureIfUnexpectedElementsFound(unexpected);
+  }
+
+  /**
+   * Verifies that the actual group of objects contains exactly the given objects, in any order, as many times as they
+   * are given. The given objects are counted in a hash table, which the elements of the actual group are then checked
+   * off against, in a single pass.
+   *
+   * @param objects the objects to look for.
+   * @throws AssertionError       if the actual group of objects is {@code null}.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @throws AssertionError       if the actual group of objects does not contain exactly the given objects.
+   * @since 1.5
+   */
+  protected final void assertContainsExactlyInAnyOrder(@NotNull Object... objects) {
+    isNotNull();
+    checkNotNull(objects);
+    Map<Object, int[]> counts = newHashMap();
+    for (Object o : objects) {
+      int[] count = counts.get(o);
+      if (count == null) {
+        counts.put(o, new int[]{1});
+        continue;
+      }
+      count[0]++;
+    }
+    List<Object> unexpected = newArrayList();
+    List<Object> actualList = actualList();
+    if (actualList != null) {
+      for (Object o : actualList) {
+        int[] count = counts.get(o);
+        if (count == null || count[0] == 0) {
+          unexpected.add(o);
+          continue;
+        }
+        count[0]--;
+      }
+    }
+    List<Object> missing = newArrayList();
+    for (Object o : objects) {
+      int[] count = counts.get(o);
+      if (count[0] > 0) {
+        missing.add(o);
+        count[0]--;
+      }
+    }
+    if (missing.isEmpty() && unexpected.isEmpty()) {
+      return;
+    }
+    throw failureIfNotExactlyInAnyOrder(asList(objects), missing, unexpected);
+  }
+
+  final @NotNull AssertionError failureIfNotExactlyInAnyOrder(@NotNull List<Object> expected,
+                                                              @NotNull List<Object> missing,
+                                                              @NotNull List<Object> unexpected) {
+    failIfCustomMessageIsSet();
+    return failure(format("<%s> should contain exactly, in any order:<%s> but was missing:<%s> and had unexpected:<%s>",
+        actual, expected, missing, unexpected));
   }
 
   /**
@@ -100,6 +198,16 @@ public abstract class ItemGroupAssert<S, A> extends GroupAssert<S, A> {
    */
   protected abstract @Nullable Set<Object> actualAsSet();
 
+  private @Nullable Set<Object> actualSet() {
+    if (!snapshotEnabled) {
+      return actualAsSet();
+    }
+    if (actualSetSnapshot == null) {
+      actualSetSnapshot = actualAsSet();
+    }
+    return actualSetSnapshot;
+  }
+
   private @NotNull List<Object> notFoundInCopy(@Nullable Set<Object> copy, @NotNull Set<Object> objects) {
     if (copy == null) {
       return emptyList();
@@ -108,19 +216,31 @@ public abstract class ItemGroupAssert<S, A> extends GroupAssert<S, A> {
     for (Object o : objects) {
       if (!copy.contains(o)) {
         notFound.add(o);
-        continue;
       }
-      copy.remove(o);
     }
     return notFound;
   }
 
-  private @NotNull AssertionError failureIfExpectedElementsNotFound(@NotNull Collection<Object> notFound) {
+  // the copy of the actual group is not modified, since it may be shared by other checks
+  private @NotNull List<Object> unexpectedInCopy(@Nullable Set<Object> copy, @NotNull Set<Object> objects) {
+    if (copy == null) {
+      return emptyList();
+    }
+    List<Object> unexpected = newArrayList();
+    for (Object o : copy) {
+      if (!objects.contains(o)) {
+        unexpected.add(o);
+      }
+    }
+    return unexpected;
+  }
+
+  final @NotNull AssertionError failureIfExpectedElementsNotFound(@NotNull Collection<Object> notFound) {
     failIfCustomMessageIsSet();
     return failure(format("<%s> does not contain element(s):<%s>", actual, notFound));
   }
 
-  private @NotNull AssertionError failureIfUnexpectedElementsFound(@NotNull Collection<Object> unexpected) {
+  final @NotNull AssertionError failureIfUnexpectedElementsFound(@NotNull Collection<Object> unexpected) {
     failIfCustomMessageIsSet();
     return failure(format("unexpected element(s):<%s> in <%s>", unexpected, actual));
   }
@@ -136,28 +256,198 @@ public abstract class ItemGroupAssert<S, A> extends GroupAssert<S, A> {
   protected final void assertExcludes(@NotNull Object... objects) {
     isNotNull();
     checkNotNull(objects);
-    Collection<Object> found = found(actualAsSet(), objects);
+    Collection<Object> found = found(actualSet(), objects);
     if (found.isEmpty()) {
       return;
     }
+    throw failureIfElementsNotExcluded(found);
+  }
+
+  final @NotNull AssertionError failureIfElementsNotExcluded(@NotNull Collection<Object> found) {
     failIfCustomMessageIsSet();
-    throw failure(format("<%s> does not exclude element(s):<%s>", actual, found));
+    return failure(format("<%s> does not exclude element(s):<%s>", actual, found));
   }
 
   /**
-   * Verifies that the actual group of objects does not have duplicates.
+   * Verifies that the actual group of objects does not have duplicates. Elements are compared with {@code equals}, in a
+   * single pass over a hash set of the elements already seen. The search stops once
+   * {@link DuplicateDetection#maxReported()} duplicated elements have been found.
    *
    * @throws AssertionError if the actual group of objects is {@code null}.
    * @throws AssertionError if the actual group of objects has duplicates.
    */
   protected final void assertDoesNotHaveDuplicates() {
     isNotNull();
-    Collection<?> duplicates = duplicatesFrom(actualAsList());
+    List<?> elements = actualList();
+    failIfHasDuplicates(elements, new HashSet<Object>(elements.size() * 4 / 3 + 1), new HashSet<Object>());
+  }
+
+  /**
+   * Verifies that the actual group of objects does not contain the same instance more than once. Elements are compared
+   * with {@code ==}, so equal but distinct objects are not duplicates. The search stops once
+   * {@link DuplicateDetection#maxReported()} duplicated instances have been found.
+   *
+   * @throws AssertionError if the actual group of objects is {@code null}.
+   * @throws AssertionError if the actual group of objects contains the same instance more than once.
+   * @since 1.5
+   */
+  protected final void assertDoesNotHaveDuplicateInstances() {
+    isNotNull();
+    List<?> elements = actualList();
+    failIfHasDuplicates(elements, identitySet(elements.size()), identitySet(0));
+  }
+
+  private static @NotNull Set<Object> identitySet(int expectedSize) {
+    return newSetFromMap(new IdentityHashMap<Object, Boolean>(expectedSize));
+  }
+
+  // 'seen' and 'reported' should compare elements the same way
+  private void failIfHasDuplicates(@NotNull List<?> elements, @NotNull Set<Object> seen,
+                                   @NotNull Set<Object> reported) {
+    int maxReported = DuplicateDetection.maxReported();
+    List<Object> duplicates = newArrayList();
+    for (Object element : elements) {
+      if (seen.add(element)) {
+        continue;
+      }
+      if (reported.add(element)) {
+        duplicates.add(element);
+        if (duplicates.size() >= maxReported) {
+          break;
+        }
+      }
+    }
     if (duplicates.isEmpty()) {
       return;
     }
+    throw failureIfDuplicatesFound(duplicates);
+  }
+
+  final @NotNull AssertionError failureIfDuplicatesFound(@NotNull List<Object> duplicates) {
+    failIfCustomMessageIsSet();
+    return failure(format("<%s> contains duplicate(s):<%s>", actual, duplicates));
+  }
+
+  /**
+   * Verifies that each element of the actual group of objects is greater than or equal to (or, if {@code strict},
+   * greater than) the element before it. Elements are compared in a single pass, in the calling thread.
+   *
+   * @param comparator the comparator to compare elements with, or {@code null} to use their natural ordering.
+   * @param strict     whether equal consecutive elements are out of order.
+   * @throws AssertionError       if the actual group of objects is {@code null}.
+   * @throws ClassCastException   if no comparator is given and the elements are not mutually comparable.
+   * @throws NullPointerException if no comparator is given and the actual group contains {@code null}.
+   * @throws AssertionError       if the actual group of objects is not sorted.
+   * @since 1.5
+   */
+  @SuppressWarnings("unchecked")
+  protected final void assertIsSorted(@Nullable Comparator<?> comparator, boolean strict) {
+    isNotNull();
+    List<Object> elements = actualList();
+    int index = firstUnsortedIndex(elements, (Comparator<Object>) comparator, strict);
+    if (index < 0) {
+      return;
+    }
+    String order = strict ? "strictly sorted" : "sorted";
+    if (comparator != null) {
+      order += " according to the given comparator";
+    }
+    throw failureIfNotSorted(order, strict, index, elements.get(index), elements.get(index - 1));
+  }
+
+  final @NotNull AssertionError failureIfNotSorted(@NotNull String order, boolean strict, int index,
+                                                   @Nullable Object element, @Nullable Object previous) {
     failIfCustomMessageIsSet();
-    throw failure(format("<%s> contains duplicate(s):<%s>", actual, duplicates));
+    String relation = strict ? "is not greater than" : "is less than";
+    return failure(format("<%s> is not " + order + ": element at index <%s>:<%s> " + relation
+        + " the element before it:<%s>", actual, index, element, previous));
+  }
+
+  /**
+   * Verifies that all the elements of the actual group of objects satisfy the given condition. The search stops once
+   * {@link ConditionSearch#MAX_REPORTED} elements that do not satisfy it have been found. If the condition is
+   * thread-safe, large groups are checked in parallel (see {@link Condition#asThreadSafe()}.)
+   *
+   * @param condition the condition to evaluate, which should accept the elements of the actual group.
+   * @throws AssertionError       if the actual group of objects is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if an element of the actual group of objects does not satisfy the given condition.
+   * @since 1.5
+   */
+  protected final void assertAllSatisfy(@NotNull Condition<?> condition) {
+    isNotNull();
+    checkNotNull(condition);
+    List<?> elements = elementsToEvaluate();
+    List<Integer> indices = ConditionSearch.indicesWhere(elements, condition, false, ConditionSearch.MAX_REPORTED);
+    if (indices.isEmpty()) {
+      return;
+    }
+    failIfCustomMessageIsSet();
+    String message = format("element(s) at index(es) <%s>:<%s> of <%s> should satisfy condition", indices,
+        elementsAt(elements, indices), actual);
+    throw failure(condition.addDescriptionTo(message));
+  }
+
+  /**
+   * Verifies that at least one element of the actual group of objects satisfies the given condition. The search stops
+   * at the first element that satisfies it. If the condition is thread-safe, large groups are checked in parallel (see
+   * {@link Condition#asThreadSafe()}.)
+   *
+   * @param condition the condition to evaluate, which should accept the elements of the actual group.
+   * @throws AssertionError       if the actual group of objects is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if no element of the actual group of objects satisfies the given condition.
+   * @since 1.5
+   */
+  protected final void assertAnySatisfy(@NotNull Condition<?> condition) {
+    isNotNull();
+    checkNotNull(condition);
+    if (!ConditionSearch.indicesWhere(elementsToEvaluate(), condition, true, 1).isEmpty()) {
+      return;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(condition.addDescriptionTo(format("no element of <%s> satisfies condition", actual)));
+  }
+
+  /**
+   * Verifies that no element of the actual group of objects satisfies the given condition. The search stops once
+   * {@link ConditionSearch#MAX_REPORTED} elements that satisfy it have been found. If the condition is thread-safe,
+   * large groups are checked in parallel (see {@link Condition#asThreadSafe()}.)
+   *
+   * @param condition the condition to evaluate, which should accept the elements of the actual group.
+   * @throws AssertionError       if the actual group of objects is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if an element of the actual group of objects satisfies the given condition.
+   * @since 1.5
+   */
+  protected final void assertNoneSatisfy(@NotNull Condition<?> condition) {
+    isNotNull();
+    checkNotNull(condition);
+    List<?> elements = elementsToEvaluate();
+    List<Integer> indices = ConditionSearch.indicesWhere(elements, condition, true, ConditionSearch.MAX_REPORTED);
+    if (indices.isEmpty()) {
+      return;
+    }
+    failIfCustomMessageIsSet();
+    String message = format("element(s) at index(es) <%s>:<%s> of <%s> should not satisfy condition", indices,
+        elementsAt(elements, indices), actual);
+    throw failure(condition.addDescriptionTo(message));
+  }
+
+  // arrays are read in place, unless a snapshot has been requested
+  private @NotNull List<?> elementsToEvaluate() {
+    if (!snapshotEnabled && actual != null && actual.getClass().isArray()) {
+      return ArrayInspection.listView(actual);
+    }
+    return checkNotNull(actualList());
+  }
+
+  private static @NotNull List<Object> elementsAt(@NotNull List<?> elements, @NotNull List<Integer> indices) {
+    List<Object> found = newArrayList();
+    for (int index : indices) {
+      found.add(elements.get(index));
+    }
+    return found;
   }
 
   /**
@@ -165,4 +455,14 @@ public abstract class ItemGroupAssert<S, A> extends GroupAssert<S, A> {
    */
   protected abstract @Nullable List<Object> actualAsList();
 
+  private @Nullable List<Object> actualList() {
+    if (!snapshotEnabled) {
+      return actualAsList();
+    }
+    if (actualListSnapshot == null) {
+      actualListSnapshot = actualAsList();
+    }
+    return actualListSnapshot;
+  }
+
 }
\ No newline at end of file
@@ -18,19 +18,28 @@ import org.fest.util.VisibleForTesting;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static org.fest.assertions.Formatting.format;
 import static org.fest.util.Lists.newArrayList;
 import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Sets.newLinkedHashSet;
-import static org.fest.util.ToString.toStringOf;
 
 /**
  * Assertions for {@code Iterator}s.
  * <p/>
  * To create a new instance of this class invoke {@link Assertions#assertThat(Iterator)}.
+ * <p/>
+ * Elements are read from the actual {@code Iterator} only when a check needs them, and are kept so that subsequent
+ * checks can see them again. For example, {@code isNotEmpty} reads a single element, {@code hasSize(n)} reads at most
+ * {@code n + 1} elements and {@code contains} stops reading as soon as all the expected elements have been found. The
+ * number of elements read can be limited with {@link #readingAtMost(int)}.
  *
  * @author Alex Ruiz
  * @since 1.4
@@ -52,6 +61,29 @@ public class IteratorAssert extends ObjectGroupAssert<IteratorAssert, Iterator<?
     return new PrettyPrintIterator(actual);
   }
 
+  /**
+   * Limits the number of elements that this assertion object reads from the actual {@code Iterator}. Checks that need
+   * to read more elements than the given limit fail, and failure messages show at most that many elements. This makes
+   * it possible to verify infinite or very large iterators:
+   * <pre>
+   * assertThat(randomNumbers()).readingAtMost(1000).contains(6);
+   * </pre>
+   *
+   * @param maxElements the maximum number of elements to read from the actual {@code Iterator}.
+   * @return this assertion object.
+   * @throws IllegalArgumentException if the given limit is negative.
+   * @since 1.5
+   */
+  public @NotNull IteratorAssert readingAtMost(int maxElements) {
+    if (maxElements < 0) {
+      throw new IllegalArgumentException("The maximum number of elements to read should not be negative");
+    }
+    if (actual != null) {
+      wrapped().limit = maxElements;
+    }
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -94,34 +126,130 @@ public class IteratorAssert extends ObjectGroupAssert<IteratorAssert, Iterator<?
     return contentOfActual().length;
   }
 
+  /**
+   * Reads at most one element from the actual {@code Iterator}.
+   */
+  @Override
+  protected boolean actualGroupHasElements() {
+    isNotNull();
+    return read(1) > 0;
+  }
+
+  /**
+   * Verifies that the number of elements in the actual {@code Iterator} is equal to the given one. At most
+   * {@code expected + 1} elements are read, even to describe the failure.
+   *
+   * @param expected the expected number of elements in the actual {@code Iterator}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Iterator} is {@code null}.
+   * @throws AssertionError if the number of elements in the actual {@code Iterator} is not equal to the given one.
+   */
+  @Override
+  public @NotNull IteratorAssert hasSize(int expected) {
+    isNotNull();
+    int limit = expected < 0 || expected == Integer.MAX_VALUE ? max(expected, 1) : expected + 1;
+    int size = read(limit);
+    if (size == expected) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    PrettyPrintIterator iterator = wrapped();
+    String actualSize = iterator.wrappedWasConsumed ? String.valueOf(size) : "more than " + (size - 1);
+    throw failure("expected size:<" + expected + "> but was:<" + actualSize + "> for <" + iterator.contentsRead()
+        + ">");
+  }
+
+  /**
+   * Reads elements from the actual {@code Iterator} only until all the given objects have been found.
+   */
+  @Override
+  protected @NotNull Collection<Object> notFoundInActual(@NotNull Object... objects) {
+    Set<Object> missing = newLinkedHashSet(objects);
+    PrettyPrintIterator iterator = wrapped();
+    for (int i = 0; !missing.isEmpty() && read(i + 1) > i; i++) {
+      missing.remove(iterator.elementAt(i));
+    }
+    List<Object> notFound = newArrayList();
+    for (Object o : objects) {
+      if (missing.contains(o)) {
+        notFound.add(o);
+      }
+    }
+    return notFound;
+  }
+
   private @NotNull Object[] contentOfActual() {
-    PrettyPrintIterator wrapped = (PrettyPrintIterator) actual;
-    return wrapped.contents().toArray();
+    read(Integer.MAX_VALUE);
+    return wrapped().contents().toArray();
+  }
+
+  private int read(int count) {
+    PrettyPrintIterator iterator = wrapped();
+    int read = iterator.read(count);
+    if (read < count && !iterator.wrappedWasConsumed) {
+      failIfCustomMessageIsSet();
+      throw failure(format("expecting an iterator with at most <%s> elements, but it has more", iterator.limit));
+    }
+    return read;
+  }
+
+  private @NotNull PrettyPrintIterator wrapped() {
+    return (PrettyPrintIterator) checkNotNull(actual);
   }
 
   @VisibleForTesting
   static class PrettyPrintIterator implements Iterator<Object> {
     private final Iterator<?> wrapped;
+    private final List<Object> wrappedContents = newArrayList();
     boolean wrappedWasConsumed;
-    List<Object> wrappedContents;
-    Iterator<Object> iterator;
+    int limit = Integer.MAX_VALUE;
+    private int position;
 
     PrettyPrintIterator(@NotNull Iterator<?> wrapped) {
       this.wrapped = wrapped;
     }
 
+    /**
+     * Returns the elements read so far from the wrapped {@code Iterator}.
+     *
+     * @return the elements read so far from the wrapped {@code Iterator}.
+     */
     @NotNull List<Object> contents() {
-      consumeIterator();
       return wrappedContents;
     }
 
+    @Nullable Object elementAt(int index) {
+      return wrappedContents.get(index);
+    }
+
+    /**
+     * Reads elements from the wrapped {@code Iterator} until the given number of elements have been read, the wrapped
+     * {@code Iterator} has no more elements, or the limit of elements to read has been reached.
+     *
+     * @param count the number of elements that should have been read.
+     * @return the number of elements read so far.
+     */
+    synchronized int read(int count) {
+      int target = min(count, limit);
+      while (wrappedContents.size() < target && !wrappedWasConsumed) {
+        if (wrapped.hasNext()) {
+          wrappedContents.add(wrapped.next());
+          continue;
+        }
+        wrappedWasConsumed = true;
+      }
+      if (!wrappedWasConsumed && wrappedContents.size() == target && !wrapped.hasNext()) {
+        wrappedWasConsumed = true;
+      }
+      return wrappedContents.size();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean hasNext() {
-      consumeIterator();
-      return iterator.hasNext();
+      return read(position + 1) > position;
     }
 
     /**
@@ -129,17 +257,10 @@ public class IteratorAssert extends ObjectGroupAssert<IteratorAssert, Iterator<?
      */
     @Override
     public @Nullable Object next() {
-      consumeIterator();
-      return iterator.next();
-    }
-
-    private synchronized void consumeIterator() {
-      if (wrappedWasConsumed) {
-        return;
+      if (!hasNext()) {
+        throw new NoSuchElementException();
       }
-      wrappedContents = newArrayList(wrapped);
-      wrappedWasConsumed = true;
-      iterator = wrappedContents.iterator();
+      return wrappedContents.get(position++);
     }
 
     /**
@@ -151,12 +272,26 @@ public class IteratorAssert extends ObjectGroupAssert<IteratorAssert, Iterator<?
     }
 
     /**
-     * {@inheritDoc}
+     * Returns the {@code String} representation of the elements of the wrapped {@code Iterator}, reading at most one
+     * more element than {@link Truncation#maxElements()} (and than the limit allows.) If there are more elements, they
+     * are replaced with the elision marker.
      */
     @Override
     public String toString() {
-      consumeIterator();
-      return toStringOf(wrappedContents);
+      int maxElements = Truncation.maxElements();
+      read(maxElements == Integer.MAX_VALUE ? maxElements : maxElements + 1);
+      return contentsRead();
+    }
+
+    /**
+     * Returns the {@code String} representation of the elements read so far, followed by the elision marker if the
+     * wrapped {@code Iterator} may have more elements.
+     */
+    @NotNull String contentsRead() {
+      if (wrappedWasConsumed) {
+        return Truncation.toStringOf(wrappedContents);
+      }
+      return Truncation.toStringOfFirstElements(wrappedContents);
     }
   }
-}
\ No newline at end of file
+}
@@ -23,6 +23,9 @@ import java.util.Set;
 
 import static java.util.Collections.emptyList;
 import static org.fest.assertions.Formatting.format;
+import static org.fest.assertions.Sequences.endsWithSequence;
+import static org.fest.assertions.Sequences.indexOfSequence;
+import static org.fest.assertions.Sequences.startsWithSequence;
 import static org.fest.util.Lists.newArrayList;
 import static org.fest.util.Objects.areEqual;
 import static org.fest.util.Preconditions.checkNotNull;
@@ -96,24 +99,9 @@ public class ListAssert extends ObjectGroupAssert<ListAssert, List<?>> {
   public @NotNull ListAssert containsSequence(@NotNull Object... sequence) {
     isNotNull();
     checkNotNull(sequence);
-    int sequenceSize = sequence.length;
-    if (sequenceSize == 0) {
-      return this;
-    }
-    int indexOfFirst = actual.indexOf(sequence[0]);
-    if (indexOfFirst == -1) {
+    if (indexOfSequence(actual, sequence) == -1) {
       failIfSequenceNotFound(sequence);
     }
-    int listSize = actualGroupSize();
-    for (int i = 0; i < sequenceSize; i++) {
-      int actualIndex = indexOfFirst + i;
-      if (actualIndex > listSize - 1) {
-        failIfSequenceNotFound(sequence);
-      }
-      if (!areEqual(sequence[i], actual.get(actualIndex))) {
-        failIfSequenceNotFound(sequence);
-      }
-    }
     return this;
   }
 
@@ -145,14 +133,9 @@ public class ListAssert extends ObjectGroupAssert<ListAssert, List<?>> {
     if (sequenceSize == 0 && listSize != 0) {
       failIfNotStartingWithSequence(sequence);
     }
-    if (listSize < sequenceSize) {
+    if (!startsWithSequence(actual, sequence)) {
       failIfNotStartingWithSequence(sequence);
     }
-    for (int i = 0; i < sequenceSize; i++) {
-      if (!areEqual(sequence[i], actual.get(i))) {
-        failIfNotStartingWithSequence(sequence);
-      }
-    }
     return this;
   }
 
@@ -184,16 +167,9 @@ public class ListAssert extends ObjectGroupAssert<ListAssert, List<?>> {
     if (sequenceSize == 0 && listSize != 0) {
       failIfNotEndingWithSequence(sequence);
     }
-    if (listSize < sequenceSize) {
+    if (!endsWithSequence(actual, sequence)) {
       failIfNotEndingWithSequence(sequence);
     }
-    for (int i = 0; i < sequenceSize; i++) {
-      int sequenceIndex = sequenceSize - 1 - i;
-      int listIndex = listSize - 1 - i;
-      if (!areEqual(sequence[sequenceIndex], actual.get(listIndex))) {
-        failIfNotEndingWithSequence(sequence);
-      }
-    }
     return this;
   }
 
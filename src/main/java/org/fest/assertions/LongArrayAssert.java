@@ -18,7 +18,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.util.Arrays;
 
-import static org.fest.assertions.ArrayInspection.copy;
 import static org.fest.assertions.ErrorMessages.unexpectedEqual;
 import static org.fest.assertions.ErrorMessages.unexpectedNotEqual;
 
@@ -50,7 +49,7 @@ public class LongArrayAssert extends ArrayAssert<LongArrayAssert, long[]> {
    * @throws AssertionError       if the actual {@code long} array does not contain the given values.
    */
   public @NotNull LongArrayAssert contains(@NotNull long... values) {
-    assertContains(copy(values));
+    assertContainsValues(values);
     return this;
   }
 
@@ -65,7 +64,114 @@ public class LongArrayAssert extends ArrayAssert<LongArrayAssert, long[]> {
    *                              {@code long} array contains elements other than the ones specified.
    */
   public @NotNull LongArrayAssert containsOnly(@NotNull long... values) {
-    assertContainsOnly(copy(values));
+    assertContainsOnlyValues(values);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code long} array contains exactly the given values, in any order: each value must
+   * appear in the actual array as many times as it is given.
+   *
+   * @param values the values to look for.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code long} array is {@code null}.
+   * @throws NullPointerException if the given {@code long} array is {@code null}.
+   * @throws AssertionError       if some of the given values appear fewer times in the actual {@code long} array, or
+   *                              if the actual {@code long} array contains values, or copies of values, other than the
+   *                              ones specified.
+   * @since 1.5
+   */
+  public @NotNull LongArrayAssert containsExactlyInAnyOrder(@NotNull long... values) {
+    assertContainsExactlyInAnyOrderValues(values);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code long} array does not have duplicates.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code long} array is {@code null}.
+   * @throws AssertionError if the actual {@code long} array has duplicates.
+   * @since 1.5
+   */
+  public @NotNull LongArrayAssert doesNotHaveDuplicates() {
+    assertDoesNotHaveDuplicateValues();
+    return this;
+  }
+
+  /**
+   * Verifies that the elements of the actual {@code long} array are sorted in ascending order. Equal consecutive
+   * elements are allowed.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code long} array is {@code null}.
+   * @throws AssertionError if the actual {@code long} array is not sorted.
+   * @since 1.5
+   */
+  public @NotNull LongArrayAssert isSorted() {
+    assertIsSortedValues(false);
+    return this;
+  }
+
+  /**
+   * Verifies that the elements of the actual {@code long} array are sorted in ascending order, and that no element is
+   * equal to the one before it.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code long} array is {@code null}.
+   * @throws AssertionError if the actual {@code long} array is not strictly sorted.
+   * @since 1.5
+   */
+  public @NotNull LongArrayAssert isStrictlySorted() {
+    assertIsSortedValues(true);
+    return this;
+  }
+
+  /**
+   * Verifies that all the elements of the actual {@code long} array satisfy the given condition. Large arrays are
+   * checked in parallel if the condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code long} array is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if an element of the actual {@code long} array does not satisfy the given condition.
+   * @since 1.5
+   */
+  public @NotNull LongArrayAssert allSatisfy(@NotNull Condition<Long> condition) {
+    assertAllSatisfy(condition);
+    return this;
+  }
+
+  /**
+   * Verifies that at least one element of the actual {@code long} array satisfies the given condition. Large arrays
+   * are checked in parallel if the condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code long} array is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if no element of the actual {@code long} array satisfies the given condition.
+   * @since 1.5
+   */
+  public @NotNull LongArrayAssert anySatisfy(@NotNull Condition<Long> condition) {
+    assertAnySatisfy(condition);
+    return this;
+  }
+
+  /**
+   * Verifies that no element of the actual {@code long} array satisfies the given condition. Large arrays are checked
+   * in parallel if the condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code long} array is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if an element of the actual {@code long} array satisfies the given condition.
+   * @since 1.5
+   */
+  public @NotNull LongArrayAssert noneSatisfy(@NotNull Condition<Long> condition) {
+    assertNoneSatisfy(condition);
     return this;
   }
 
@@ -79,7 +185,7 @@ public class LongArrayAssert extends ArrayAssert<LongArrayAssert, long[]> {
    * @throws AssertionError       if the actual {@code long} array contains any of the given values.
    */
   public @NotNull LongArrayAssert excludes(@NotNull long... values) {
-    assertExcludes(copy(values));
+    assertExcludesValues(values);
     return this;
   }
 
@@ -0,0 +1,141 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import static java.lang.Math.max;
+import static java.util.Arrays.copyOf;
+
+/**
+ * Open-addressing hash table that assigns a dense ordinal (0, 1, 2...) to each distinct {@code long} key, in insertion
+ * order. Values of any primitive type can be stored once they have been converted to a {@code long} key (see
+ * {@link PrimitiveArrayMatcher}.) Keys are never boxed.
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+final class LongKeyTable {
+  private static final int MIN_CAPACITY = 8;
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private long[] keys;
+  private int[] slots;
+  private int mask;
+  private int size;
+
+  /**
+   * Creates a new {@link LongKeyTable}.
+   *
+   * @param expectedSize the number of distinct keys this table is expected to hold.
+   */
+  LongKeyTable(int expectedSize) {
+    int capacity = capacityFor(expectedSize);
+    slots = new int[capacity];
+    mask = capacity - 1;
+    keys = new long[max(expectedSize, MIN_CAPACITY)];
+  }
+
+  private static int capacityFor(int expectedSize) {
+    int capacity = MIN_CAPACITY;
+    while (capacity < MAX_CAPACITY && capacity < expectedSize * 2L) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  /**
+   * Adds the given key to this table, if not already present.
+   *
+   * @param key the key to add.
+   * @return the ordinal of the given key.
+   */
+  int add(long key) {
+    int slot = slotOf(key);
+    if (slots[slot] != 0) {
+      return slots[slot] - 1;
+    }
+    if (size == keys.length) {
+      keys = copyOf(keys, size * 2);
+    }
+    int ordinal = size++;
+    keys[ordinal] = key;
+    slots[slot] = ordinal + 1;
+    if (size * 2L > slots.length && slots.length < MAX_CAPACITY) {
+      rehash(slots.length << 1);
+    }
+    return ordinal;
+  }
+
+  /**
+   * Returns the ordinal of the given key.
+   *
+   * @param key the key to look for.
+   * @return the ordinal of the given key, or -1 if this table does not contain it.
+   */
+  int indexOf(long key) {
+    return slots[slotOf(key)] - 1;
+  }
+
+  boolean contains(long key) {
+    return indexOf(key) >= 0;
+  }
+
+  /**
+   * Returns the key having the given ordinal.
+   *
+   * @param ordinal the ordinal of the key.
+   * @return the key having the given ordinal.
+   */
+  long keyAt(int ordinal) {
+    return keys[ordinal];
+  }
+
+  int size() {
+    return size;
+  }
+
+  private int slotOf(long key) {
+    int slot = hash(key) & mask;
+    while (true) {
+      int entry = slots[slot];
+      if (entry == 0 || keys[entry - 1] == key) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  private void rehash(int capacity) {
+    slots = new int[capacity];
+    mask = capacity - 1;
+    for (int ordinal = 0; ordinal < size; ordinal++) {
+      int slot = hash(keys[ordinal]) & mask;
+      while (slots[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = ordinal + 1;
+    }
+  }
+
+  // Keys of floating-point values differ mostly in their high bits, so all bits need to be mixed into the low ones.
+  private static int hash(long key) {
+    long h = key;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return (int) h;
+  }
+}
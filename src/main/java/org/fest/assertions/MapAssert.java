@@ -20,10 +20,10 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import static org.fest.assertions.Truncation.toStringOf;
 import static org.fest.util.Lists.newArrayList;
 import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Strings.quote;
-import static org.fest.util.ToString.toStringOf;
 
 /**
  * Assertions for {@code Map}s.
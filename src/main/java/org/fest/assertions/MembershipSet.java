@@ -0,0 +1,90 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.unmodifiableList;
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Objects.areEqual;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Immutable set of values, indexed by hash code, to look up the actual value of many assertions in. Values are compared
+ * the same way {@link GenericAssert#isIn(Collection)} compares them: arrays are equal if their elements are equal.
+ * Arrays are not hashed but scanned, so lookups are only fast for the values that are not arrays.
+ * <p/>
+ * Iteration follows the order in which the values were specified, without duplicates.
+ *
+ * @see Assertions#membershipSet(Object...)
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+final class MembershipSet extends AbstractSet<Object> {
+  private final List<Object> elements = newArrayList();
+  private final Set<Object> hashed = new HashSet<Object>();
+  private final List<Object> arrays = newArrayList();
+
+  MembershipSet(@NotNull Collection<?> values) {
+    checkNotNull(values);
+    for (Object value : values) {
+      if (isArray(value)) {
+        if (!containsArray(value)) {
+          arrays.add(value);
+          elements.add(value);
+        }
+        continue;
+      }
+      if (hashed.add(value)) {
+        elements.add(value);
+      }
+    }
+  }
+
+  @Override
+  public boolean contains(@Nullable Object o) {
+    return isArray(o) ? containsArray(o) : hashed.contains(o);
+  }
+
+  private boolean containsArray(@NotNull Object array) {
+    for (Object element : arrays) {
+      if (areEqual(array, element)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isArray(@Nullable Object o) {
+    return o != null && o.getClass().isArray();
+  }
+
+  @Override
+  public @NotNull Iterator<Object> iterator() {
+    return unmodifiableList(elements).iterator();
+  }
+
+  @Override
+  public int size() {
+    return elements.size();
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Arrays.fill;
+
+/**
+ * Computes the shortest edit script between two sequences of integers (usually the hashes or ids of lines of text),
+ * using the linear-space variant of the algorithm described by Eugene W. Myers in "An O(ND) Difference Algorithm and
+ * Its Variations" (1986.)
+ * <p/>
+ * The sequences are split recursively at the middle of an optimal edit path, so memory usage is proportional to the
+ * sum of their lengths, regardless of the number of differences.
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+final class MyersDiff {
+  private final int[] a;
+  private final int[] b;
+  private final boolean[] removed;
+  private final boolean[] added;
+
+  /**
+   * Computes the shortest edit script that turns the first sequence into the second one.
+   *
+   * @param a       the first sequence.
+   * @param b       the second sequence.
+   * @param removed receives the elements of the first sequence that are not in the second one: {@code removed[i]} is
+   *                set to {@code true} if {@code a[i]} is removed. Its length must be the length of {@code a}.
+   * @param added   receives the elements of the second sequence that are not in the first one: {@code added[j]} is set
+   *                to {@code true} if {@code b[j]} is added. Its length must be the length of {@code b}.
+   */
+  static void diff(@NotNull int[] a, @NotNull int[] b, @NotNull boolean[] removed, @NotNull boolean[] added) {
+    new MyersDiff(a, b, removed, added).diff(0, a.length, 0, b.length);
+  }
+
+  private MyersDiff(@NotNull int[] a, @NotNull int[] b, @NotNull boolean[] removed, @NotNull boolean[] added) {
+    this.a = a;
+    this.b = b;
+    this.removed = removed;
+    this.added = added;
+  }
+
+  private void diff(int aStart, int aEnd, int bStart, int bEnd) {
+    while (aStart < aEnd && bStart < bEnd && a[aStart] == b[bStart]) {
+      aStart++;
+      bStart++;
+    }
+    while (aStart < aEnd && bStart < bEnd && a[aEnd - 1] == b[bEnd - 1]) {
+      aEnd--;
+      bEnd--;
+    }
+    if (aStart == aEnd || bStart == bEnd) {
+      fill(removed, aStart, aEnd, true);
+      fill(added, bStart, bEnd, true);
+      return;
+    }
+    bisect(aStart, aEnd, bStart, bEnd);
+  }
+
+  // Finds the middle snake of an optimal edit path, searching forward from the start and backward from the end, and
+  // splits the problem there. Both ranges are non-empty and their first (and last) elements are different, so the split
+  // point is never one of the corners.
+  private void bisect(int aStart, int aEnd, int bStart, int bEnd) {
+    int n = aEnd - aStart;
+    int m = bEnd - bStart;
+    int maxD = (n + m + 1) / 2;
+    int offset = maxD;
+    int length = 2 * maxD + 2;
+    int[] forward = new int[length];
+    int[] backward = new int[length];
+    fill(forward, -1);
+    fill(backward, -1);
+    forward[offset + 1] = 0;
+    backward[offset + 1] = 0;
+    int delta = n - m;
+    boolean odd = (delta & 1) != 0;
+    int forwardStart = 0;
+    int forwardEnd = 0;
+    int backwardStart = 0;
+    int backwardEnd = 0;
+    for (int d = 0; d < maxD; d++) {
+      for (int k = -d + forwardStart; k <= d - forwardEnd; k += 2) {
+        int i = offset + k;
+        int x = (k == -d || (k != d && forward[i - 1] < forward[i + 1])) ? forward[i + 1] : forward[i - 1] + 1;
+        int y = x - k;
+        while (x < n && y < m && a[aStart + x] == b[bStart + y]) {
+          x++;
+          y++;
+        }
+        forward[i] = x;
+        if (x > n) {
+          forwardEnd += 2;
+        } else if (y > m) {
+          forwardStart += 2;
+        } else if (odd) {
+          int j = offset + delta - k;
+          if (j >= 0 && j < length && backward[j] != -1 && x >= n - backward[j]) {
+            split(aStart, aEnd, bStart, bEnd, x, y);
+            return;
+          }
+        }
+      }
+      for (int k = -d + backwardStart; k <= d - backwardEnd; k += 2) {
+        int i = offset + k;
+        int x = (k == -d || (k != d && backward[i - 1] < backward[i + 1])) ? backward[i + 1] : backward[i - 1] + 1;
+        int y = x - k;
+        while (x < n && y < m && a[aEnd - x - 1] == b[bEnd - y - 1]) {
+          x++;
+          y++;
+        }
+        backward[i] = x;
+        if (x > n) {
+          backwardEnd += 2;
+        } else if (y > m) {
+          backwardStart += 2;
+        } else if (!odd) {
+          int j = offset + delta - k;
+          if (j >= 0 && j < length && forward[j] != -1) {
+            int forwardX = forward[j];
+            if (forwardX >= n - x) {
+              split(aStart, aEnd, bStart, bEnd, forwardX, forwardX - (j - offset));
+              return;
+            }
+          }
+        }
+      }
+    }
+    // the sequences have nothing in common
+    fill(removed, aStart, aEnd, true);
+    fill(added, bStart, bEnd, true);
+  }
+
+  private void split(int aStart, int aEnd, int bStart, int bEnd, int x, int y) {
+    diff(aStart, aStart + x, bStart, bStart + y);
+    diff(aStart + x, aEnd, bStart + y, bEnd);
+  }
+}
@@ -18,6 +18,9 @@ import org.fest.util.IntrospectionError;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import java.util.Comparator;
+
+import static org.fest.util.Preconditions.checkNotNull;
 
 /**
  * Assertions for arrays or collections.
@@ -68,6 +71,24 @@ public abstract class ObjectGroupAssert<S, A> extends ItemGroupAssert<S, A> {
     return myself();
   }
 
+  /**
+   * Verifies that the actual group of objects contains exactly the given objects, in any order: each object must appear
+   * in the actual group as many times as it is given. The actual group is read only once.
+   *
+   * @param objects the objects to look for.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual group of objects is {@code null}.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @throws AssertionError       if some of the given objects appear fewer times in the actual group of objects, or if
+   *                              the actual group of objects contains elements, or copies of elements, other than the
+   *                              ones specified.
+   * @since 1.5
+   */
+  public final @NotNull S containsExactlyInAnyOrder(@NotNull Object... objects) {
+    assertContainsExactlyInAnyOrder(objects);
+    return myself();
+  }
+
   /**
    * Verifies that the actual group of objects does not contain the given objects.
    *
@@ -94,6 +115,118 @@ public abstract class ObjectGroupAssert<S, A> extends ItemGroupAssert<S, A> {
     return myself();
   }
 
+  /**
+   * Verifies that the actual group of objects does not contain the same instance more than once. Unlike
+   * {@link #doesNotHaveDuplicates()}, elements are compared with {@code ==}, so equal but distinct objects are allowed.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual group of objects is {@code null}.
+   * @throws AssertionError if the actual group of objects contains the same instance more than once.
+   * @since 1.5
+   */
+  public final @NotNull S doesNotHaveDuplicateInstances() {
+    assertDoesNotHaveDuplicateInstances();
+    return myself();
+  }
+
+  /**
+   * Verifies that the elements of the actual group of objects are sorted in ascending order, according to their
+   * natural ordering. Equal consecutive elements are allowed.
+   *
+   * @return this assertion object.
+   * @throws AssertionError       if the actual group of objects is {@code null}.
+   * @throws ClassCastException   if the elements of the actual group of objects are not mutually comparable.
+   * @throws NullPointerException if the actual group of objects contains {@code null}.
+   * @throws AssertionError       if the actual group of objects is not sorted.
+   * @since 1.5
+   */
+  public final @NotNull S isSorted() {
+    assertIsSorted(null, false);
+    return myself();
+  }
+
+  /**
+   * Verifies that the elements of the actual group of objects are sorted in ascending order, according to their
+   * natural ordering, and that no element is equal to the one before it.
+   *
+   * @return this assertion object.
+   * @throws AssertionError       if the actual group of objects is {@code null}.
+   * @throws ClassCastException   if the elements of the actual group of objects are not mutually comparable.
+   * @throws NullPointerException if the actual group of objects contains {@code null}.
+   * @throws AssertionError       if the actual group of objects is not strictly sorted.
+   * @since 1.5
+   */
+  public final @NotNull S isStrictlySorted() {
+    assertIsSorted(null, true);
+    return myself();
+  }
+
+  /**
+   * Verifies that the elements of the actual group of objects are sorted in ascending order, according to the given
+   * comparator. Equal consecutive elements are allowed.
+   *
+   * @param comparator the comparator to compare elements with.
+   * @return this assertion object.
+   * @throws NullPointerException if the given comparator is {@code null}.
+   * @throws AssertionError       if the actual group of objects is {@code null}.
+   * @throws AssertionError       if the actual group of objects is not sorted according to the given comparator.
+   * @since 1.5
+   */
+  public final @NotNull S isSortedAccordingTo(@NotNull Comparator<?> comparator) {
+    assertIsSorted(checkNotNull(comparator), false);
+    return myself();
+  }
+
+  /**
+   * Verifies that all the elements of the actual group of objects satisfy the given condition. If some do not, the
+   * failure message shows the first of them (at most ten) with their indices. Large groups are checked in parallel if
+   * the condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate, which should accept the elements of the actual group.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual group of objects is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if an element of the actual group of objects does not satisfy the given condition.
+   * @since 1.5
+   */
+  public final @NotNull S allSatisfy(@NotNull Condition<?> condition) {
+    assertAllSatisfy(condition);
+    return myself();
+  }
+
+  /**
+   * Verifies that at least one element of the actual group of objects satisfies the given condition. Large groups are
+   * checked in parallel if the condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate, which should accept the elements of the actual group.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual group of objects is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if no element of the actual group of objects satisfies the given condition.
+   * @since 1.5
+   */
+  public final @NotNull S anySatisfy(@NotNull Condition<?> condition) {
+    assertAnySatisfy(condition);
+    return myself();
+  }
+
+  /**
+   * Verifies that no element of the actual group of objects satisfies the given condition. If some do, the failure
+   * message shows the first of them (at most ten) with their indices. Large groups are checked in parallel if the
+   * condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate, which should accept the elements of the actual group.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual group of objects is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if an element of the actual group of objects satisfies the given condition.
+   * @since 1.5
+   */
+  public final @NotNull S noneSatisfy(@NotNull Condition<?> condition) {
+    assertNoneSatisfy(condition);
+    return myself();
+  }
+
   /**
    * Creates a new group of objects whose target collection contains the values of the given property name from the
    * elements of the actual group of objects. Property access works with both simple properties like {@code Person.age}
@@ -0,0 +1,294 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.fest.util.Lists.newArrayList;
+
+/**
+ * Settings for assertions that can split their work across several threads, such as extracting properties from large
+ * groups of objects.
+ * <p/>
+ * Work is done in parallel only when the number of elements to process is equal to or greater than the threshold set
+ * with {@link #setThreshold(int)}. Results are always the same as when the work is done in a single thread: order is
+ * preserved and, if several elements cause an error, the error caused by the first one is reported.
+ * <p/>
+ * Code provided by the caller only runs in other threads if the caller says it is thread-safe: conditions marked with
+ * {@link Condition#asThreadSafe()}, streams verified with {@link StreamAssert#inParallel()}, and property getters once
+ * {@link #setPropertyGettersThreadSafe(boolean)} is called with {@code true}. Otherwise it runs in the calling thread,
+ * which matters for objects confined to a thread, such as lazily loaded persistent entities.
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+public final class Parallelism {
+  /**
+   * The default minimum number of elements to process in parallel.
+   */
+  public static final int DEFAULT_THRESHOLD = 100000;
+
+  private static volatile int threshold = DEFAULT_THRESHOLD;
+  private static volatile boolean propertyGettersThreadSafe;
+  private static int workerCount = Runtime.getRuntime().availableProcessors();
+  private static ExecutorService workers;
+
+  private static final ThreadLocal<Boolean> IN_WORKER = new ThreadLocal<Boolean>();
+
+  private Parallelism() {
+  }
+
+  /**
+   * Sets the minimum number of elements an assertion needs to process before splitting its work across threads.
+   * Use {@code Integer.MAX_VALUE} to never split work across threads.
+   *
+   * @param minElements the minimum number of elements to process in parallel.
+   * @throws IllegalArgumentException if the given number is less than 1.
+   */
+  public static void setThreshold(int minElements) {
+    if (minElements < 1) {
+      throw new IllegalArgumentException("The minimum number of elements to process in parallel should be positive");
+    }
+    threshold = minElements;
+  }
+
+  /**
+   * Returns the minimum number of elements an assertion needs to process before splitting its work across threads.
+   *
+   * @return the minimum number of elements to process in parallel.
+   */
+  public static int threshold() {
+    return threshold;
+  }
+
+  /**
+   * Sets the number of threads that work is split across. Threads are daemon threads, created when first needed.
+   *
+   * @param count the number of threads.
+   * @throws IllegalArgumentException if the given number is less than 1.
+   */
+  public static synchronized void setWorkerCount(int count) {
+    if (count < 1) {
+      throw new IllegalArgumentException("The number of worker threads should be positive");
+    }
+    if (count == workerCount) {
+      return;
+    }
+    workerCount = count;
+    if (workers != null) {
+      workers.shutdown();
+      workers = null;
+    }
+  }
+
+  /**
+   * Returns the number of threads that work is split across.
+   *
+   * @return the number of threads.
+   */
+  public static synchronized int workerCount() {
+    return workerCount;
+  }
+
+  /**
+   * Sets whether the getters of the properties extracted with {@code onProperty} can be called from several threads at
+   * the same time. By default they are not, and properties are always extracted in the calling thread.
+   *
+   * @param threadSafe whether property getters are thread-safe.
+   */
+  public static void setPropertyGettersThreadSafe(boolean threadSafe) {
+    propertyGettersThreadSafe = threadSafe;
+  }
+
+  /**
+   * Indicates whether the getters of the properties extracted with {@code onProperty} can be called from several
+   * threads at the same time.
+   *
+   * @return {@code true} if property getters are thread-safe, {@code false} otherwise.
+   */
+  public static boolean arePropertyGettersThreadSafe() {
+    return propertyGettersThreadSafe;
+  }
+
+  /**
+   * Restores the default threshold, number of threads and thread-safety of property getters.
+   */
+  public static void reset() {
+    threshold = DEFAULT_THRESHOLD;
+    propertyGettersThreadSafe = false;
+    setWorkerCount(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Indicates whether a group with the given number of elements should be processed in parallel.
+   *
+   * @param size the number of elements to process.
+   * @return {@code true} if the elements should be processed in parallel, {@code false} otherwise.
+   */
+  static boolean isParallel(int size) {
+    return size >= threshold && workerCount() > 1 && IN_WORKER.get() == null;
+  }
+
+  /**
+   * Runs the given task over the range {@code [0, size)}. If {@link #isParallel(int)} the range is split in contiguous
+   * chunks, one per thread, the first of which runs in the calling thread; otherwise the task runs once over the whole
+   * range in the calling thread. If any chunk fails, the exception thrown by the chunk covering the lowest indices is
+   * rethrown, after all the chunks have completed.
+   *
+   * @param size the size of the range.
+   * @param task the task to run.
+   */
+  static void forEachRange(int size, @NotNull RangeTask task) {
+    forEachRange(size, 1, task);
+  }
+
+  /**
+   * Runs the given task over the range {@code [0, size)}, where each index stands for the given number of elements
+   * (for example, a row of pixels in an image.) The range is split as in {@link #forEachRange(int, RangeTask)}, but
+   * only if the total number of elements reaches the threshold.
+   *
+   * @param size             the size of the range.
+   * @param elementsPerIndex the number of elements each index stands for.
+   * @param task             the task to run.
+   */
+  static void forEachRange(int size, int elementsPerIndex, @NotNull RangeTask task) {
+    if (!isParallel((int) min((long) size * elementsPerIndex, Integer.MAX_VALUE))) {
+      task.run(0, size);
+      return;
+    }
+    int chunkCount = min(workerCount(), size);
+    int chunkSize = (size + chunkCount - 1) / chunkCount;
+    List<Future<?>> chunks = newArrayList();
+    for (int from = chunkSize; from < size; from += chunkSize) {
+      chunks.add(workers().submit(new Chunk(task, from, min(from + chunkSize, size))));
+    }
+    Throwable firstFailure = null;
+    try {
+      task.run(0, chunkSize);
+    } catch (RuntimeException e) {
+      firstFailure = e;
+    } catch (Error e) {
+      firstFailure = e;
+    }
+    for (Future<?> chunk : chunks) {
+      Throwable failure = waitFor(chunk);
+      if (firstFailure == null) {
+        firstFailure = failure;
+      }
+    }
+    if (firstFailure instanceof Error) {
+      throw (Error) firstFailure;
+    }
+    if (firstFailure != null) {
+      throw (RuntimeException) firstFailure;
+    }
+  }
+
+  /**
+   * Runs the given task once in each thread, the calling thread included, to process elements whose number is not known
+   * in advance (the task is expected to take its elements from a shared source until it runs out.) The threshold is not
+   * checked, but the task runs only once, in the calling thread, if there is a single thread or if the calling thread
+   * is itself a worker thread. Failures are reported as in {@link #forEachRange(int, RangeTask)}.
+   *
+   * @param task the task to run; the range it is given is the index of the thread running it.
+   */
+  static void forEachWorker(@NotNull RangeTask task) {
+    int count = workerCount();
+    // each index stands for enough elements to reach the threshold, so that there is one chunk per thread
+    forEachRange(count, max(threshold / count + 1, 1), task);
+  }
+
+  // Returns the Error or RuntimeException thrown by the given chunk, or null if it completed normally.
+  private static @Nullable Throwable waitFor(@NotNull Future<?> chunk) {
+    try {
+      chunk.get();
+      return null;
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Error || cause instanceof RuntimeException) {
+        return cause;
+      }
+      return new IllegalStateException(cause);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return new IllegalStateException("Interrupted while waiting for parallel work to complete", e);
+    }
+  }
+
+  private static synchronized @NotNull ExecutorService workers() {
+    if (workers == null) {
+      workers = newFixedThreadPool(max(workerCount - 1, 1), new WorkerThreadFactory());
+    }
+    return workers;
+  }
+
+  /**
+   * Work to be done over a range of indices.
+   */
+  interface RangeTask {
+    /**
+     * Processes the elements in the range {@code [from, to)}.
+     *
+     * @param from the first index, inclusive.
+     * @param to   the last index, exclusive.
+     */
+    void run(int from, int to);
+  }
+
+  private static class Chunk implements Runnable {
+    private final RangeTask task;
+    private final int from;
+    private final int to;
+
+    Chunk(@NotNull RangeTask task, int from, int to) {
+      this.task = task;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    public void run() {
+      task.run(from, to);
+    }
+  }
+
+  private static class WorkerThreadFactory implements ThreadFactory {
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public @NotNull Thread newThread(@NotNull final Runnable r) {
+      Thread thread = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          // work running in a worker thread is never split again, to avoid waiting on a saturated pool
+          IN_WORKER.set(true);
+          r.run();
+        }
+      }, "fest-assert-worker-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.jetbrains.annotations.NotNull;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Compiles regular expressions, keeping the most recently used {@link Pattern}s so that assertions using the same
+ * regular expression over and over only pay for the match.
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+final class PatternCache {
+  static final int MAX_SIZE = 256;
+
+  private static final Map<String, Pattern> CACHE = new LeastRecentlyUsed();
+
+  /**
+   * Returns the compiled form of the given regular expression.
+   *
+   * @param regex the regular expression to compile.
+   * @return the compiled regular expression.
+   * @throws NullPointerException                   if the given regular expression is {@code null}.
+   * @throws java.util.regex.PatternSyntaxException if the given regular expression is not valid.
+   */
+  static @NotNull Pattern compile(@NotNull String regex) {
+    checkNotNull(regex);
+    synchronized (CACHE) {
+      Pattern pattern = CACHE.get(regex);
+      if (pattern == null) {
+        pattern = Pattern.compile(regex);
+        CACHE.put(regex, pattern);
+      }
+      return pattern;
+    }
+  }
+
+  static int size() {
+    synchronized (CACHE) {
+      return CACHE.size();
+    }
+  }
+
+  private PatternCache() {
+  }
+
+  private static class LeastRecentlyUsed extends LinkedHashMap<String, Pattern> {
+    private static final long serialVersionUID = 1L;
+
+    LeastRecentlyUsed() {
+      super(16, 0.75f, true);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+      return size() > MAX_SIZE;
+    }
+  }
+}
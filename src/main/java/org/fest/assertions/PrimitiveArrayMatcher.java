@@ -0,0 +1,286 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.jetbrains.annotations.NotNull;
+import java.util.List;
+
+import static java.lang.Double.doubleToLongBits;
+import static java.lang.Float.floatToIntBits;
+import static java.lang.reflect.Array.get;
+import static java.util.Arrays.copyOf;
+import static org.fest.assertions.ArrayInspection.sizeOf;
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Looks up the values of an array of primitives in another array of primitives of the same type, without boxing any of
+ * the elements of the scanned array.
+ * <p/>
+ * The expected values are indexed in a {@link LongKeyTable} (they are usually a handful) and the actual array is then
+ * scanned once, in its natural order. Only the elements reported back to the caller are boxed. Values are compared the
+ * same way their wrapper types do in {@code equals}: {@code NaN} is equal to itself and {@code 0.0} is not equal to
+ * {@code -0.0}.
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+final class PrimitiveArrayMatcher {
+  private final Object values;
+  private final LongKeyTable expected;
+  private final boolean[] seen;
+  private int seenCount;
+  private boolean stopWhenAllSeen;
+  private LongKeyTable unexpected;
+  private int[] unexpectedIndices;
+
+  /**
+   * Creates a new {@link PrimitiveArrayMatcher}.
+   *
+   * @param values the values to look for.
+   * @return the created matcher.
+   * @throws NullPointerException     if the given array is {@code null}.
+   * @throws IllegalArgumentException if the given object is not an array of primitives.
+   */
+  static @NotNull PrimitiveArrayMatcher matcherFor(@NotNull Object values) {
+    return new PrimitiveArrayMatcher(checkNotNull(values));
+  }
+
+  private PrimitiveArrayMatcher(@NotNull Object values) {
+    this.values = values;
+    int length = sizeOf(values);
+    expected = new LongKeyTable(length);
+    for (int i = 0; i < length; i++) {
+      expected.add(keyAt(values, i));
+    }
+    seen = new boolean[expected.size()];
+  }
+
+  /**
+   * Returns the values (including duplicates) that are not in the given array, in the order they were specified. The
+   * scan of the given array stops as soon as all the values have been found.
+   *
+   * @param actual the array to look in.
+   * @return the values that are not in the given array.
+   */
+  @NotNull List<Object> notFoundIn(@NotNull Object actual) {
+    stopWhenAllSeen = true;
+    scan(actual);
+    return values(false, true);
+  }
+
+  /**
+   * Returns the values (including duplicates) that are in the given array, in the order they were specified. The scan
+   * of the given array stops as soon as all the values have been found.
+   *
+   * @param actual the array to look in.
+   * @return the values that are in the given array.
+   */
+  @NotNull List<Object> foundIn(@NotNull Object actual) {
+    stopWhenAllSeen = true;
+    scan(actual);
+    return values(true, true);
+  }
+
+  /**
+   * Returns the elements of the given array that are not among the values, without duplicates and in the order they
+   * appear in the array. The whole array is scanned, after which {@link #distinctNotFound()} returns the values that
+   * were not found.
+   *
+   * @param actual the array to look in.
+   * @return the elements of the given array that are not among the values.
+   */
+  @NotNull List<Object> unexpectedIn(@NotNull Object actual) {
+    stopWhenAllSeen = false;
+    unexpected = new LongKeyTable(0);
+    unexpectedIndices = new int[8];
+    scan(actual);
+    List<Object> elements = newArrayList();
+    for (int i = 0; i < unexpected.size(); i++) {
+      elements.add(get(actual, unexpectedIndices[i]));
+    }
+    return elements;
+  }
+
+  /**
+   * Returns the values (without duplicates) that were not found by the last scan, in the order they were specified.
+   *
+   * @return the values that were not found by the last scan.
+   */
+  @NotNull List<Object> distinctNotFound() {
+    return values(false, false);
+  }
+
+  private @NotNull List<Object> values(boolean found, boolean includeDuplicates) {
+    List<Object> result = newArrayList();
+    boolean[] reported = new boolean[seen.length];
+    int length = sizeOf(values);
+    for (int i = 0; i < length; i++) {
+      int ordinal = expected.indexOf(keyAt(values, i));
+      if (seen[ordinal] != found || (!includeDuplicates && reported[ordinal])) {
+        continue;
+      }
+      reported[ordinal] = true;
+      result.add(get(values, i));
+    }
+    return result;
+  }
+
+  private void scan(@NotNull Object actual) {
+    if (isDone()) {
+      return;
+    }
+    if (actual instanceof int[]) {
+      int[] array = (int[]) actual;
+      for (int i = 0; i < array.length; i++) {
+        if (visit(array[i], i)) {
+          return;
+        }
+      }
+      return;
+    }
+    if (actual instanceof long[]) {
+      long[] array = (long[]) actual;
+      for (int i = 0; i < array.length; i++) {
+        if (visit(array[i], i)) {
+          return;
+        }
+      }
+      return;
+    }
+    if (actual instanceof double[]) {
+      double[] array = (double[]) actual;
+      for (int i = 0; i < array.length; i++) {
+        if (visit(doubleToLongBits(array[i]), i)) {
+          return;
+        }
+      }
+      return;
+    }
+    if (actual instanceof float[]) {
+      float[] array = (float[]) actual;
+      for (int i = 0; i < array.length; i++) {
+        if (visit(floatToIntBits(array[i]), i)) {
+          return;
+        }
+      }
+      return;
+    }
+    if (actual instanceof short[]) {
+      short[] array = (short[]) actual;
+      for (int i = 0; i < array.length; i++) {
+        if (visit(array[i], i)) {
+          return;
+        }
+      }
+      return;
+    }
+    if (actual instanceof char[]) {
+      char[] array = (char[]) actual;
+      for (int i = 0; i < array.length; i++) {
+        if (visit(array[i], i)) {
+          return;
+        }
+      }
+      return;
+    }
+    if (actual instanceof byte[]) {
+      byte[] array = (byte[]) actual;
+      for (int i = 0; i < array.length; i++) {
+        if (visit(array[i], i)) {
+          return;
+        }
+      }
+      return;
+    }
+    if (actual instanceof boolean[]) {
+      boolean[] array = (boolean[]) actual;
+      for (int i = 0; i < array.length; i++) {
+        if (visit(array[i] ? 1 : 0, i)) {
+          return;
+        }
+      }
+      return;
+    }
+    throw new IllegalArgumentException("The given object is not an array of primitives");
+  }
+
+  private boolean visit(long key, int index) {
+    int ordinal = expected.indexOf(key);
+    if (ordinal < 0) {
+      if (unexpected != null) {
+        recordUnexpected(key, index);
+      }
+      return false;
+    }
+    if (!seen[ordinal]) {
+      seen[ordinal] = true;
+      seenCount++;
+    }
+    return isDone();
+  }
+
+  private boolean isDone() {
+    return stopWhenAllSeen && seenCount == seen.length;
+  }
+
+  private void recordUnexpected(long key, int index) {
+    int count = unexpected.size();
+    if (unexpected.add(key) < count) {
+      return;
+    }
+    if (count == unexpectedIndices.length) {
+      unexpectedIndices = copyOf(unexpectedIndices, count * 2);
+    }
+    unexpectedIndices[count] = index;
+  }
+
+  /**
+   * Returns the key of the element at the given index in the given array of primitives. The keys of two elements are
+   * equal if and only if their wrappers are equal.
+   *
+   * @param array the array of primitives.
+   * @param index the index of the element.
+   * @return the key of the element at the given index.
+   * @throws IllegalArgumentException if the given object is not an array of primitives.
+   */
+  static long keyAt(@NotNull Object array, int index) {
+    if (array instanceof int[]) {
+      return ((int[]) array)[index];
+    }
+    if (array instanceof long[]) {
+      return ((long[]) array)[index];
+    }
+    if (array instanceof double[]) {
+      return doubleToLongBits(((double[]) array)[index]);
+    }
+    if (array instanceof float[]) {
+      return floatToIntBits(((float[]) array)[index]);
+    }
+    if (array instanceof short[]) {
+      return ((short[]) array)[index];
+    }
+    if (array instanceof char[]) {
+      return ((char[]) array)[index];
+    }
+    if (array instanceof byte[]) {
+      return ((byte[]) array)[index];
+    }
+    if (array instanceof boolean[]) {
+      return ((boolean[]) array)[index] ? 1 : 0;
+    }
+    throw new IllegalArgumentException("The given object is not an array of primitives");
+  }
+}
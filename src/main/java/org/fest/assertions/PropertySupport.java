@@ -14,6 +14,7 @@
  */
 package org.fest.assertions;
 
+import org.fest.assertions.Parallelism.RangeTask;
 import org.fest.util.IntrospectionError;
 import org.fest.util.Preconditions;
 import org.fest.util.VisibleForTesting;
@@ -21,11 +22,17 @@ import org.fest.util.VisibleForTesting;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static org.fest.assertions.Parallelism.arePropertyGettersThreadSafe;
+import static org.fest.assertions.Parallelism.forEachRange;
+import static org.fest.assertions.Parallelism.isParallel;
 import static org.fest.util.Collections.isNullOrEmpty;
-import static org.fest.util.Collections.nonNullElementsIn;
 import static org.fest.util.Introspection.getProperty;
 import static org.fest.util.Lists.emptyList;
 import static org.fest.util.Lists.newArrayList;
@@ -42,7 +49,11 @@ import static org.fest.util.Strings.quote;
 final class PropertySupport {
   private static final String SEPARATOR = ".";
   private static final PropertySupport INSTANCE = new PropertySupport();
+  private static final Object SKIPPED = new Object();
   private final JavaBeanDescriptor javaBeanDescriptor;
+  // weak keys let classes be unloaded: PropertyDescriptor only keeps weak references to its bean class and methods
+  private final Map<Class<?>, Map<String, PropertyDescriptor>> descriptorsByType =
+      new WeakHashMap<Class<?>, Map<String, PropertyDescriptor>>();
 
   private PropertySupport() {
     this(new JavaBeanDescriptor());
@@ -60,12 +71,14 @@ final class PropertySupport {
    * Returns a list containing the values of the given property name, from the elements of the given collection. If the
    * given collection is empty or {@code null}, this method will return an empty collection.
    * <p/>
-   * For example, given the nested property "address.street.number", this method will:
-   * <ol>
-   * <li>extract a collection of "address" from the given collection (remaining property is 'street.number')</li>
-   * <li>extract a collection of "street" from the "address" collection (remaining property is 'number')</li>
-   * <li>extract a collection of "number" from the "street" collection</li>
-   * </ol>
+   * For example, given the nested property "address.street.number", this method will, for each element of the given
+   * collection, get its "address", then the "street" of the "address", and finally the "number" of the "street".
+   * Elements that are {@code null}, or whose "address" or "street" are {@code null}, are ignored.
+   * <p/>
+   * The whole property path is extracted from each element in a single pass, without intermediate collections. If
+   * property getters have been declared thread-safe and the given collection is large enough (see
+   * {@link Parallelism}) elements are processed in parallel; the returned list still has the order of the given
+   * collection.
    *
    * @param propertyName the name of the property. It may be a nested property.
    * @param target       the given collection.
@@ -77,27 +90,62 @@ final class PropertySupport {
     if (isNullOrEmpty(target)) {
       return emptyList();
     }
-    // ignore null elements as we can't extract a property from a null object
-    Collection<?> nonNullElements = nonNullElementsIn(target);
-    if (isNestedProperty(propertyName)) {
-      String firstProperty = firstPropertyIfNested(propertyName);
-      List<Object> firstPropertyValues = propertyValues(firstProperty, nonNullElements);
-      // extract next sub property values until reaching a last sub property
-      return propertyValues(removeFirstPropertyIfNested(propertyName), firstPropertyValues);
+    String[] path = pathOf(propertyName);
+    if (!arePropertyGettersThreadSafe() || !isParallel(target.size())) {
+      List<Object> propertyValues = newArrayList();
+      for (Object e : target) {
+        Object value = propertyValue(path, e);
+        if (value != SKIPPED) {
+          propertyValues.add(value);
+        }
+      }
+      return propertyValues;
     }
-    return simplePropertyValues(propertyName, nonNullElements);
+    return parallelPropertyValues(path, target.toArray());
   }
 
-  private @NotNull List<Object> simplePropertyValues(@NotNull String propertyName, @NotNull Collection<?> target) {
-    List<Object> propertyValues = newArrayList();
-    for (Object e : target) {
-      if (e != null) {
-        propertyValues.add(propertyValue(propertyName, e));
+  private @NotNull List<Object> parallelPropertyValues(@NotNull final String[] path, @NotNull final Object[] elements) {
+    // each element is replaced with its property value, in place
+    forEachRange(elements.length, new RangeTask() {
+      @Override
+      public void run(int from, int to) {
+        for (int i = from; i < to; i++) {
+          elements[i] = propertyValue(path, elements[i]);
+        }
+      }
+    });
+    List<Object> propertyValues = new ArrayList<Object>(elements.length);
+    for (Object value : elements) {
+      if (value != SKIPPED) {
+        propertyValues.add(value);
       }
     }
     return propertyValues;
   }
 
+  private @NotNull String[] pathOf(@NotNull String propertyName) {
+    List<String> path = newArrayList();
+    String remaining = propertyName;
+    while (isNestedProperty(remaining)) {
+      path.add(firstPropertyIfNested(remaining));
+      remaining = removeFirstPropertyIfNested(remaining);
+    }
+    path.add(remaining);
+    return path.toArray(new String[path.size()]);
+  }
+
+  // we can't extract a property from a null object: elements with a null value along the path are skipped
+  private @Nullable Object propertyValue(@NotNull String[] path, @Nullable Object element) {
+    Object value = element;
+    for (String propertyName : path) {
+      if (value == null) {
+        return SKIPPED;
+      }
+      value = propertyValue(propertyName, value);
+    }
+    return value;
+  }
+
   /**
    * Returns {@code true} if property is nested, {@code false} otherwise.
    * <p/>
@@ -158,10 +206,41 @@ final class PropertySupport {
   }
 
   private @Nullable Object propertyValue(@NotNull String propertyName, @NotNull Object target) {
-    PropertyDescriptor descriptor = getProperty(propertyName, target);
+    PropertyDescriptor descriptor = descriptorOf(propertyName, target);
     return propertyValue(descriptor, propertyName, target);
   }
 
+  /**
+   * Returns the descriptor of the property with the given name in the given object. Descriptors are cached per type,
+   * so the JavaBeans introspection happens only once per type and property name.
+   *
+   * @param propertyName the name of the property.
+   * @param target       the object containing the property.
+   * @return the descriptor of the property.
+   * @throws IntrospectionError if the given object does not have a matching property.
+   */
+  @VisibleForTesting
+  @NotNull PropertyDescriptor descriptorOf(@NotNull String propertyName, @NotNull Object target) {
+    Map<String, PropertyDescriptor> descriptors = descriptorsOf(target.getClass());
+    PropertyDescriptor descriptor = descriptors.get(propertyName);
+    if (descriptor == null) {
+      descriptor = getProperty(propertyName, target);
+      descriptors.put(propertyName, descriptor);
+    }
+    return descriptor;
+  }
+
+  private @NotNull Map<String, PropertyDescriptor> descriptorsOf(@NotNull Class<?> type) {
+    synchronized (descriptorsByType) {
+      Map<String, PropertyDescriptor> descriptors = descriptorsByType.get(type);
+      if (descriptors == null) {
+        descriptors = new ConcurrentHashMap<String, PropertyDescriptor>();
+        descriptorsByType.put(type, descriptors);
+      }
+      return descriptors;
+    }
+  }
+
   @VisibleForTesting
   @Nullable Object propertyValue(
       @NotNull PropertyDescriptor descriptor, @NotNull String propertyName, @NotNull Object target) {
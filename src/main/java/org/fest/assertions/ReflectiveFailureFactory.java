@@ -0,0 +1,113 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.lang.reflect.Constructor;
+
+import static org.fest.util.Strings.isNullOrEmpty;
+
+/**
+ * The default {@link FailureFactory}: creates JUnit 4's {@code ComparisonFailure} or, if JUnit 4 is not available,
+ * opentest4j's {@code AssertionFailedError}.
+ * <p/>
+ * The constructor to use is looked up once, when this factory is created, and the result of the look-up (including
+ * not finding any of those classes) is kept for the lifetime of the factory.
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+final class ReflectiveFailureFactory implements FailureFactory {
+  private static final String JUNIT_COMPARISON_FAILURE = "org.junit.ComparisonFailure";
+  private static final String OPENTEST4J_ASSERTION_FAILED_ERROR = "org.opentest4j.AssertionFailedError";
+
+  private final Constructor<?> constructor;
+  private final boolean junit;
+
+  /**
+   * Creates a new {@link ReflectiveFailureFactory}, looking up the failure types in the given class loader.
+   *
+   * @param classLoader the class loader to look up the failure types in, or {@code null} for the bootstrap one.
+   * @return the created factory.
+   */
+  static @NotNull ReflectiveFailureFactory resolve(@Nullable ClassLoader classLoader) {
+    Constructor<?> constructor = constructor(JUNIT_COMPARISON_FAILURE, classLoader, String.class, String.class,
+        String.class);
+    if (constructor != null) {
+      return new ReflectiveFailureFactory(constructor, true);
+    }
+    constructor = constructor(OPENTEST4J_ASSERTION_FAILED_ERROR, classLoader, String.class, Object.class, Object.class);
+    return new ReflectiveFailureFactory(constructor, false);
+  }
+
+  private static @Nullable Constructor<?> constructor(@NotNull String className, @Nullable ClassLoader classLoader,
+                                                      @NotNull Class<?>... parameterTypes) {
+    try {
+      Class<?> type = Class.forName(className, false, classLoader);
+      if (!AssertionError.class.isAssignableFrom(type)) {
+        return null;
+      }
+      return type.getConstructor(parameterTypes);
+    } catch (ClassNotFoundException e) {
+      return null;
+    } catch (NoSuchMethodException e) {
+      return null;
+    } catch (LinkageError e) {
+      return null;
+    } catch (SecurityException e) {
+      return null;
+    }
+  }
+
+  private ReflectiveFailureFactory(@Nullable Constructor<?> constructor, boolean junit) {
+    this.constructor = constructor;
+    this.junit = junit;
+  }
+
+  /**
+   * Indicates whether this factory found a failure type to create.
+   *
+   * @return {@code true} if this factory can create failures, {@code false} otherwise.
+   */
+  boolean isAvailable() {
+    return constructor != null;
+  }
+
+  @Override
+  public @Nullable AssertionError comparisonFailure(@NotNull String message, @Nullable String expected,
+                                                    @Nullable String actual) {
+    if (constructor == null) {
+      return null;
+    }
+    try {
+      if (junit) {
+        // ComparisonFailure appends the expected and actual values to the message by itself
+        return (AssertionError) constructor.newInstance(inBrackets(message), expected, actual);
+      }
+      String fullMessage = String.format("expected:<%s> but was:<%s>", expected, actual);
+      if (!isNullOrEmpty(message)) {
+        fullMessage = String.format("%s %s", inBrackets(message), fullMessage);
+      }
+      return (AssertionError) constructor.newInstance(fullMessage, expected, actual);
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  private static @NotNull String inBrackets(@NotNull String message) {
+    return isNullOrEmpty(message) ? "" : String.format("[%s]", message);
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.jetbrains.annotations.NotNull;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static org.fest.util.Objects.areEqual;
+
+/**
+ * Utility methods for finding sequences of objects in {@code List}s. Elements are compared with {@code equals}.
+ * <p/>
+ * Lists are traversed with iterators, so searching a {@code LinkedList} takes linear time, like searching an
+ * {@code ArrayList}.
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+final class Sequences {
+  private Sequences() {
+  }
+
+  /**
+   * Returns the index of the first occurrence of the given sequence in the given list, using the Knuth-Morris-Pratt
+   * algorithm. The given list is traversed only once.
+   *
+   * @param list     the list to look in.
+   * @param sequence the sequence to look for.
+   * @return the index of the first occurrence of the given sequence in the given list, or -1 if the list does not contain
+   *         it. An empty sequence is found at index 0.
+   */
+  static int indexOfSequence(@NotNull List<?> list, @NotNull Object[] sequence) {
+    int sequenceSize = sequence.length;
+    if (sequenceSize == 0) {
+      return 0;
+    }
+    if (list.size() < sequenceSize) {
+      return -1;
+    }
+    int[] fallback = fallbackTable(sequence);
+    int matched = 0;
+    int index = 0;
+    for (Object element : list) {
+      while (matched > 0 && !areEqual(sequence[matched], element)) {
+        matched = fallback[matched - 1];
+      }
+      if (areEqual(sequence[matched], element)) {
+        matched++;
+      }
+      if (matched == sequenceSize) {
+        return index - sequenceSize + 1;
+      }
+      index++;
+    }
+    return -1;
+  }
+
+  // fallback[i] is the length of the longest proper prefix of sequence[0..i] that is also a suffix of it
+  private static @NotNull int[] fallbackTable(@NotNull Object[] sequence) {
+    int[] fallback = new int[sequence.length];
+    int length = 0;
+    for (int i = 1; i < sequence.length; i++) {
+      while (length > 0 && !areEqual(sequence[i], sequence[length])) {
+        length = fallback[length - 1];
+      }
+      if (areEqual(sequence[i], sequence[length])) {
+        length++;
+      }
+      fallback[i] = length;
+    }
+    return fallback;
+  }
+
+  /**
+   * Indicates whether the given list starts with the given sequence.
+   *
+   * @param list     the list to look in.
+   * @param sequence the sequence to look for.
+   * @return {@code true} if the given list starts with the given sequence, {@code false} otherwise.
+   */
+  static boolean startsWithSequence(@NotNull List<?> list, @NotNull Object[] sequence) {
+    return list.size() >= sequence.length && matchesFrom(list, 0, sequence);
+  }
+
+  /**
+   * Indicates whether the given list ends with the given sequence.
+   *
+   * @param list     the list to look in.
+   * @param sequence the sequence to look for.
+   * @return {@code true} if the given list ends with the given sequence, {@code false} otherwise.
+   */
+  static boolean endsWithSequence(@NotNull List<?> list, @NotNull Object[] sequence) {
+    int listSize = list.size();
+    return listSize >= sequence.length && matchesFrom(list, listSize - sequence.length, sequence);
+  }
+
+  private static boolean matchesFrom(@NotNull List<?> list, int start, @NotNull Object[] sequence) {
+    if (list instanceof RandomAccess) {
+      for (int i = 0; i < sequence.length; i++) {
+        if (!areEqual(sequence[i], list.get(start + i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    // listIterator(int) walks from whichever end of a linked list is closer to 'start'
+    Iterator<?> iterator = list.listIterator(start);
+    for (Object expected : sequence) {
+      if (!areEqual(expected, iterator.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -18,7 +18,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.util.Arrays;
 
-import static org.fest.assertions.ArrayInspection.copy;
 import static org.fest.assertions.ErrorMessages.unexpectedEqual;
 import static org.fest.assertions.ErrorMessages.unexpectedNotEqual;
 
@@ -50,7 +49,7 @@ public class ShortArrayAssert extends ArrayAssert<ShortArrayAssert, short[]> {
    * @throws AssertionError       if the actual {@code short} array does not contain the given values.
    */
   public @NotNull ShortArrayAssert contains(@NotNull short... values) {
-    assertContains(copy(values));
+    assertContainsValues(values);
     return this;
   }
 
@@ -65,7 +64,114 @@ public class ShortArrayAssert extends ArrayAssert<ShortArrayAssert, short[]> {
    *                              {@code short} array contains elements other than the ones specified.
    */
   public @NotNull ShortArrayAssert containsOnly(@NotNull short... values) {
-    assertContainsOnly(copy(values));
+    assertContainsOnlyValues(values);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code short} array contains exactly the given values, in any order: each value must
+   * appear in the actual array as many times as it is given.
+   *
+   * @param values the values to look for.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code short} array is {@code null}.
+   * @throws NullPointerException if the given {@code short} array is {@code null}.
+   * @throws AssertionError       if some of the given values appear fewer times in the actual {@code short} array, or
+   *                              if the actual {@code short} array contains values, or copies of values, other than the
+   *                              ones specified.
+   * @since 1.5
+   */
+  public @NotNull ShortArrayAssert containsExactlyInAnyOrder(@NotNull short... values) {
+    assertContainsExactlyInAnyOrderValues(values);
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code short} array does not have duplicates.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code short} array is {@code null}.
+   * @throws AssertionError if the actual {@code short} array has duplicates.
+   * @since 1.5
+   */
+  public @NotNull ShortArrayAssert doesNotHaveDuplicates() {
+    assertDoesNotHaveDuplicateValues();
+    return this;
+  }
+
+  /**
+   * Verifies that the elements of the actual {@code short} array are sorted in ascending order. Equal consecutive
+   * elements are allowed.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code short} array is {@code null}.
+   * @throws AssertionError if the actual {@code short} array is not sorted.
+   * @since 1.5
+   */
+  public @NotNull ShortArrayAssert isSorted() {
+    assertIsSortedValues(false);
+    return this;
+  }
+
+  /**
+   * Verifies that the elements of the actual {@code short} array are sorted in ascending order, and that no element is
+   * equal to the one before it.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code short} array is {@code null}.
+   * @throws AssertionError if the actual {@code short} array is not strictly sorted.
+   * @since 1.5
+   */
+  public @NotNull ShortArrayAssert isStrictlySorted() {
+    assertIsSortedValues(true);
+    return this;
+  }
+
+  /**
+   * Verifies that all the elements of the actual {@code short} array satisfy the given condition. Large arrays are
+   * checked in parallel if the condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code short} array is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if an element of the actual {@code short} array does not satisfy the given condition.
+   * @since 1.5
+   */
+  public @NotNull ShortArrayAssert allSatisfy(@NotNull Condition<Short> condition) {
+    assertAllSatisfy(condition);
+    return this;
+  }
+
+  /**
+   * Verifies that at least one element of the actual {@code short} array satisfies the given condition. Large arrays
+   * are checked in parallel if the condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code short} array is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if no element of the actual {@code short} array satisfies the given condition.
+   * @since 1.5
+   */
+  public @NotNull ShortArrayAssert anySatisfy(@NotNull Condition<Short> condition) {
+    assertAnySatisfy(condition);
+    return this;
+  }
+
+  /**
+   * Verifies that no element of the actual {@code short} array satisfies the given condition. Large arrays are checked
+   * in parallel if the condition has been marked as thread-safe with {@link Condition#asThreadSafe()}.
+   *
+   * @param condition the condition to evaluate.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code short} array is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if an element of the actual {@code short} array satisfies the given condition.
+   * @since 1.5
+   */
+  public @NotNull ShortArrayAssert noneSatisfy(@NotNull Condition<Short> condition) {
+    assertNoneSatisfy(condition);
     return this;
   }
 
@@ -79,7 +185,7 @@ public class ShortArrayAssert extends ArrayAssert<ShortArrayAssert, short[]> {
    * @throws AssertionError       if the actual {@code Object} array contains any of the given values.
    */
   public @NotNull ShortArrayAssert excludes(short... values) {
-    assertExcludes(copy(values));
+    assertExcludesValues(values);
     return this;
   }
 
@@ -0,0 +1,151 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.jetbrains.annotations.NotNull;
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+import static org.fest.assertions.Fail.failure;
+import static org.fest.assertions.Fail.setStackTraceMode;
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Collects the failures of many assertions and reports them all at once, instead of stopping at the first one.
+ * <p/>
+ * Each check is run through {@link #check(Runnable)}: a failed assertion ends the check it belongs to, but not the
+ * following ones. Failed assertions inside a check create their {@code AssertionError}s without a stack trace (see
+ * {@link StackTraceMode#NONE}), so failing is cheap. {@link #assertAll()} then throws a single {@code AssertionError}
+ * listing the recorded failures, with a regular stack trace.
+ * <p/>
+ * Only the first failures, up to the number given when creating this collector, are kept in memory; the rest are only
+ * counted.
+ * <p/>
+ * Example:
+ * <pre>
+ * final SoftAssertions softly = new SoftAssertions();
+ * for (final Employee employee : employees) {
+ *   softly.check(new Runnable() {
+ *     public void run() {
+ *       assertThat(employee.getName()).isNotEmpty();
+ *       assertThat(employee.getAge()).isGreaterThan(17);
+ *     }
+ *   });
+ * }
+ * softly.assertAll();
+ * </pre>
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+public class SoftAssertions {
+  /**
+   * The default maximum number of failures kept in memory.
+   */
+  public static final int DEFAULT_MAX_RECORDED_FAILURES = 100;
+
+  private final int maxRecordedFailures;
+  private final List<AssertionError> failures = newArrayList();
+  private int failureCount;
+
+  /**
+   * Creates a new {@link SoftAssertions} that keeps up to {@link #DEFAULT_MAX_RECORDED_FAILURES} failures in memory.
+   */
+  public SoftAssertions() {
+    this(DEFAULT_MAX_RECORDED_FAILURES);
+  }
+
+  /**
+   * Creates a new {@link SoftAssertions}.
+   *
+   * @param maxRecordedFailures the maximum number of failures to keep in memory.
+   * @throws IllegalArgumentException if the given number is negative.
+   */
+  public SoftAssertions(int maxRecordedFailures) {
+    if (maxRecordedFailures < 0) {
+      throw new IllegalArgumentException("The maximum number of recorded failures should not be negative");
+    }
+    this.maxRecordedFailures = maxRecordedFailures;
+  }
+
+  /**
+   * Runs the given check, recording the failure of any of its assertions instead of throwing it. Assertions after the
+   * failed one, in the same check, are not run. Any other exception is not caught.
+   *
+   * @param check the check to run.
+   * @return {@code true} if the check passed, {@code false} otherwise.
+   * @throws NullPointerException if the given check is {@code null}.
+   */
+  public final boolean check(@NotNull Runnable check) {
+    checkNotNull(check);
+    StackTraceMode previous = setStackTraceMode(StackTraceMode.NONE);
+    try {
+      check.run();
+      return true;
+    } catch (AssertionError e) {
+      record(e);
+      return false;
+    } finally {
+      setStackTraceMode(previous);
+    }
+  }
+
+  private synchronized void record(@NotNull AssertionError failure) {
+    failureCount++;
+    if (failures.size() < maxRecordedFailures) {
+      failures.add(failure);
+    }
+  }
+
+  /**
+   * Returns the number of failed checks, including the ones whose failure was not kept in memory.
+   *
+   * @return the number of failed checks.
+   */
+  public final synchronized int failureCount() {
+    return failureCount;
+  }
+
+  /**
+   * Returns the failures kept in memory, in the order they occurred.
+   *
+   * @return the failures kept in memory.
+   */
+  public final synchronized @NotNull List<AssertionError> failures() {
+    return unmodifiableList(newArrayList(failures));
+  }
+
+  /**
+   * Verifies that all the checks passed.
+   *
+   * @throws AssertionError listing the recorded failures, if any check failed.
+   */
+  public final synchronized void assertAll() {
+    if (failureCount == 0) {
+      return;
+    }
+    StringBuilder b = new StringBuilder();
+    b.append(String.format("%d check(s) failed:", failureCount));
+    for (int i = 0; i < failures.size(); i++) {
+      b.append(String.format("%n%d) %s", i + 1, failures.get(i).getMessage()));
+    }
+    int notShown = failureCount - failures.size();
+    if (notShown > 0) {
+      b.append(String.format("%n(%d more)", notShown));
+    }
+    throw failure(b.toString());
+  }
+}
@@ -0,0 +1,218 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.assertions.Parallelism.RangeTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.Math.min;
+import static org.fest.assertions.ArrayInspection.sizeOf;
+import static org.fest.assertions.Parallelism.forEachRange;
+
+/**
+ * Finds the first element of an array or list that is out of order, comparing each element with the one before it in
+ * a single pass. Arrays of primitives are compared without boxing their elements, in the same order
+ * {@link java.util.Arrays#sort(int[])} and its overloads sort them: {@code -0.0} is less than {@code 0.0}, {@code NaN}
+ * is greater than any other value and {@code false} is less than {@code true}.
+ * <p/>
+ * Arrays of primitives with at least {@link Parallelism#threshold()} elements are split in contiguous ranges, checked
+ * in parallel (see {@link Parallelism}.) Ranges share the lowest out-of-order index found so far, and ranges starting
+ * after it stop early. The result is the same as when the array is checked in a single thread. Lists are always
+ * checked in the calling thread: comparing their elements runs their {@code compareTo} or the given comparator, which
+ * may not be thread-safe.
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+final class SortOrder {
+  // number of elements checked between two looks at the index found by other ranges
+  private static final int BLOCK_SIZE = 1 << 14;
+  private static final int NONE = Integer.MAX_VALUE;
+
+  private SortOrder() {
+  }
+
+  /**
+   * Returns the index of the first element of the given array of primitives that is less than (or, if {@code strict},
+   * equal to) the element before it.
+   *
+   * @param array  the array of primitives.
+   * @param strict whether equal consecutive elements are out of order.
+   * @return the index of the first element out of order, or -1 if the array is sorted.
+   * @throws IllegalArgumentException if the given object is not an array of primitives.
+   */
+  static int firstUnsortedIndex(@NotNull final Object array, final boolean strict) {
+    return search(sizeOf(array), new Block() {
+      @Override
+      int firstUnsortedIndex(int from, int to) {
+        return firstUnsortedIndexIn(array, from, to, strict);
+      }
+    });
+  }
+
+  /**
+   * Returns the index of the first element of the given list that is less than (or, if {@code strict}, equal to) the
+   * element before it. Elements are compared in the calling thread.
+   *
+   * @param list       the list, which should support fast random access.
+   * @param comparator the comparator to use, or {@code null} to use the natural ordering of the elements.
+   * @param strict     whether equal consecutive elements are out of order.
+   * @return the index of the first element out of order, or -1 if the list is sorted.
+   * @throws ClassCastException   if no comparator is given and the elements are not mutually comparable.
+   * @throws NullPointerException if no comparator is given and the list contains {@code null}.
+   */
+  static int firstUnsortedIndex(@NotNull List<?> list, @Nullable Comparator<Object> comparator, boolean strict) {
+    return firstUnsortedIndexIn(list, comparator, 0, list.size() - 1, strict);
+  }
+
+  private static int search(int size, @NotNull final Block block) {
+    if (size < 2) {
+      return -1;
+    }
+    final AtomicInteger found = new AtomicInteger(NONE);
+    // index i of the range stands for the pair of elements (i, i + 1)
+    forEachRange(size - 1, new RangeTask() {
+      @Override
+      public void run(int from, int to) {
+        for (int start = from; start < to && start < found.get(); start += BLOCK_SIZE) {
+          int index = block.firstUnsortedIndex(start, min(start + BLOCK_SIZE, to));
+          if (index >= 0) {
+            record(found, index);
+            return;
+          }
+        }
+      }
+    });
+    int index = found.get();
+    return index == NONE ? -1 : index;
+  }
+
+  private static void record(@NotNull AtomicInteger found, int index) {
+    while (true) {
+      int current = found.get();
+      if (index >= current || found.compareAndSet(current, index)) {
+        return;
+      }
+    }
+  }
+
+  private static abstract class Block {
+    // compares the pairs of elements (i, i + 1) for i in [from, to)
+    abstract int firstUnsortedIndex(int from, int to);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static int firstUnsortedIndexIn(@NotNull List<?> list, @Nullable Comparator<Object> comparator, int from,
+      int to, boolean strict) {
+    if (from >= to) {
+      return -1;
+    }
+    Object previous = list.get(from);
+    for (int i = from + 1; i <= to; i++) {
+      Object current = list.get(i);
+      int result = comparator != null ? comparator.compare(previous, current)
+          : ((Comparable<Object>) previous).compareTo(current);
+      if (result > 0 || (strict && result == 0)) {
+        return i;
+      }
+      previous = current;
+    }
+    return -1;
+  }
+
+  private static int firstUnsortedIndexIn(@NotNull Object array, int from, int to, boolean strict) {
+    if (array instanceof int[]) {
+      int[] a = (int[]) array;
+      for (int i = from; i < to; i++) {
+        if (a[i] > a[i + 1] || (strict && a[i] == a[i + 1])) {
+          return i + 1;
+        }
+      }
+      return -1;
+    }
+    if (array instanceof long[]) {
+      long[] a = (long[]) array;
+      for (int i = from; i < to; i++) {
+        if (a[i] > a[i + 1] || (strict && a[i] == a[i + 1])) {
+          return i + 1;
+        }
+      }
+      return -1;
+    }
+    if (array instanceof double[]) {
+      double[] a = (double[]) array;
+      for (int i = from; i < to; i++) {
+        int result = Double.compare(a[i], a[i + 1]);
+        if (result > 0 || (strict && result == 0)) {
+          return i + 1;
+        }
+      }
+      return -1;
+    }
+    if (array instanceof float[]) {
+      float[] a = (float[]) array;
+      for (int i = from; i < to; i++) {
+        int result = Float.compare(a[i], a[i + 1]);
+        if (result > 0 || (strict && result == 0)) {
+          return i + 1;
+        }
+      }
+      return -1;
+    }
+    if (array instanceof short[]) {
+      short[] a = (short[]) array;
+      for (int i = from; i < to; i++) {
+        if (a[i] > a[i + 1] || (strict && a[i] == a[i + 1])) {
+          return i + 1;
+        }
+      }
+      return -1;
+    }
+    if (array instanceof char[]) {
+      char[] a = (char[]) array;
+      for (int i = from; i < to; i++) {
+        if (a[i] > a[i + 1] || (strict && a[i] == a[i + 1])) {
+          return i + 1;
+        }
+      }
+      return -1;
+    }
+    if (array instanceof byte[]) {
+      byte[] a = (byte[]) array;
+      for (int i = from; i < to; i++) {
+        if (a[i] > a[i + 1] || (strict && a[i] == a[i + 1])) {
+          return i + 1;
+        }
+      }
+      return -1;
+    }
+    if (array instanceof boolean[]) {
+      boolean[] a = (boolean[]) array;
+      for (int i = from; i < to; i++) {
+        // only (false, true) is strictly sorted
+        if ((a[i] && !a[i + 1]) || (strict && a[i] == a[i + 1])) {
+          return i + 1;
+        }
+      }
+      return -1;
+    }
+    throw new IllegalArgumentException("The given object is not an array of primitives");
+  }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+/**
+ * How much of the stack trace is recorded in the {@code AssertionError}s thrown by failed assertions (see
+ * {@link Fail#setStackTraceMode(StackTraceMode)}.)
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+public enum StackTraceMode {
+  /**
+   * The complete stack trace is recorded. This is the default.
+   */
+  FULL,
+
+  /**
+   * The complete stack trace is recorded, without the topmost frames that belong to FEST-Assert, so that the trace
+   * starts at the code that called the failed assertion.
+   */
+  TRIMMED,
+
+  /**
+   * No stack trace is recorded, which makes failures much cheaper to create. Intended for code that triggers and
+   * catches failures in bulk.
+   */
+  NONE
+}
@@ -0,0 +1,376 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.assertions.Parallelism.RangeTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.fest.assertions.Formatting.format;
+import static java.lang.Math.max;
+import static org.fest.assertions.Parallelism.forEachWorker;
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Preconditions.checkNotNull;
+import static org.fest.util.Sets.newLinkedHashSet;
+
+/**
+ * Assertions for streams of elements produced on demand by an {@code Iterable}, such as large generated data sets.
+ * <p/>
+ * To create a new instance of this class invoke {@link Assertions#assertThatStream(Iterable)}.
+ * <p/>
+ * Unlike {@link IteratorAssert}, this class never keeps the elements it reads: each check asks the actual
+ * {@code Iterable} for a new {@code Iterator} and reads elements one at a time, only until the outcome of the check is
+ * known. For example, {@code allMatch} stops at the first element that does not satisfy the condition and
+ * {@code hasSize(n)} reads at most {@code n + 1} elements. Checks over billions of elements then need no more memory
+ * than checks over a few. Only the first elements read (at most {@link Truncation#maxElements()} of them) are kept, to
+ * be shown in failure messages.
+ * <p/>
+ * Single-use sources can be verified too, as long as a single check is performed. On Java 8, for example:
+ * <pre>
+ * assertThatStream(rows::iterator).inParallel().allMatch(valid);
+ * </pre>
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+public class StreamAssert extends GroupAssert<StreamAssert, Iterable<?>> {
+  // number of elements a worker thread takes from the shared Iterator at a time
+  private static final int BATCH_SIZE = 256;
+
+  // the first elements read from the actual Iterable, shown in failure messages instead of the actual Iterable
+  private final Elements elements;
+  private boolean inParallel;
+
+  /**
+   * Creates a new {@link StreamAssert}.
+   *
+   * @param actual the target to verify.
+   */
+  protected StreamAssert(@Nullable Iterable<?> actual) {
+    super(StreamAssert.class, actual);
+    elements = actual == null ? null : new Elements(actual);
+  }
+
+  /**
+   * Evaluates the conditions given to {@link #allMatch(Condition)}, {@link #anyMatch(Condition)} and
+   * {@link #noneMatch(Condition)} in several threads (see {@link Parallelism}.) Elements are still read from the actual
+   * {@code Iterable} one batch at a time, in a single thread at a time, so the {@code Iterable} does not need to be
+   * thread-safe; the conditions do. The element reported in a failure is the same as when conditions are evaluated in
+   * a single thread.
+   *
+   * @return this assertion object.
+   */
+  public @NotNull StreamAssert inParallel() {
+    inParallel = true;
+    return this;
+  }
+
+  /**
+   * Verifies that all the elements of the actual stream satisfy the given condition. Reading stops at the first element
+   * that does not satisfy it.
+   *
+   * @param condition the condition to evaluate, which should accept the elements of the actual stream.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual stream is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if an element of the actual stream does not satisfy the given condition.
+   */
+  public @NotNull StreamAssert allMatch(@NotNull Condition<?> condition) {
+    isNotNull();
+    checkNotNull(condition);
+    Match mismatch = firstElementMatching(condition, false);
+    if (mismatch.isEmpty()) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(condition.addDescriptionTo(format("element at index <" + mismatch.index
+        + ">:<%s> of <%s> should satisfy condition", mismatch.element, elements)));
+  }
+
+  /**
+   * Verifies that at least one element of the actual stream satisfies the given condition. Reading stops at the first
+   * element that satisfies it.
+   *
+   * @param condition the condition to evaluate, which should accept the elements of the actual stream.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual stream is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if no element of the actual stream satisfies the given condition.
+   */
+  public @NotNull StreamAssert anyMatch(@NotNull Condition<?> condition) {
+    isNotNull();
+    checkNotNull(condition);
+    if (!firstElementMatching(condition, true).isEmpty()) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(condition.addDescriptionTo(format("no element of <%s> satisfies condition", elements)));
+  }
+
+  /**
+   * Verifies that no element of the actual stream satisfies the given condition. Reading stops at the first element
+   * that satisfies it.
+   *
+   * @param condition the condition to evaluate, which should accept the elements of the actual stream.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual stream is {@code null}.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError       if an element of the actual stream satisfies the given condition.
+   */
+  public @NotNull StreamAssert noneMatch(@NotNull Condition<?> condition) {
+    isNotNull();
+    checkNotNull(condition);
+    Match match = firstElementMatching(condition, true);
+    if (match.isEmpty()) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(condition.addDescriptionTo(format("element at index <" + match.index
+        + ">:<%s> of <%s> should not satisfy condition", match.element, elements)));
+  }
+
+  /**
+   * Verifies that the actual stream contains the given objects, in any order. Reading stops as soon as all the given
+   * objects have been found.
+   *
+   * @param objects the objects to look for.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual stream is {@code null}.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @throws AssertionError       if the actual stream does not contain the given objects.
+   */
+  public @NotNull StreamAssert contains(@NotNull Object... objects) {
+    isNotNull();
+    checkNotNull(objects);
+    Set<Object> missing = newLinkedHashSet(objects);
+    Iterator<?> iterator = elements().iterator();
+    while (!missing.isEmpty() && iterator.hasNext()) {
+      missing.remove(iterator.next());
+    }
+    if (missing.isEmpty()) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(format("<%s> does not contain element(s):<%s>", elements, missing));
+  }
+
+  /**
+   * Verifies that the actual stream does not contain the given objects. All the elements of the actual stream are read,
+   * unless all the given objects are found.
+   *
+   * @param objects the objects that the actual stream should exclude.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual stream is {@code null}.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @throws AssertionError       if the actual stream contains any of the given objects.
+   */
+  public @NotNull StreamAssert excludes(@NotNull Object... objects) {
+    isNotNull();
+    checkNotNull(objects);
+    Set<Object> notFound = newLinkedHashSet(objects);
+    List<Object> found = newArrayList();
+    Iterator<?> iterator = elements().iterator();
+    while (!notFound.isEmpty() && iterator.hasNext()) {
+      Object element = iterator.next();
+      if (notFound.remove(element)) {
+        found.add(element);
+      }
+    }
+    if (found.isEmpty()) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(format("<%s> does not exclude element(s):<%s>", elements, found));
+  }
+
+  /**
+   * Reads all the elements of the actual stream, without keeping them.
+   */
+  @Override
+  protected int actualGroupSize() {
+    isNotNull();
+    int size = 0;
+    for (Iterator<?> iterator = elements().iterator(); iterator.hasNext(); iterator.next()) {
+      size++;
+    }
+    return size;
+  }
+
+  /**
+   * Reads at most one element from the actual stream.
+   */
+  @Override
+  protected boolean actualGroupHasElements() {
+    isNotNull();
+    return elements().iterator().hasNext();
+  }
+
+  /**
+   * Verifies that the number of elements in the actual stream is equal to the given one. At most
+   * {@code expected + 1} elements are read, even to describe the failure.
+   *
+   * @param expected the expected number of elements in the actual stream.
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the number of elements in the actual stream is not equal to the given one.
+   */
+  @Override
+  public @NotNull StreamAssert hasSize(int expected) {
+    isNotNull();
+    int limit = expected < 0 || expected == Integer.MAX_VALUE ? max(expected, 1) : expected + 1;
+    Iterator<?> iterator = elements().iterator();
+    int size = 0;
+    while (size < limit && iterator.hasNext()) {
+      iterator.next();
+      size++;
+    }
+    if (size == expected) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    String actualSize = size == limit ? "more than " + (limit - 1) : String.valueOf(size);
+    throw failure(format("expected size:<%s> but was:<" + actualSize + "> for <%s>", expected, elements));
+  }
+
+  // Workers take batches of elements from a shared Iterator, in order. Once an element has been found, no more batches
+  // are taken, but the batches taken before it (which only hold elements that come before) are still evaluated, and the
+  // element with the lowest index wins.
+  @SuppressWarnings("unchecked")
+  private @NotNull Match firstElementMatching(@NotNull Condition<?> condition, final boolean result) {
+    final Condition<Object> c = (Condition<Object>) condition;
+    final Iterator<?> iterator = elements().iterator();
+    final Match match = new Match();
+    RangeTask task = new RangeTask() {
+      @Override
+      public void run(int from, int to) {
+        Object[] batch = new Object[inParallel ? BATCH_SIZE : 1];
+        while (true) {
+          long first;
+          int count = 0;
+          synchronized (iterator) {
+            if (!match.isEmpty()) {
+              return;
+            }
+            first = match.read;
+            while (count < batch.length && iterator.hasNext()) {
+              batch[count++] = iterator.next();
+            }
+            match.read += count;
+          }
+          if (count == 0) {
+            return;
+          }
+          for (int i = 0; i < count; i++) {
+            if (c.matches(batch[i]) == result) {
+              match.offer(first + i, batch[i]);
+              return;
+            }
+          }
+        }
+      }
+    };
+    if (inParallel) {
+      forEachWorker(task);
+    } else {
+      task.run(0, 1);
+    }
+    return match;
+  }
+
+  private @NotNull Elements elements() {
+    return checkNotNull(elements);
+  }
+
+  private static class Match {
+    long read;
+    long index = -1;
+    Object element;
+
+    synchronized void offer(long index, @Nullable Object element) {
+      if (this.index < 0 || index < this.index) {
+        this.index = index;
+        this.element = element;
+      }
+    }
+
+    synchronized boolean isEmpty() {
+      return index < 0;
+    }
+  }
+
+  /**
+   * Wraps the actual {@code Iterable}, keeping the first elements read from it to show them in failure messages. Its
+   * {@code String} representation never reads elements.
+   */
+  private static class Elements implements Iterable<Object> {
+    private final Iterable<?> source;
+    private final List<Object> firstElements = newArrayList();
+    private boolean allRead;
+
+    Elements(@NotNull Iterable<?> source) {
+      this.source = source;
+    }
+
+    @Override
+    public @NotNull Iterator<Object> iterator() {
+      final Iterator<?> iterator = source.iterator();
+      return new Iterator<Object>() {
+        private long index;
+
+        @Override
+        public boolean hasNext() {
+          if (iterator.hasNext()) {
+            return true;
+          }
+          finished(index);
+          return false;
+        }
+
+        @Override
+        public Object next() {
+          Object element = iterator.next();
+          read(index++, element);
+          return element;
+        }
+
+        @Override
+        public void remove() {
+          throw new UnsupportedOperationException();
+        }
+      };
+    }
+
+    private synchronized void read(long index, @Nullable Object element) {
+      if (index == firstElements.size() && index < Truncation.maxElements()) {
+        firstElements.add(element);
+      }
+    }
+
+    private synchronized void finished(long size) {
+      if (size == firstElements.size()) {
+        allRead = true;
+      }
+    }
+
+    @Override
+    public synchronized String toString() {
+      return allRead ? Truncation.toStringOf(firstElements) : Truncation.toStringOfFirstElements(firstElements);
+    }
+  }
+}
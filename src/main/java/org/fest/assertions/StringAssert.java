@@ -16,7 +16,13 @@ package org.fest.assertions;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import java.util.List;
+import java.util.regex.Pattern;
 
+import static java.lang.Character.toLowerCase;
+import static java.lang.Character.toUpperCase;
+import static java.util.Arrays.asList;
+import static org.fest.assertions.AhoCorasick.automatonFor;
 import static org.fest.assertions.Formatting.format;
 import static org.fest.util.Preconditions.checkNotNull;
 
@@ -86,6 +92,71 @@ public class StringAssert extends GroupAssert<StringAssert, String> {
     throw failure(format("<%s> should contain the String:<%s>", actual, expected));
   }
 
+  /**
+   * Verifies that the actual {@code String} contains all the given ones. The actual {@code String} is read only once,
+   * no matter how many {@code String}s are given.
+   *
+   * @param values the given {@code String}s expected to be contained in the actual one.
+   * @return this assertion object.
+   * @throws NullPointerException if the given array, or any of its elements, is {@code null}.
+   * @throws AssertionError       if the actual {@code String} is {@code null}.
+   * @throws AssertionError       if the actual {@code String} does not contain all the given ones.
+   * @since 1.5
+   */
+  public @NotNull StringAssert containsAll(@NotNull String... values) {
+    AhoCorasick automaton = automatonFor(values);
+    isNotNull();
+    List<String> notFound = automaton.needles(automaton.search(actual, false), false);
+    if (notFound.isEmpty()) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(format("<%s> does not contain the String(s):<%s>", actual, notFound));
+  }
+
+  /**
+   * Verifies that the actual {@code String} contains at least one of the given ones. The actual {@code String} is read
+   * only once, no matter how many {@code String}s are given.
+   *
+   * @param values the given {@code String}s, any of them expected to be contained in the actual one.
+   * @return this assertion object.
+   * @throws NullPointerException if the given array, or any of its elements, is {@code null}.
+   * @throws AssertionError       if the actual {@code String} is {@code null}.
+   * @throws AssertionError       if the actual {@code String} does not contain any of the given ones.
+   * @since 1.5
+   */
+  public @NotNull StringAssert containsAny(@NotNull String... values) {
+    AhoCorasick automaton = automatonFor(values);
+    isNotNull();
+    if (!automaton.needles(automaton.search(actual, true), true).isEmpty()) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(format("<%s> does not contain any of the String(s):<%s>", actual, asList(values)));
+  }
+
+  /**
+   * Verifies that the actual {@code String} does not contain any of the given ones. The actual {@code String} is read
+   * only once, no matter how many {@code String}s are given.
+   *
+   * @param values the given {@code String}s expected not to be contained in the actual one.
+   * @return this assertion object.
+   * @throws NullPointerException if the given array, or any of its elements, is {@code null}.
+   * @throws AssertionError       if the actual {@code String} is {@code null}.
+   * @throws AssertionError       if the actual {@code String} contains any of the given ones.
+   * @since 1.5
+   */
+  public @NotNull StringAssert excludesAll(@NotNull String... values) {
+    AhoCorasick automaton = automatonFor(values);
+    isNotNull();
+    List<String> found = automaton.needles(automaton.search(actual, false), true);
+    if (found.isEmpty()) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(format("<%s> should not contain the String(s):<%s>", actual, found));
+  }
+
   /**
    * Verifies that the actual {@code String} ends with the given one.
    *
@@ -147,13 +218,33 @@ public class StringAssert extends GroupAssert<StringAssert, String> {
    */
   public @NotNull StringAssert matches(String regex) {
     isNotNull();
-    if (actual.matches(regex)) {
+    if (PatternCache.compile(regex).matcher(actual).matches()) {
       return this;
     }
     failIfCustomMessageIsSet();
     throw failure(format("<%s> should match the regular expression:<%s>", actual, regex));
   }
 
+  /**
+   * Verifies that the actual {@code String} matches the given pattern.
+   *
+   * @param pattern the given pattern expected to be matched by the actual {@code String}.
+   * @return this assertion object.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws AssertionError       if the actual {@code String} is {@code null}.
+   * @throws AssertionError       if the actual {@code String} does not match the given pattern.
+   * @since 1.5
+   */
+  public @NotNull StringAssert matches(@NotNull Pattern pattern) {
+    checkNotNull(pattern);
+    isNotNull();
+    if (pattern.matcher(actual).matches()) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(format("<%s> should match the regular expression:<%s>", actual, pattern.pattern()));
+  }
+
   /**
    * Verifies that the actual {@code String} does not match the given one.
    *
@@ -164,7 +255,7 @@ public class StringAssert extends GroupAssert<StringAssert, String> {
    */
   public @NotNull StringAssert doesNotMatch(String regex) {
     isNotNull();
-    if (!actual.matches(regex)) {
+    if (!PatternCache.compile(regex).matcher(actual).matches()) {
       return this;
     }
     failIfCustomMessageIsSet();
@@ -172,7 +263,28 @@ public class StringAssert extends GroupAssert<StringAssert, String> {
   }
 
   /**
-   * Verifies that the actual {@code String} contains the given text regardless of the case.
+   * Verifies that the actual {@code String} does not match the given pattern.
+   *
+   * @param pattern the given pattern expected not to be matched by the actual {@code String}.
+   * @return this assertion object.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws AssertionError       if the actual {@code String} is {@code null}.
+   * @throws AssertionError       if the actual {@code String} matches the given pattern.
+   * @since 1.5
+   */
+  public @NotNull StringAssert doesNotMatch(@NotNull Pattern pattern) {
+    checkNotNull(pattern);
+    isNotNull();
+    if (!pattern.matcher(actual).matches()) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(format("<%s> should not match the regular expression:<%s>", actual, pattern.pattern()));
+  }
+
+  /**
+   * Verifies that the actual {@code String} contains the given text regardless of the case. Characters are compared the
+   * same way {@link String#equalsIgnoreCase(String)} compares them, independently of the default locale.
    *
    * @param text the given text.
    * @return this assertion object.
@@ -184,13 +296,75 @@ public class StringAssert extends GroupAssert<StringAssert, String> {
   public @NotNull StringAssert containsIgnoringCase(@NotNull String text) {
     checkNotNull(text);
     isNotNull();
-    if (actual.toLowerCase().contains(text.toLowerCase())) {
+    if (containsIgnoringCase(actual, text)) {
       return this;
     }
     failIfCustomMessageIsSet();
     throw failure(format("<%s> does not contain <%s>", actual, text));
   }
 
+  private static boolean containsIgnoringCase(@NotNull String s, @NotNull String text) {
+    int length = text.length();
+    if (length == 0) {
+      return true;
+    }
+    char first = foldCase(text.charAt(0));
+    for (int i = 0, last = s.length() - length; i <= last; i++) {
+      if (foldCase(s.charAt(i)) == first && s.regionMatches(true, i + 1, text, 1, length - 1)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // two characters are equal ignoring case, as in String.regionMatches, if and only if their folded cases are equal
+  private static char foldCase(char c) {
+    return toLowerCase(toUpperCase(c));
+  }
+
+  /**
+   * Verifies that the actual {@code String} starts with the given one regardless of the case. Characters are compared
+   * the same way {@link String#equalsIgnoreCase(String)} compares them, independently of the default locale.
+   *
+   * @param expected the given {@code String} expected to be at the beginning of the actual one.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code String} is {@code null}.
+   * @throws AssertionError       if the actual {@code String} does not start with the given one.
+   * @throws NullPointerException if the given {@code String} is {@code null}.
+   * @since 1.5
+   */
+  public @NotNull StringAssert startsWithIgnoringCase(@NotNull String expected) {
+    checkNotNull(expected);
+    isNotNull();
+    if (actual.regionMatches(true, 0, expected, 0, expected.length())) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(format("<%s> should start with:<%s> ignoring case", actual, expected));
+  }
+
+  /**
+   * Verifies that the actual {@code String} ends with the given one regardless of the case. Characters are compared the
+   * same way {@link String#equalsIgnoreCase(String)} compares them, independently of the default locale.
+   *
+   * @param expected the given {@code String} expected to be at the end of the actual one.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code String} is {@code null}.
+   * @throws AssertionError       if the actual {@code String} does not end with the given one.
+   * @throws NullPointerException if the given {@code String} is {@code null}.
+   * @since 1.5
+   */
+  public @NotNull StringAssert endsWithIgnoringCase(@NotNull String expected) {
+    checkNotNull(expected);
+    isNotNull();
+    int length = expected.length();
+    if (actual.regionMatches(true, actual.length() - length, expected, 0, length)) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(format("<%s> should end with:<%s> ignoring case", actual, expected));
+  }
+
   /**
    * Verifies that the actual {@code String} does not contain the given text.
    *
@@ -0,0 +1,343 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.util.ToString;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.nio.CharBuffer;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.Math.min;
+import static java.lang.reflect.Array.get;
+import static java.lang.reflect.Array.getLength;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Limits on the size of the values shown in failure messages.
+ * <p/>
+ * Collections, arrays and {@code Map}s with more elements than the maximum set with {@link #setMaxElements(int)} only
+ * show their first elements, followed by the elision marker. Values whose {@code String} representation is longer than
+ * the maximum set with {@link #setMaxLength(int)} are cut at that length, followed by the elision marker. Collections,
+ * arrays and {@code Map}s are rendered element by element into a buffer that stops growing at the maximum length, so
+ * neither the representation of a collection with millions of elements nor that of a small collection holding such a
+ * collection is ever built in full.
+ *
+ * @author Alex Ruiz
+ * @since 1.5
+ */
+public final class Truncation {
+  /**
+   * The default maximum number of elements shown for a collection, array or {@code Map}.
+   */
+  public static final int DEFAULT_MAX_ELEMENTS = 1000;
+
+  /**
+   * The default maximum length of the {@code String} representation of a value.
+   */
+  public static final int DEFAULT_MAX_LENGTH = 100000;
+
+  /**
+   * The default elision marker.
+   */
+  public static final String DEFAULT_ELISION_MARKER = "...";
+
+  private static volatile int maxElements = DEFAULT_MAX_ELEMENTS;
+  private static volatile int maxLength = DEFAULT_MAX_LENGTH;
+  private static volatile String elisionMarker = DEFAULT_ELISION_MARKER;
+
+  private Truncation() {
+  }
+
+  /**
+   * Sets the maximum number of elements shown for a collection, array or {@code Map}. Use {@code Integer.MAX_VALUE} to
+   * show all elements.
+   *
+   * @param max the maximum number of elements.
+   * @throws IllegalArgumentException if the given number is less than 1.
+   */
+  public static void setMaxElements(int max) {
+    if (max < 1) {
+      throw new IllegalArgumentException("The maximum number of elements should be positive");
+    }
+    maxElements = max;
+  }
+
+  /**
+   * Returns the maximum number of elements shown for a collection, array or {@code Map}.
+   *
+   * @return the maximum number of elements.
+   */
+  public static int maxElements() {
+    return maxElements;
+  }
+
+  /**
+   * Sets the maximum length of the {@code String} representation of a value, not including the elision marker. Use
+   * {@code Integer.MAX_VALUE} to never cut a value.
+   *
+   * @param max the maximum length.
+   * @throws IllegalArgumentException if the given number is less than 1.
+   */
+  public static void setMaxLength(int max) {
+    if (max < 1) {
+      throw new IllegalArgumentException("The maximum length should be positive");
+    }
+    maxLength = max;
+  }
+
+  /**
+   * Returns the maximum length of the {@code String} representation of a value.
+   *
+   * @return the maximum length.
+   */
+  public static int maxLength() {
+    return maxLength;
+  }
+
+  /**
+   * Sets the marker shown in place of the elements or characters that were left out.
+   *
+   * @param marker the elision marker.
+   * @throws NullPointerException if the given marker is {@code null}.
+   */
+  public static void setElisionMarker(@NotNull String marker) {
+    elisionMarker = checkNotNull(marker);
+  }
+
+  /**
+   * Returns the marker shown in place of the elements or characters that were left out.
+   *
+   * @return the elision marker.
+   */
+  public static @NotNull String elisionMarker() {
+    return elisionMarker;
+  }
+
+  /**
+   * Restores the default limits and elision marker.
+   */
+  public static void reset() {
+    maxElements = DEFAULT_MAX_ELEMENTS;
+    maxLength = DEFAULT_MAX_LENGTH;
+    elisionMarker = DEFAULT_ELISION_MARKER;
+  }
+
+  /**
+   * Returns the {@code String} representation of the given object, within the current limits. Values within the limits
+   * are represented exactly as {@link org.fest.util.ToString#toStringOf(Object)} does.
+   *
+   * @param o the given object.
+   * @return the {@code String} representation of the given object, or {@code null} if the given object is
+   *         {@code null}.
+   */
+  static @Nullable String toStringOf(@Nullable Object o) {
+    if (o == null) {
+      return null;
+    }
+    Renderer renderer = new Renderer(maxElements, maxLength, elisionMarker);
+    renderer.render(o);
+    return renderer.toString();
+  }
+
+  /**
+   * Returns the {@code String} representation of the first elements of a group that has more elements, within the
+   * current limits: the given elements followed by the elision marker.
+   *
+   * @param firstElements the first elements of the group.
+   * @return the {@code String} representation of the first elements of the group.
+   */
+  static @NotNull String toStringOfFirstElements(@NotNull List<?> firstElements) {
+    Renderer renderer = new Renderer(maxElements, maxLength, elisionMarker);
+    renderer.renderElements(firstElements, firstElements.iterator(), firstElements.size(), true, "(this Collection)");
+    return renderer.toString();
+  }
+
+  private static class Renderer {
+    private final int maxElements;
+    private final String elisionMarker;
+    private final LimitedAppendable out;
+
+    Renderer(int maxElements, int maxLength, @NotNull String elisionMarker) {
+      this.maxElements = maxElements;
+      this.elisionMarker = elisionMarker;
+      out = new LimitedAppendable(maxLength);
+    }
+
+    void render(@Nullable Object o) {
+      if (out.isFull()) {
+        return;
+      }
+      if (o instanceof String) {
+        out.append('\'').append((String) o).append('\'');
+        return;
+      }
+      if (o instanceof StringBuilder || o instanceof StringBuffer || o instanceof CharBuffer) {
+        // their toString() is their content: appending them directly avoids copying more than the maximum length
+        out.append((CharSequence) o);
+        return;
+      }
+      // the elements of collections, maps and arrays of objects are rendered one by one, so that the large values they
+      // hold are cut too
+      if (o instanceof Collection<?>) {
+        Collection<?> collection = (Collection<?>) o;
+        renderElements(o, collection.iterator(), collection.size(), false, "(this Collection)");
+        return;
+      }
+      if (o instanceof Map<?, ?>) {
+        renderEntries((Map<?, ?>) o);
+        return;
+      }
+      if (o instanceof Object[] || (o != null && o.getClass().isArray() && getLength(o) > maxElements)) {
+        renderElements(o, new ArrayIterator(o), getLength(o), false, "(this array)");
+        return;
+      }
+      out.append(ToString.toStringOf(o));
+    }
+
+    // Renders the first elements of a group of the given size, followed by the elision marker if the group has more
+    // elements than the maximum, or if there are more elements than the given ones.
+    void renderElements(@NotNull Object group, @NotNull Iterator<?> elements, int size, boolean more,
+        @NotNull String self) {
+      int count = min(size, maxElements);
+      out.append('[');
+      for (int i = 0; i < count && !out.isFull(); i++) {
+        if (i > 0) {
+          out.append(", ");
+        }
+        Object element = elements.next();
+        if (element == group) {
+          out.append(self);
+          continue;
+        }
+        render(element);
+      }
+      if (more || size > count) {
+        out.append(count > 0 ? ", " : "").append(elisionMarker);
+      }
+      out.append(']');
+    }
+
+    private void renderEntries(@NotNull Map<?, ?> map) {
+      int count = min(map.size(), maxElements);
+      out.append('{');
+      Iterator<? extends Map.Entry<?, ?>> entries = map.entrySet().iterator();
+      for (int i = 0; i < count && !out.isFull(); i++) {
+        if (i > 0) {
+          out.append(", ");
+        }
+        Map.Entry<?, ?> entry = entries.next();
+        renderEntryPart(map, entry.getKey());
+        out.append('=');
+        renderEntryPart(map, entry.getValue());
+      }
+      if (map.size() > count) {
+        out.append(", ").append(elisionMarker);
+      }
+      out.append('}');
+    }
+
+    private void renderEntryPart(@NotNull Map<?, ?> map, @Nullable Object keyOrValue) {
+      if (keyOrValue == map) {
+        out.append("(this Map)");
+        return;
+      }
+      render(keyOrValue);
+    }
+
+    @Override
+    public String toString() {
+      return out.isFull() ? out.toString() + elisionMarker : out.toString();
+    }
+  }
+
+  private static class ArrayIterator implements Iterator<Object> {
+    private final Object array;
+    private int index;
+
+    ArrayIterator(@NotNull Object array) {
+      this.array = array;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return index < getLength(array);
+    }
+
+    @Override
+    public Object next() {
+      return get(array, index++);
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  /**
+   * An {@code Appendable} that ignores all the characters appended after reaching its maximum length.
+   */
+  private static class LimitedAppendable implements Appendable {
+    private final StringBuilder buffer = new StringBuilder();
+    private final int maxLength;
+    private boolean full;
+
+    LimitedAppendable(int maxLength) {
+      this.maxLength = maxLength;
+    }
+
+    @Override
+    public @NotNull LimitedAppendable append(@Nullable CharSequence s) {
+      CharSequence chars = s == null ? "null" : s;
+      return append(chars, 0, chars.length());
+    }
+
+    @Override
+    public @NotNull LimitedAppendable append(@Nullable CharSequence s, int start, int end) {
+      CharSequence chars = s == null ? "null" : s;
+      int room = maxLength - buffer.length();
+      if (end - start > room) {
+        end = start + room;
+        full = true;
+      }
+      buffer.append(chars, start, end);
+      return this;
+    }
+
+    @Override
+    public @NotNull LimitedAppendable append(char c) {
+      if (buffer.length() == maxLength) {
+        full = true;
+        return this;
+      }
+      buffer.append(c);
+      return this;
+    }
+
+    boolean isFull() {
+      return full;
+    }
+
+    @Override
+    public String toString() {
+      return buffer.toString();
+    }
+  }
+}
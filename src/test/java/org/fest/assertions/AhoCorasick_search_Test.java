@@ -0,0 +1,81 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.fest.assertions.AhoCorasick.automatonFor;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link AhoCorasick#search(CharSequence, boolean)}.
+ *
+ * @author Alex Ruiz
+ */
+public class AhoCorasick_search_Test {
+  @Test
+  public void should_find_overlapping_needles_and_needles_that_are_suffixes_of_others() {
+    AhoCorasick automaton = automatonFor("he", "she", "his", "hers", "e", "xyz");
+    boolean[] found = automaton.search("ushers", false);
+    assertTrue(Arrays.equals(new boolean[]{true, true, false, true, true, false}, found));
+  }
+
+  @Test
+  public void should_find_duplicated_and_empty_needles() {
+    AhoCorasick automaton = automatonFor("Luke", "", "Luke", "Yoda");
+    boolean[] found = automaton.search("Luke Skywalker", false);
+    assertTrue(Arrays.equals(new boolean[]{true, true, true, false}, found));
+    assertEquals("[Yoda]", automaton.needles(found, false).toString());
+  }
+
+  @Test
+  public void should_stop_at_first_needle_found() {
+    AhoCorasick automaton = automatonFor("Sky", "Luke");
+    boolean[] found = automaton.search("Luke Skywalker", true);
+    assertTrue(Arrays.equals(new boolean[]{false, true}, found));
+  }
+
+  @Test
+  public void should_find_same_needles_as_indexOf() {
+    Random random = new Random(6);
+    for (int run = 0; run < 200; run++) {
+      String text = randomText(random, random.nextInt(60));
+      String[] needles = new String[1 + random.nextInt(10)];
+      for (int i = 0; i < needles.length; i++) {
+        needles[i] = randomText(random, 1 + random.nextInt(4));
+      }
+      boolean[] found = automatonFor(needles).search(text, false);
+      for (int i = 0; i < needles.length; i++) {
+        assertEquals(text + " / " + needles[i], text.contains(needles[i]), found[i]);
+      }
+    }
+  }
+
+  private static String randomText(Random random, int length) {
+    StringBuilder b = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      b.append((char) ('a' + random.nextInt(3)));
+    }
+    return b.toString();
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_any_needle_is_null() {
+    automatonFor("Luke", null);
+  }
+}
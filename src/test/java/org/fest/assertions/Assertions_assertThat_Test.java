@@ -212,6 +212,11 @@ public class Assertions_assertThat_Test {
     assertObjectIsInstanceOfType(Assertions.assertThat(new Object()), ObjectAssert.class);
   }
 
+  @Test
+  public void should_return_ObjectAssert_if_argument_is_StringBuilder() {
+    assertObjectIsInstanceOfType(Assertions.assertThat(new StringBuilder()), ObjectAssert.class);
+  }
+
   @Test
   public void should_return_ShortArrayAssert_if_argument_is_array_of_short() {
     short[] shorts = new short[]{0};
@@ -0,0 +1,89 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link BooleanArrayAssert#doesNotHaveDuplicates()}.
+ *
+ * @author Alex Ruiz
+ */
+public class BooleanArrayAssert_doesNotHaveDuplicates_Test implements GroupAssert_doesNotHaveDuplicates_TestCase {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Override
+  @Test
+  public void should_pass_if_actual_does_not_contain_duplicates() {
+    new BooleanArrayAssert(true, false).doesNotHaveDuplicates();
+  }
+
+  @Override
+  @Test
+  public void should_pass_if_actual_is_empty() {
+    new BooleanArrayAssert(new boolean[0]).doesNotHaveDuplicates();
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_has_duplicates() {
+    thrown.expect(AssertionError.class, "<[true, false, true, false, true]> contains duplicate(s):<[true, false]>");
+    new BooleanArrayAssert(true, false, true, false, true).doesNotHaveDuplicates();
+  }
+
+  @Override
+  @Test
+  public void should_fail_and_display_description_if_actual_has_duplicates() {
+    thrown.expect(AssertionError.class, "[A Test] <[true, false, true, false, true]>"
+        + " contains duplicate(s):<[true, false]>");
+    new BooleanArrayAssert(true, false, true, false, true).as("A Test").doesNotHaveDuplicates();
+  }
+
+  @Override
+  @Test
+  public void should_fail_with_custom_message_if_actual_has_duplicates() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new BooleanArrayAssert(true, false, true, false, true)
+        .overridingErrorMessage("My custom message").doesNotHaveDuplicates();
+  }
+
+  @Override
+  @Test
+  public void should_fail_with_custom_message_ignoring_description_if_actual_has_duplicates() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new BooleanArrayAssert(true, false, true, false, true).as("A Test").overridingErrorMessage("My custom message")
+        .doesNotHaveDuplicates();
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new BooleanArrayAssert(null).doesNotHaveDuplicates();
+  }
+
+  @Override
+  @Test
+  public void should_fail_and_display_description_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull("A Test"));
+    new BooleanArrayAssert(null).as("A Test").doesNotHaveDuplicates();
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link BooleanArrayAssert#isStrictlySorted()}.
+ *
+ * @author Alex Ruiz
+ */
+public class BooleanArrayAssert_isStrictlySorted_Test implements ItemGroupAssert_isStrictlySorted_TestCase {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Override
+  @Test
+  public void should_pass_if_actual_is_strictly_sorted() {
+    new BooleanArrayAssert(false, true).isStrictlySorted();
+  }
+
+  @Override
+  @Test
+  public void should_pass_if_actual_is_empty() {
+    new BooleanArrayAssert(new boolean[0]).isStrictlySorted();
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_not_strictly_sorted() {
+    thrown.expect(AssertionError.class, "<[false, true, true]> is not strictly sorted:"
+        + " element at index <2>:<true> is not greater than the element before it:<true>");
+    new BooleanArrayAssert(false, true, true).isStrictlySorted();
+  }
+
+  @Override
+  @Test
+  public void should_fail_and_display_description_if_actual_is_not_strictly_sorted() {
+    thrown.expect(AssertionError.class, "[A Test] <[false, true, true]> is not strictly sorted:"
+        + " element at index <2>:<true> is not greater than the element before it:<true>");
+    new BooleanArrayAssert(false, true, true).as("A Test").isStrictlySorted();
+  }
+
+  @Override
+  @Test
+  public void should_fail_with_custom_message_if_actual_is_not_strictly_sorted() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new BooleanArrayAssert(false, true, true).overridingErrorMessage("My custom message").isStrictlySorted();
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new BooleanArrayAssert(null).isStrictlySorted();
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link CharSequenceAssert#endsWith(CharSequence)}.
+ *
+ * @author Alex Ruiz
+ */
+public class CharSequenceAssert_endsWith_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_actual_ends_with_given_CharSequence() {
+    new CharSequenceAssert(new StringBuilder("Luke Skywalker")).endsWith("walker").endsWith("");
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_end_with_given_CharSequence() {
+    thrown.expect(AssertionError.class, "<Luke Skywalker> should end with:<'Luke'>");
+    new CharSequenceAssert(new StringBuilder("Luke Skywalker")).endsWith("Luke");
+  }
+
+  @Test
+  public void should_fail_if_given_CharSequence_is_longer_than_actual() {
+    thrown.expect(AssertionError.class, "<Luke> should end with:<'Sky Luke'>");
+    new CharSequenceAssert(new StringBuilder("Luke")).endsWith("Sky Luke");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new CharSequenceAssert(null).endsWith("Luke");
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link CharSequenceAssert#hasSize(int)}.
+ *
+ * @author Alex Ruiz
+ */
+public class CharSequenceAssert_hasSize_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_actual_has_expected_size() {
+    new CharSequenceAssert(new StringBuilder("Yoda")).hasSize(4);
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_have_expected_size() {
+    thrown.expect(AssertionError.class, "expected size:<2> but was:<4> for <Yoda>");
+    new CharSequenceAssert(new StringBuilder("Yoda")).hasSize(2);
+  }
+}
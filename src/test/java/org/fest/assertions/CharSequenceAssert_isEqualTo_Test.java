@@ -0,0 +1,65 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.nio.CharBuffer;
+
+import static org.fest.assertions.Assertions.assertThatCharSequence;
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link CharSequenceAssert#isEqualTo(CharSequence)} and
+ * {@link CharSequenceAssert#isNotEqualTo(CharSequence)}.
+ *
+ * @author Alex Ruiz
+ */
+public class CharSequenceAssert_isEqualTo_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_actual_has_same_characters_as_given_CharSequence() {
+    CharSequence actual = new StringBuilder("Yoda");
+    assertThatCharSequence(actual).isEqualTo("Yoda").isEqualTo(CharBuffer.wrap("Yoda")).isNotEqualTo("Luke")
+        .isNotEqualTo(null);
+  }
+
+  @Test
+  public void should_pass_if_both_are_null() {
+    new CharSequenceAssert(null).isEqualTo(null);
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_have_same_characters_as_given_CharSequence() {
+    thrown.expect(AssertionError.class, "[A Test] expected:<'Luke'> but was:<Yoda>");
+    new CharSequenceAssert(new StringBuilder("Yoda")).as("A Test").isEqualTo("Luke");
+  }
+
+  @Test
+  public void should_fail_if_actual_has_same_characters_as_given_CharSequence() {
+    thrown.expect(AssertionError.class, "actual value:<Yoda> should not be equal to:<'Yoda'>");
+    new CharSequenceAssert(new StringBuilder("Yoda")).isNotEqualTo("Yoda");
+  }
+
+  @Test
+  public void should_fail_with_custom_message_if_actual_is_not_equal_to_given_CharSequence() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new CharSequenceAssert(new StringBuilder("Yoda")).overridingErrorMessage("My custom message").isEqualTo("Yo");
+  }
+}
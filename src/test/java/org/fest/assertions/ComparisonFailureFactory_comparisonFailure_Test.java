@@ -17,6 +17,9 @@ package org.fest.assertions;
 import org.junit.ComparisonFailure;
 import org.junit.Test;
 
+import java.util.List;
+
+import static java.util.Collections.nCopies;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -47,6 +50,14 @@ public class ComparisonFailureFactory_comparisonFailure_Test {
     assertEquals("[message] expected:<null> but was:<'actual'>", failure.getMessage());
   }
 
+  @Test
+  public void should_not_build_representation_of_huge_actual_or_expected() {
+    List<String> huge = nCopies(Integer.MAX_VALUE, "x");
+    AssertionError failure = ComparisonFailureFactory.comparisonFailure("message", "expected", huge);
+    assertThatIsComparisonFailure(failure);
+    assertTrue(failure.getMessage().length() < Truncation.maxElements() * 10);
+  }
+
   private static void assertThatIsComparisonFailure(AssertionError failure) {
     assertTrue(failure instanceof ComparisonFailure);
   }
@@ -0,0 +1,58 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.jetbrains.annotations.NotNull;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ComparisonFailureFactory#comparisonFailure(String, Object, Object)} using a custom
+ * {@link FailureFactory}.
+ *
+ * @author Alex Ruiz
+ */
+public class ComparisonFailureFactory_comparisonFailure_withFailureFactory_Test {
+  @After
+  public void tearDown() {
+    ComparisonFailureFactory.failureFactory(null);
+  }
+
+  @Test
+  public void should_create_failure_using_custom_factory() {
+    ComparisonFailureFactory.failureFactory(new FailureFactory() {
+      @Override
+      public AssertionError comparisonFailure(@NotNull String message, String expected, String actual) {
+        return new AssertionError(String.format("%s|%s|%s", message, expected, actual));
+      }
+    });
+    AssertionError created = ComparisonFailureFactory.comparisonFailure("message", "expected", 6);
+    assertEquals("message|'expected'|6", created.getMessage());
+  }
+
+  @Test
+  public void should_return_null_if_custom_factory_throws_exception() {
+    ComparisonFailureFactory.failureFactory(new FailureFactory() {
+      @Override
+      public AssertionError comparisonFailure(@NotNull String message, String expected, String actual) {
+        throw new IllegalStateException();
+      }
+    });
+    assertNull(ComparisonFailureFactory.comparisonFailure("message", "expected", "actual"));
+  }
+}
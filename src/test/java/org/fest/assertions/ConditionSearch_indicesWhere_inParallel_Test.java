@@ -0,0 +1,97 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.fest.assertions.ArrayInspection.listView;
+import static org.fest.assertions.ConditionSearch.indicesWhere;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ConditionSearch#indicesWhere(List, Condition, boolean, int)} when the condition is thread-safe.
+ *
+ * @author Alex Ruiz
+ */
+public class ConditionSearch_indicesWhere_inParallel_Test {
+  private List<Object> elements;
+
+  @Before
+  public void setUp() {
+    Parallelism.setThreshold(1);
+    Parallelism.setWorkerCount(4);
+    int[] values = new int[100000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i % 1000 == 999 ? -1 : i;
+    }
+    elements = listView(values);
+  }
+
+  @After
+  public void tearDown() {
+    Parallelism.reset();
+  }
+
+  @Test
+  public void should_find_first_indices_in_ascending_order() {
+    Condition<Object> negative = new Negative().asThreadSafe();
+    assertEquals(newArrayList(999, 1999, 2999), indicesWhere(elements, negative, true, 3));
+    assertEquals(newArrayList(0), indicesWhere(elements, negative, false, 1));
+  }
+
+  @Test
+  public void should_find_all_indices_under_maximum() {
+    List<Integer> indices = indicesWhere(elements, new Negative().asThreadSafe(), true, 1000);
+    assertEquals(100, indices.size());
+    assertEquals(99999, indices.get(99).intValue());
+  }
+
+  @Test
+  public void should_stop_early_once_enough_indices_have_been_found() {
+    Negative negative = new Negative();
+    negative.asThreadSafe();
+    indicesWhere(elements, negative, true, 1);
+    assertTrue(negative.evaluated.get() < elements.size());
+  }
+
+  @Test
+  public void should_evaluate_condition_in_calling_thread_if_not_thread_safe() {
+    final Thread caller = Thread.currentThread();
+    Condition<Object> inCaller = new Condition<Object>() {
+      @Override
+      public boolean matches(Object value) {
+        return Thread.currentThread() == caller;
+      }
+    };
+    assertTrue(indicesWhere(elements, inCaller, false, 1).isEmpty());
+  }
+
+  private static class Negative extends Condition<Object> {
+    final AtomicInteger evaluated = new AtomicInteger();
+
+    @Override
+    public boolean matches(Object value) {
+      evaluated.incrementAndGet();
+      return (Integer) value < 0;
+    }
+  }
+}
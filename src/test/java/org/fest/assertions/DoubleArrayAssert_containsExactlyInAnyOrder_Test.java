@@ -0,0 +1,92 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link DoubleArrayAssert#containsExactlyInAnyOrder(double...)}.
+ *
+ * @author Alex Ruiz
+ */
+public class DoubleArrayAssert_containsExactlyInAnyOrder_Test implements ItemGroupAssert_containsExactlyInAnyOrder_TestCase {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Override
+  @Test
+  public void should_pass_if_actual_contains_exactly_given_values_in_different_order() {
+    new DoubleArrayAssert(6d, 8d, 6d).containsExactlyInAnyOrder(8d, 6d, 6d);
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_values_are_not_repeated_as_many_times_as_given() {
+    thrown.expect(AssertionError.class, "<[6.0, 8.0, 6.0]> should contain exactly, in any order:<[6.0, 8.0, 8.0]>"
+        + " but was missing:<[8.0]> and had unexpected:<[6.0]>");
+    new DoubleArrayAssert(6d, 8d, 6d).containsExactlyInAnyOrder(6d, 8d, 8d);
+  }
+
+  @Override
+  @Test
+  public void should_fail_and_display_description_if_actual_does_not_contain_exactly_given_values() {
+    thrown.expect(AssertionError.class, "[A Test] <[6.0, 8.0, 6.0]>"
+        + " should contain exactly, in any order:<[6.0, 8.0, 8.0]>"
+        + " but was missing:<[8.0]> and had unexpected:<[6.0]>");
+    new DoubleArrayAssert(6d, 8d, 6d).as("A Test").containsExactlyInAnyOrder(6d, 8d, 8d);
+  }
+
+  @Override
+  @Test
+  public void should_fail_with_custom_message_if_actual_does_not_contain_exactly_given_values() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new DoubleArrayAssert(6d, 8d, 6d).overridingErrorMessage("My custom message").containsExactlyInAnyOrder(6d, 8d, 8d);
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new DoubleArrayAssert(null).containsExactlyInAnyOrder(8d, 6d, 6d);
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_null_even_if_expected_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new DoubleArrayAssert(null).containsExactlyInAnyOrder(null);
+  }
+
+  @Override
+  @Test
+  public void should_throw_error_if_expected_is_null() {
+    thrown.expect(NullPointerException.class);
+    double[] values = null;
+    new DoubleArrayAssert(6d, 8d, 6d).containsExactlyInAnyOrder(values);
+  }
+
+  @Test
+  public void should_compare_values_like_Double_equals() {
+    new DoubleArrayAssert(Double.NaN, 0.0, Double.NaN).containsExactlyInAnyOrder(Double.NaN, Double.NaN, 0.0);
+    thrown.expect(AssertionError.class, "<[0.0]> should contain exactly, in any order:<[-0.0]>"
+        + " but was missing:<[-0.0]> and had unexpected:<[0.0]>");
+    new DoubleArrayAssert(0.0).containsExactlyInAnyOrder(-0.0);
+  }
+}
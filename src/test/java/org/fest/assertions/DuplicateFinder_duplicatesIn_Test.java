@@ -0,0 +1,83 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.lang.Integer.MAX_VALUE;
+import static org.fest.assertions.DuplicateFinder.duplicatesIn;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link DuplicateFinder#duplicatesIn(Object, int)}.
+ *
+ * @author Alex Ruiz
+ */
+public class DuplicateFinder_duplicatesIn_Test {
+  @Test
+  public void should_find_duplicates_in_order_of_second_appearance() {
+    List<Object> duplicates = duplicatesIn(new long[] { 1L, 2L, 0L, 2L, 0L, 1L, 1L }, MAX_VALUE);
+    assertEquals(newArrayList(2L, 0L, 1L), duplicates);
+  }
+
+  @Test
+  public void should_find_duplicates_after_table_grows() {
+    long[] values = new long[50000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = (long) i << 32;
+    }
+    assertTrue(duplicatesIn(values, MAX_VALUE).isEmpty());
+    values[49999] = 12345L << 32;
+    assertEquals(newArrayList((Object) (12345L << 32)), duplicatesIn(values, MAX_VALUE));
+  }
+
+  @Test
+  public void should_stop_after_max_reported_duplicates() {
+    assertEquals(newArrayList((Object) 'b'), duplicatesIn(new char[] { 'a', 'b', 'b', 'a' }, 1));
+  }
+
+  @Test
+  public void should_compare_floating_point_values_like_their_wrappers() {
+    assertTrue(duplicatesIn(new float[] { 0f, -0f }, MAX_VALUE).isEmpty());
+    assertEquals(newArrayList((Object) Float.NaN), duplicatesIn(new float[] { Float.NaN, Float.NaN }, MAX_VALUE));
+  }
+
+  @Test
+  public void should_distinguish_negative_and_positive_small_values() {
+    assertTrue(duplicatesIn(new byte[] { -1, 127, -128, 0, 1 }, MAX_VALUE).isEmpty());
+    assertTrue(duplicatesIn(new short[] { -1, Short.MAX_VALUE, Short.MIN_VALUE, 0 }, MAX_VALUE).isEmpty());
+  }
+
+  @Test
+  public void should_find_duplicates_in_arrays_of_every_primitive_type() {
+    assertEquals(newArrayList((Object) true), duplicatesIn(new boolean[] { true, false, true }, MAX_VALUE));
+    assertEquals(newArrayList((Object) (byte) 8), duplicatesIn(new byte[] { 6, 8, 8 }, MAX_VALUE));
+    assertEquals(newArrayList((Object) 'b'), duplicatesIn(new char[] { 'a', 'b', 'b' }, MAX_VALUE));
+    assertEquals(newArrayList((Object) 8d), duplicatesIn(new double[] { 6d, 8d, 8d }, MAX_VALUE));
+    assertEquals(newArrayList((Object) 8f), duplicatesIn(new float[] { 6f, 8f, 8f }, MAX_VALUE));
+    assertEquals(newArrayList((Object) 8), duplicatesIn(new int[] { 6, 8, 8 }, MAX_VALUE));
+    assertEquals(newArrayList((Object) 8L), duplicatesIn(new long[] { 6L, 8L, 8L }, MAX_VALUE));
+    assertEquals(newArrayList((Object) (short) 8), duplicatesIn(new short[] { 6, 8, 8 }, MAX_VALUE));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_array_is_not_an_array_of_primitives() {
+    duplicatesIn(new Object[0], MAX_VALUE);
+  }
+}
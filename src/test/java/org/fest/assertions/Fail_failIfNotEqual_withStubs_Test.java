@@ -29,23 +29,20 @@ import static org.junit.Assert.*;
  * @author Alex Ruiz
  */
 public class Fail_failIfNotEqual_withStubs_Test {
-  private ConstructorInvoker invoker;
-
   @Before
   public void setUp() {
-    invoker = new ConstructorInvoker() {
-      @Override Object newInstance(
-          @NotNull String className, @NotNull Class<?>[] parameterTypes, @NotNull Object[] parameterValues) {
+    ComparisonFailureFactory.failureFactory(new FailureFactory() {
+      @Override
+      public AssertionError comparisonFailure(@NotNull String message, String expected, String actual) {
         // simulate that ComparisonFailure cannot be created (e.g. if JUnit is not in the classpath)
         return null;
       }
-    };
-    ComparisonFailureFactory.constructorInvoker(invoker);
+    });
   }
 
   @After
   public void tearDown() {
-    ComparisonFailureFactory.constructorInvoker(new ConstructorInvoker());
+    ComparisonFailureFactory.failureFactory(null);
   }
 
   @Test
@@ -0,0 +1,91 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link Fail#failure(String)} with the different {@link StackTraceMode}s.
+ *
+ * @author Alex Ruiz
+ */
+public class Fail_failure_withStackTraceMode_Test {
+  @After
+  public void tearDown() {
+    Fail.setStackTraceMode(StackTraceMode.FULL);
+  }
+
+  @Test
+  public void should_record_full_stack_trace_by_default() {
+    assertEquals(StackTraceMode.FULL, Fail.stackTraceMode());
+    AssertionError error = Fail.failure("failed");
+    assertEquals(Fail.class.getName(), error.getStackTrace()[0].getClassName());
+  }
+
+  @Test
+  public void should_not_record_stack_trace() {
+    assertEquals(StackTraceMode.FULL, Fail.setStackTraceMode(StackTraceMode.NONE));
+    AssertionError error = Fail.failure("failed");
+    assertEquals("failed", error.getMessage());
+    assertEquals(0, error.getStackTrace().length);
+  }
+
+  @Test
+  public void should_remove_fest_frames_from_stack_trace() {
+    Fail.setStackTraceMode(StackTraceMode.TRIMMED);
+    try {
+      assertThat("Yoda").isEmpty();
+      fail("Expecting AssertionError");
+    } catch (AssertionError e) {
+      for (StackTraceElement frame : e.getStackTrace()) {
+        assertFalse(frame.getClassName().matches("org\\.fest\\.assertions\\.[^.]+"));
+      }
+    }
+  }
+
+  @Test
+  public void should_not_use_ComparisonFailure_if_stack_trace_is_not_recorded() {
+    Fail.setStackTraceMode(StackTraceMode.NONE);
+    try {
+      assertThat("Yoda").isEqualTo("Luke");
+      fail("Expecting AssertionError");
+    } catch (AssertionError e) {
+      assertEquals(AssertionError.class, e.getClass().getSuperclass());
+      assertEquals("expected:<'Luke'> but was:<'Yoda'>", e.getMessage());
+      assertEquals(0, e.getStackTrace().length);
+    }
+  }
+
+  @Test
+  public void should_only_apply_mode_to_current_thread() throws InterruptedException {
+    Fail.setStackTraceMode(StackTraceMode.NONE);
+    final AtomicReference<AssertionError> error = new AtomicReference<AssertionError>();
+    Thread thread = new Thread() {
+      @Override
+      public void run() {
+        error.set(Fail.failure("failed"));
+      }
+    };
+    thread.start();
+    thread.join();
+    assertTrue(error.get().getStackTrace().length > 0);
+  }
+}
@@ -24,7 +24,7 @@ import java.io.File;
 import java.io.IOException;
 
 import static org.fest.assertions.FailureMessages.actualIsNull;
-import static org.fest.assertions.FileContentComparator.LineDiff.lineDiff;
+import static org.fest.assertions.FileContentComparator.Hunk.hunk;
 import static org.fest.assertions.FileStub.newFile;
 import static org.fest.test.ExpectedException.none;
 import static org.fest.util.Strings.concat;
@@ -71,10 +71,11 @@ public class FileAssert_hasSameContentsAs_Test extends FileAssert_TestCase {
   @Test
   public void should_fail_if_actual_and_expected_do_not_have_same_content() {
     file.ensureExists();
-    comparator.expectedLineDiffs(lineDiff(6, "abc", "xyz"), lineDiff(8, "xyz", "abc"));
+    comparator.expectedHunks(hunk(6, 2, 6, 2, " abc", "-xyz", "+abc"), hunk(20, 1, 20, 1, "-abc", "+xyz"));
     String message = concat("file:<c:\\f.txt> and file:<c:\\temp\\expected.txt> do not have same contents:",
-        lineSeparator(), "line:<6>, expected:<'xyz'> but was:<'abc'>", lineSeparator(),
-        "line:<8>, expected:<'abc'> but was:<'xyz'>");
+        lineSeparator(), "--- expected", lineSeparator(), "+++ actual", lineSeparator(), "@@ -6,2 +6,2 @@",
+        lineSeparator(), " abc", lineSeparator(), "-xyz", lineSeparator(), "+abc", lineSeparator(), "@@ -20,1 +20,1 @@",
+        lineSeparator(), "-abc", lineSeparator(), "+xyz");
     thrown.expect(AssertionError.class, message);
     FileStub expected = newFile("c:\\temp\\expected.txt").ensureExists();
     new FileAssert(file, comparator).hasSameContentAs(expected);
@@ -83,10 +84,12 @@ public class FileAssert_hasSameContentsAs_Test extends FileAssert_TestCase {
   @Test
   public void should_fail_and_display_description_if_actual_and_expected_do_not_have_same_content() {
     file.ensureExists();
-    comparator.expectedLineDiffs(lineDiff(6, "abc", "xyz"), lineDiff(8, "xyz", "abc"));
+    comparator.expectedHunks(hunk(6, 2, 6, 2, " abc", "-xyz", "+abc"), hunk(20, 1, 20, 1, "-abc", "+xyz"));
     String message = concat(
         "[A Test] file:<c:\\f.txt> and file:<c:\\temp\\expected.txt> do not have same contents:", lineSeparator(),
-        "line:<6>, expected:<'xyz'> but was:<'abc'>", lineSeparator(), "line:<8>, expected:<'abc'> but was:<'xyz'>");
+        "--- expected", lineSeparator(), "+++ actual", lineSeparator(), "@@ -6,2 +6,2 @@", lineSeparator(), " abc",
+        lineSeparator(), "-xyz", lineSeparator(), "+abc", lineSeparator(), "@@ -20,1 +20,1 @@", lineSeparator(),
+        "-abc", lineSeparator(), "+xyz");
     thrown.expect(AssertionError.class, message);
     FileStub expected = newFile("c:\\temp\\expected.txt").ensureExists();
     new FileAssert(file, comparator).as("A Test").hasSameContentAs(expected);
@@ -95,7 +98,7 @@ public class FileAssert_hasSameContentsAs_Test extends FileAssert_TestCase {
   @Test
   public void should_fail_with_custom_message_if_actual_and_expected_do_not_have_same_content() {
     file.ensureExists();
-    comparator.expectedLineDiffs(lineDiff(6, "abc", "xyz"), lineDiff(8, "xyz", "abc"));
+    comparator.expectedHunks(hunk(6, 2, 6, 2, " abc", "-xyz", "+abc"), hunk(20, 1, 20, 1, "-abc", "+xyz"));
     thrown.expect(AssertionError.class, "My custom message");
     FileStub expected = newFile("c:\\temp\\expected.txt").ensureExists();
     new FileAssert(file, comparator).overridingErrorMessage("My custom message").hasSameContentAs(expected);
@@ -104,7 +107,7 @@ public class FileAssert_hasSameContentsAs_Test extends FileAssert_TestCase {
   @Test
   public void should_fail_with_custom_message_ignoring_description_if_actual_and_expected_do_not_have_same_content() {
     file.ensureExists();
-    comparator.expectedLineDiffs(lineDiff(6, "abc", "xyz"), lineDiff(8, "xyz", "abc"));
+    comparator.expectedHunks(hunk(6, 2, 6, 2, " abc", "-xyz", "+abc"), hunk(20, 1, 20, 1, "-abc", "+xyz"));
     thrown.expect(AssertionError.class, "My custom message");
     FileStub expected = newFile("c:\\temp\\expected.txt").ensureExists();
     new FileAssert(file, comparator).as("A Test").overridingErrorMessage("My custom message")
@@ -180,10 +183,10 @@ public class FileAssert_hasSameContentsAs_Test extends FileAssert_TestCase {
   }
 
   static class FileContentComparatorStub extends FileContentComparator {
-    private LineDiff[] diffs = new LineDiff[0];
+    private Hunk[] diffs = new Hunk[0];
     private IOException toThrow;
 
-    void expectedLineDiffs(LineDiff... newDiffs) {
+    void expectedHunks(Hunk... newDiffs) {
       diffs = newDiffs;
     }
 
@@ -192,7 +195,7 @@ public class FileAssert_hasSameContentsAs_Test extends FileAssert_TestCase {
     }
 
     @Override
-    @NotNull LineDiff[] compareContents(@NotNull File actual, @NotNull File expected) throws IOException {
+    @NotNull Hunk[] compareContents(@NotNull File actual, @NotNull File expected) throws IOException {
       if (toThrow != null) {
         throw toThrow;
       }
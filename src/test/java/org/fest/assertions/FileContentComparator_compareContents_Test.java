@@ -14,7 +14,7 @@
  */
 package org.fest.assertions;
 
-import org.fest.assertions.FileContentComparator.LineDiff;
+import org.fest.assertions.FileContentComparator.Hunk;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -60,7 +60,7 @@ public class FileContentComparator_compareContents_Test {
 
   @Test
   public void should_not_return_any_diffs_for_equal_files() throws Exception {
-    LineDiff[] diffs = comparator.compareContents(file(fileName), file(fileName));
+    Hunk[] diffs = comparator.compareContents(file(fileName), file(fileName));
     assertEquals(0, diffs.length);
   }
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.assertions.FileContentComparator.Hunk;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static org.fest.assertions.FileContentComparator.Hunk.hunk;
+import static org.fest.util.Closeables.closeQuietly;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link FileContentComparator#compareContents(File, File)} when files are compared byte by byte before
+ * their lines are decoded.
+ *
+ * @author Alex Ruiz
+ */
+public class FileContentComparator_compareContents_fromFirstDifference_Test {
+  private FileContentComparator comparator;
+  private File actual;
+  private File expected;
+
+  @Before
+  public void setUp() throws IOException {
+    comparator = new FileContentComparator();
+    actual = File.createTempFile("actual", ".txt");
+    expected = File.createTempFile("expected", ".txt");
+  }
+
+  @After
+  public void tearDown() {
+    actual.delete();
+    expected.delete();
+  }
+
+  @Test
+  public void should_not_return_any_diffs_for_identical_files_larger_than_one_chunk() throws IOException {
+    byte[] content = new byte[3 << 20];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) (i % 80 == 79 ? '\n' : 'a' + i % 26);
+    }
+    write(actual, content);
+    write(expected, content);
+    assertEquals(0, comparator.compareContents(actual, expected).length);
+  }
+
+  @Test
+  public void should_number_lines_before_first_difference() throws IOException {
+    write(actual, "zero\none\r\ntwo\rthree\nfour\nfive".getBytes("US-ASCII"));
+    write(expected, "zero\none\r\ntwo\rthree\nfour\nsix".getBytes("US-ASCII"));
+    Hunk[] diffs = comparator.compareContents(actual, expected);
+    assertArrayEquals(new Hunk[] { hunk(3, 4, 3, 4, " two", " three", " four", "-six", "+five") }, diffs);
+  }
+
+  @Test
+  public void should_not_return_any_diffs_for_files_differing_only_in_line_separators() throws IOException {
+    write(actual, "one\r\ntwo\r\nthree".getBytes("US-ASCII"));
+    write(expected, "one\ntwo\nthree".getBytes("US-ASCII"));
+    assertEquals(0, comparator.compareContents(actual, expected).length);
+  }
+
+  @Test
+  public void should_not_return_any_diffs_for_files_differing_only_in_trailing_line_separator() throws IOException {
+    write(actual, "one\ntwo\n".getBytes("US-ASCII"));
+    write(expected, "one\ntwo".getBytes("US-ASCII"));
+    assertEquals(0, comparator.compareContents(actual, expected).length);
+  }
+
+  @Test
+  public void should_return_diffs_past_max_lines_for_files_separating_lines_with_carriage_returns() throws IOException {
+    write(actual, linesSeparatedByCarriageReturns(20000, 15000).getBytes("US-ASCII"));
+    write(expected, linesSeparatedByCarriageReturns(20000, -1).getBytes("US-ASCII"));
+    Hunk[] diffs = comparator.compareContents(actual, expected);
+    assertArrayEquals(new Hunk[] { hunk(14998, 7, 14998, 7, " line 14997", " line 14998", " line 14999", "-line 15000",
+        "+changed", " line 15001", " line 15002", " line 15003") }, diffs);
+  }
+
+  @Test
+  public void should_return_diffs_past_max_lines_after_difference_in_line_separators() throws IOException {
+    String lines = linesSeparatedByCarriageReturns(20000, -1).replace('\r', '\n');
+    write(actual, ("zero\r\n" + lines + "changed\n").getBytes("US-ASCII"));
+    write(expected, ("zero\n" + lines + "last\n").getBytes("US-ASCII"));
+    Hunk[] diffs = comparator.compareContents(actual, expected);
+    assertArrayEquals(new Hunk[] { hunk(19999, 4, 19999, 4, " line 19997", " line 19998", " line 19999", "-last",
+        "+changed") }, diffs);
+  }
+
+  @Test
+  public void should_return_diffs_for_file_longer_than_the_other() throws IOException {
+    write(actual, "one\ntwo\n".getBytes("US-ASCII"));
+    write(expected, "one\ntwo\nthree\n".getBytes("US-ASCII"));
+    Hunk[] diffs = comparator.compareContents(actual, expected);
+    assertArrayEquals(new Hunk[] { hunk(1, 3, 1, 2, " one", " two", "-three") }, diffs);
+  }
+
+  private static String linesSeparatedByCarriageReturns(int count, int changedLine) {
+    StringBuilder b = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      b.append(i == changedLine ? "changed" : "line " + i).append('\r');
+    }
+    return b.toString();
+  }
+
+  private static void write(File file, byte[] content) throws IOException {
+    OutputStream out = null;
+    try {
+      out = new FileOutputStream(file);
+      out.write(content);
+    } finally {
+      closeQuietly(out);
+    }
+  }
+}
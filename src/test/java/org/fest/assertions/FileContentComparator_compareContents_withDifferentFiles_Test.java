@@ -14,7 +14,7 @@
  */
 package org.fest.assertions;
 
-import org.fest.assertions.FileContentComparator.LineDiff;
+import org.fest.assertions.FileContentComparator.Hunk;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -23,7 +23,7 @@ import org.junit.runners.Parameterized.Parameters;
 
 import java.util.Collection;
 
-import static org.fest.assertions.FileContentComparator.LineDiff.lineDiff;
+import static org.fest.assertions.FileContentComparator.Hunk.hunk;
 import static org.fest.assertions.Resources.file;
 import static org.fest.util.Lists.newArrayList;
 import static org.junit.Assert.assertEquals;
@@ -41,26 +41,26 @@ public class FileContentComparator_compareContents_withDifferentFiles_Test {
 
   private final String actual;
   private final String expected;
-  private final LineDiff[] diffs;
+  private final Hunk[] diffs;
 
   @Parameters
   public static Collection<Object[]> differentFiles() {
     return newArrayList(new Object[][]{
         {"fileAssertTest2.txt", "fileAssertTest3.txt",
-            diffs(lineDiff(1, "abcde fghij abcde fghij", "abcde fghij abcde fghij z"))},
+            diffs(hunk(1, 3, 1, 3, " abcde fghij", "-abcde fghij abcde fghij z", "+abcde fghij abcde fghij", " abcde"))},
         {"fileAssertTest1.txt", "fileAssertTest2.txt",
-            diffs(lineDiff(0, "this file is 22 bytes.", "abcde fghij"), lineDiff(0, "EOF", "abcde fghij"))},
+            diffs(hunk(1, 3, 1, 1, "-abcde fghij", "-abcde fghij abcde fghij", "-abcde", "+this file is 22 bytes."))},
         {"fileAssertTest2.txt", "fileAssertTest1.txt",
-            diffs(lineDiff(0, "abcde fghij", "this file is 22 bytes."), lineDiff(0, "abcde fghij", "EOF"))}});
+            diffs(hunk(1, 1, 1, 3, "-this file is 22 bytes.", "+abcde fghij", "+abcde fghij abcde fghij", "+abcde"))}});
   }
 
-  private static LineDiff[] diffs(LineDiff... diffs) {
+  private static Hunk[] diffs(Hunk... diffs) {
     return diffs;
   }
 
   public FileContentComparator_compareContents_withDifferentFiles_Test(String actual,
                                                                        String expected,
-                                                                       LineDiff[] diffs) {
+                                                                       Hunk[] diffs) {
     this.actual = actual;
     this.expected = expected;
     this.diffs = diffs;
@@ -73,11 +73,11 @@ public class FileContentComparator_compareContents_withDifferentFiles_Test {
 
   @Test
   public void shouldReturnDiffsForNotEqualFiles() throws Exception {
-    LineDiff[] actualDiffs = comparator.compareContents(file(actual), file(expected));
+    Hunk[] actualDiffs = comparator.compareContents(file(actual), file(expected));
     verifyIfEqual(actualDiffs, diffs);
   }
 
-  private static void verifyIfEqual(LineDiff[] actual, LineDiff[] expected) {
+  private static void verifyIfEqual(Hunk[] actual, Hunk[] expected) {
     int expectedSize = expected.length;
     assertEquals("diff count", expectedSize, actual.length);
     for (int i = 0; i < expectedSize; i++) {
@@ -0,0 +1,96 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static java.lang.Float.NaN;
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link FloatArrayAssert#doesNotHaveDuplicates()}.
+ *
+ * @author Alex Ruiz
+ */
+public class FloatArrayAssert_doesNotHaveDuplicates_Test implements GroupAssert_doesNotHaveDuplicates_TestCase {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Override
+  @Test
+  public void should_pass_if_actual_does_not_contain_duplicates() {
+    new FloatArrayAssert(6f, 8f, 9f).doesNotHaveDuplicates();
+  }
+
+  @Override
+  @Test
+  public void should_pass_if_actual_is_empty() {
+    new FloatArrayAssert(new float[0]).doesNotHaveDuplicates();
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_has_duplicates() {
+    thrown.expect(AssertionError.class, "<[6.0f, 8.0f, 6.0f, 8.0f, 6.0f]> contains duplicate(s):<[6.0f, 8.0f]>");
+    new FloatArrayAssert(6f, 8f, 6f, 8f, 6f).doesNotHaveDuplicates();
+  }
+
+  @Override
+  @Test
+  public void should_fail_and_display_description_if_actual_has_duplicates() {
+    thrown.expect(AssertionError.class, "[A Test] <[6.0f, 8.0f, 6.0f, 8.0f, 6.0f]>"
+        + " contains duplicate(s):<[6.0f, 8.0f]>");
+    new FloatArrayAssert(6f, 8f, 6f, 8f, 6f).as("A Test").doesNotHaveDuplicates();
+  }
+
+  @Override
+  @Test
+  public void should_fail_with_custom_message_if_actual_has_duplicates() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new FloatArrayAssert(6f, 8f, 6f, 8f, 6f).overridingErrorMessage("My custom message").doesNotHaveDuplicates();
+  }
+
+  @Override
+  @Test
+  public void should_fail_with_custom_message_ignoring_description_if_actual_has_duplicates() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new FloatArrayAssert(6f, 8f, 6f, 8f, 6f).as("A Test").overridingErrorMessage("My custom message")
+        .doesNotHaveDuplicates();
+  }
+
+  @Test
+  public void should_compare_values_like_their_wrappers() {
+    new FloatArrayAssert(0.0f, -0.0f, NaN).doesNotHaveDuplicates();
+    thrown.expect(AssertionError.class, "<[NaNf, 1.0f, NaNf]> contains duplicate(s):<[NaNf]>");
+    new FloatArrayAssert(NaN, 1.0f, NaN).doesNotHaveDuplicates();
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new FloatArrayAssert(null).doesNotHaveDuplicates();
+  }
+
+  @Override
+  @Test
+  public void should_fail_and_display_description_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull("A Test"));
+    new FloatArrayAssert(null).as("A Test").doesNotHaveDuplicates();
+  }
+}
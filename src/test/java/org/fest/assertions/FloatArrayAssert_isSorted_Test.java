@@ -0,0 +1,85 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static java.lang.Float.NaN;
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link FloatArrayAssert#isSorted()}.
+ *
+ * @author Alex Ruiz
+ */
+public class FloatArrayAssert_isSorted_Test implements ItemGroupAssert_isSorted_TestCase {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Override
+  @Test
+  public void should_pass_if_actual_is_sorted() {
+    new FloatArrayAssert(1f, 2f, 3f).isSorted();
+  }
+
+  @Test
+  public void should_pass_if_actual_is_sorted_with_equal_consecutive_values() {
+    new FloatArrayAssert(1f, 2f, 2f, 3f).isSorted();
+  }
+
+  @Override
+  @Test
+  public void should_pass_if_actual_is_empty() {
+    new FloatArrayAssert(new float[0]).isSorted();
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_not_sorted() {
+    thrown.expect(AssertionError.class, "<[1.0f, 3.0f, 2.0f]> is not sorted:"
+        + " element at index <2>:<2.0f> is less than the element before it:<3.0f>");
+    new FloatArrayAssert(1f, 3f, 2f).isSorted();
+  }
+
+  @Override
+  @Test
+  public void should_fail_and_display_description_if_actual_is_not_sorted() {
+    thrown.expect(AssertionError.class, "[A Test] <[1.0f, 3.0f, 2.0f]> is not sorted:"
+        + " element at index <2>:<2.0f> is less than the element before it:<3.0f>");
+    new FloatArrayAssert(1f, 3f, 2f).as("A Test").isSorted();
+  }
+
+  @Override
+  @Test
+  public void should_fail_with_custom_message_if_actual_is_not_sorted() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new FloatArrayAssert(1f, 3f, 2f).overridingErrorMessage("My custom message").isSorted();
+  }
+
+  @Test
+  public void should_order_values_like_arrays_sort() {
+    new FloatArrayAssert(-0.0f, 0.0f, 1.0f, NaN).isSorted();
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new FloatArrayAssert(null).isSorted();
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static java.lang.Float.NaN;
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link FloatArrayAssert#isStrictlySorted()}.
+ *
+ * @author Alex Ruiz
+ */
+public class FloatArrayAssert_isStrictlySorted_Test implements ItemGroupAssert_isStrictlySorted_TestCase {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Override
+  @Test
+  public void should_pass_if_actual_is_strictly_sorted() {
+    new FloatArrayAssert(1f, 2f, 3f).isStrictlySorted();
+  }
+
+  @Override
+  @Test
+  public void should_pass_if_actual_is_empty() {
+    new FloatArrayAssert(new float[0]).isStrictlySorted();
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_not_strictly_sorted() {
+    thrown.expect(AssertionError.class, "<[1.0f, 2.0f, 2.0f, 3.0f]> is not strictly sorted:"
+        + " element at index <2>:<2.0f> is not greater than the element before it:<2.0f>");
+    new FloatArrayAssert(1f, 2f, 2f, 3f).isStrictlySorted();
+  }
+
+  @Override
+  @Test
+  public void should_fail_and_display_description_if_actual_is_not_strictly_sorted() {
+    thrown.expect(AssertionError.class, "[A Test] <[1.0f, 2.0f, 2.0f, 3.0f]> is not strictly sorted:"
+        + " element at index <2>:<2.0f> is not greater than the element before it:<2.0f>");
+    new FloatArrayAssert(1f, 2f, 2f, 3f).as("A Test").isStrictlySorted();
+  }
+
+  @Override
+  @Test
+  public void should_fail_with_custom_message_if_actual_is_not_strictly_sorted() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new FloatArrayAssert(1f, 2f, 2f, 3f).overridingErrorMessage("My custom message").isStrictlySorted();
+  }
+
+  @Test
+  public void should_order_values_like_arrays_sort() {
+    new FloatArrayAssert(-0.0f, 0.0f, 1.0f, NaN).isStrictlySorted();
+  }
+
+  @Test
+  public void should_fail_if_actual_has_consecutive_NaN_values() {
+    thrown.expect(AssertionError.class, "<[1.0f, NaNf, NaNf]> is not strictly sorted:"
+        + " element at index <2>:<NaNf> is not greater than the element before it:<NaNf>");
+    new FloatArrayAssert(1.0f, NaN, NaN).isStrictlySorted();
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new FloatArrayAssert(null).isStrictlySorted();
+  }
+}
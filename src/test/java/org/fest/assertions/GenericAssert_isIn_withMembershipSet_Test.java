@@ -0,0 +1,73 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Set;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.Assertions.membershipSet;
+import static org.fest.assertions.FailureMessages.notIn;
+import static org.fest.test.ExpectedException.none;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link GenericAssert#isIn(java.util.Collection)} and {@link GenericAssert#isNotIn(java.util.Collection)}
+ * with sets created by {@link Assertions#membershipSet(Object...)}.
+ *
+ * @author Alex Ruiz
+ */
+public class GenericAssert_isIn_withMembershipSet_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_actual_is_in_membership_set() {
+    Set<Object> values = membershipSet("Luke", "Yoda", null);
+    assertThat("Yoda").isIn(values);
+    assertThat((Object) null).isIn(values);
+    assertThat("Leia").isNotIn(values);
+  }
+
+  @Test
+  public void should_compare_arrays_element_by_element() {
+    Set<Object> values = membershipSet(new int[]{6, 8}, "Luke");
+    assertThat(new int[]{6, 8}).isIn(values);
+    assertThat(new int[]{8, 6}).isNotIn(values);
+  }
+
+  @Test
+  public void should_keep_order_of_values_without_duplicates() {
+    Set<Object> values = membershipSet(newArrayList("Yoda", "Luke", "Yoda", new int[]{6}, new int[]{6}));
+    assertEquals(3, values.size());
+    assertEquals("Yoda", values.iterator().next());
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_in_membership_set() {
+    Set<Object> values = membershipSet("Luke", "Yoda");
+    thrown.expect(AssertionError.class, notIn(null, "Leia", newArrayList("Luke", "Yoda")));
+    assertThat("Leia").isIn(values);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void should_not_be_modifiable() {
+    membershipSet("Luke").add("Yoda");
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.unmodifiableSet;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.util.Sets.newLinkedHashSet;
+
+/**
+ * Tests for {@link GenericAssert#isIn(java.util.Collection)} and {@link GenericAssert#isNotIn(java.util.Collection)}
+ * with sets that do not look values up the way {@code isIn} compares them.
+ *
+ * @author Alex Ruiz
+ */
+public class GenericAssert_isIn_withSet_Test {
+  @Test
+  public void should_pass_if_null_actual_is_not_in_set_rejecting_null() {
+    Set<Object> values = newSetFromMap(new ConcurrentHashMap<Object, Boolean>());
+    values.add("Luke");
+    assertThat((Object) null).isNotIn(values);
+  }
+
+  @Test
+  public void should_pass_if_actual_is_equal_to_value_in_identity_set() {
+    Set<Object> values = newSetFromMap(new IdentityHashMap<Object, Boolean>());
+    values.add(new String("Yoda"));
+    assertThat(new String("Yoda")).isIn(values);
+  }
+
+  @Test
+  public void should_pass_if_actual_is_not_comparable_to_values_in_unmodifiable_sorted_set() {
+    Set<Object> values = unmodifiableSet(new TreeSet<Object>(newLinkedHashSet("Luke", "Yoda")));
+    assertThat(new Object()).isNotIn(values);
+  }
+
+  @Test
+  public void should_pass_if_actual_is_in_hash_set() {
+    assertThat("Yoda").isIn(newLinkedHashSet("Luke", "Yoda"));
+    assertThat("Leia").isNotIn(newLinkedHashSet("Luke", "Yoda"));
+  }
+}
@@ -14,7 +14,7 @@
  */
 package org.fest.assertions;
 
-import org.fest.assertions.FileContentComparator.LineDiff;
+import org.fest.assertions.FileContentComparator.Hunk;
 import org.fest.test.EqualsHashCodeContractTestCase;
 import org.junit.Before;
 import org.junit.Test;
@@ -24,22 +24,22 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
 /**
- * Tests for {@link LineDiff#equals(Object)} and {@link LineDiff#hashCode()}.
+ * Tests for {@link Hunk#equals(Object)} and {@link Hunk#hashCode()}.
  *
  * @author Alex Ruiz
  */
-public class LineDiff_equalsHashCode_Test implements EqualsHashCodeContractTestCase {
-  private LineDiff diff;
+public class Hunk_equalsHashCode_Test implements EqualsHashCodeContractTestCase {
+  private Hunk diff;
 
   @Before
   public void setUp() {
-    diff = LineDiff.lineDiff(1, "hello", "world");
+    diff = Hunk.hunk(1, 1, 1, 1, "-hello", "+world");
   }
 
   @Override
   @Test
   public void equals_should_be_consistent() {
-    LineDiff other = LineDiff.lineDiff(1, "hello", "world");
+    Hunk other = Hunk.hunk(1, 1, 1, 1, "-hello", "+world");
     assertEquals(other, diff);
   }
 
@@ -52,22 +52,22 @@ public class LineDiff_equalsHashCode_Test implements EqualsHashCodeContractTestC
   @Override
   @Test
   public void equals_should_be_symmetric() {
-    LineDiff other = LineDiff.lineDiff(1, "hello", "world");
+    Hunk other = Hunk.hunk(1, 1, 1, 1, "-hello", "+world");
     assertEqualsIsSymmetric(diff, other);
   }
 
   @Override
   @Test
   public void equals_should_be_transitive() {
-    LineDiff other1 = LineDiff.lineDiff(1, "hello", "world");
-    LineDiff other2 = LineDiff.lineDiff(1, "hello", "world");
+    Hunk other1 = Hunk.hunk(1, 1, 1, 1, "-hello", "+world");
+    Hunk other2 = Hunk.hunk(1, 1, 1, 1, "-hello", "+world");
     assertEqualsIsTransitive(diff, other1, other2);
   }
 
   @Override
   @Test
   public void should_maintain_equals_and_hashCode_contract() {
-    LineDiff other = LineDiff.lineDiff(1, "hello", "world");
+    Hunk other = Hunk.hunk(1, 1, 1, 1, "-hello", "+world");
     assertMaintainsEqualsAndHashCodeContract(diff, other);
   }
 
@@ -84,20 +84,20 @@ public class LineDiff_equalsHashCode_Test implements EqualsHashCodeContractTestC
   }
 
   @Test
-  public void should_not_be_equal_if_line_numbers_are_not_equal() {
-    LineDiff other = LineDiff.lineDiff(2, "hello", "world");
+  public void should_not_be_equal_if_expected_ranges_are_not_equal() {
+    Hunk other = Hunk.hunk(2, 1, 1, 1, "-hello", "+world");
     assertFalse(diff.equals(other));
   }
 
   @Test
-  public void should_not_be_equal_if_actual_values_are_not_equal() {
-    LineDiff other = LineDiff.lineDiff(1, "hi", "world");
+  public void should_not_be_equal_if_actual_ranges_are_not_equal() {
+    Hunk other = Hunk.hunk(1, 1, 1, 2, "-hello", "+world");
     assertFalse(diff.equals(other));
   }
 
   @Test
-  public void should_not_be_equal_if_expected_values_are_not_equal() {
-    LineDiff other = LineDiff.lineDiff(1, "hello", "everybody");
+  public void should_not_be_equal_if_lines_are_not_equal() {
+    Hunk other = Hunk.hunk(1, 1, 1, 1, "-hi", "+world");
     assertFalse(diff.equals(other));
   }
 }
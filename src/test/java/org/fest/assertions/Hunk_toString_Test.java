@@ -14,27 +14,28 @@
  */
 package org.fest.assertions;
 
-import org.fest.assertions.FileContentComparator.LineDiff;
+import org.fest.assertions.FileContentComparator.Hunk;
 import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
 
 /**
- * Tests for {@link LineDiff#toString()}.
+ * Tests for {@link Hunk#toString()}.
  *
  * @author Alex Ruiz
  */
-public class LineDiff_toString_Test {
-  private LineDiff diff;
+public class Hunk_toString_Test {
+  private Hunk diff;
 
   @Before
   public void setUp() {
-    diff = LineDiff.lineDiff(1, "hello", "world");
+    diff = Hunk.hunk(1, 1, 1, 1, "-hello", "+world");
   }
 
   @Test
   public void should_implement_toString() {
-    assertEquals("LineDiff [actual='hello', expected='world', lineNumber=1]", diff.toString());
+    String expected = "Hunk [expectedStart=1, expectedCount=1, actualStart=1, actualCount=1, lines=[-hello, +world]]";
+    assertEquals(expected, diff.toString());
   }
 }
@@ -0,0 +1,95 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static java.awt.Color.BLUE;
+import static java.awt.image.BufferedImage.*;
+import static org.fest.assertions.ImageComparator.colorComparator;
+import static org.fest.assertions.ImageComparator.exactComparator;
+import static org.fest.assertions.Threshold.threshold;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ImageComparator}.
+ *
+ * @author Alex Ruiz
+ */
+public class ImageComparator_Test {
+  private static final int[] TYPES = { TYPE_INT_ARGB, TYPE_INT_RGB, TYPE_3BYTE_BGR, TYPE_4BYTE_ABGR, TYPE_USHORT_565_RGB };
+
+  @Test
+  public void should_not_find_mismatch_in_equal_images_of_any_type() {
+    for (int actualType : TYPES) {
+      for (int expectedType : TYPES) {
+        BufferedImage actual = image(8, 6, actualType, BLUE);
+        BufferedImage expected = image(8, 6, expectedType, BLUE);
+        assertNull(colorComparator(actual, expected, threshold(0)).firstMismatch());
+      }
+    }
+  }
+
+  @Test
+  public void should_report_mismatch_in_leftmost_column_then_topmost_row() {
+    for (int type : TYPES) {
+      BufferedImage actual = image(8, 6, type, BLUE);
+      BufferedImage expected = image(8, 6, type, BLUE);
+      expected.setRGB(6, 0, 0xFFFF0000);
+      expected.setRGB(2, 5, 0xFFFF0000);
+      expected.setRGB(2, 3, 0xFFFF0000);
+      expected.setRGB(4, 1, 0xFFFF0000);
+      assertEquals(new Point(2, 3), colorComparator(actual, expected, threshold(0)).firstMismatch());
+    }
+  }
+
+  @Test
+  public void should_ignore_differences_within_threshold() {
+    BufferedImage actual = image(4, 4, TYPE_3BYTE_BGR, new Color(10, 20, 30));
+    BufferedImage expected = image(4, 4, TYPE_INT_ARGB, new Color(12, 18, 32));
+    assertNull(colorComparator(actual, expected, threshold(2)).firstMismatch());
+    assertEquals(new Point(0, 0), colorComparator(actual, expected, threshold(1)).firstMismatch());
+  }
+
+  @Test
+  public void should_ignore_alpha_when_comparing_colors_but_not_when_comparing_exactly() {
+    BufferedImage actual = image(4, 4, TYPE_INT_ARGB, BLUE);
+    BufferedImage expected = image(4, 4, TYPE_INT_ARGB, BLUE);
+    expected.setRGB(3, 2, 0x100000FF);
+    assertNull(colorComparator(actual, expected, threshold(0)).firstMismatch());
+    assertTrue(exactComparator(actual, expected).hasMismatch());
+  }
+
+  @Test
+  public void should_compare_subimages() {
+    BufferedImage image = image(8, 8, TYPE_INT_RGB, BLUE);
+    image.setRGB(5, 5, 0xFFFF0000);
+    BufferedImage actual = image.getSubimage(4, 4, 4, 4);
+    BufferedImage expected = image(4, 4, TYPE_3BYTE_BGR, BLUE);
+    assertEquals(new Point(1, 1), colorComparator(actual, expected, threshold(0)).firstMismatch());
+    assertFalse(exactComparator(image.getSubimage(0, 0, 4, 4), expected).hasMismatch());
+  }
+
+  private static BufferedImage image(int width, int height, int type, Color color) {
+    BufferedImage image = new BufferedImage(width, height, type);
+    Graphics graphics = image.createGraphics();
+    graphics.setColor(color);
+    graphics.fillRect(0, 0, width, height);
+    return image;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import static java.awt.Color.BLUE;
+import static java.awt.image.BufferedImage.TYPE_3BYTE_BGR;
+import static org.fest.assertions.ImageComparator.colorComparator;
+import static org.fest.assertions.ImageComparator.exactComparator;
+import static org.fest.assertions.Images.image;
+import static org.fest.assertions.Threshold.threshold;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ImageComparator#firstMismatch()} when rows are compared in parallel.
+ *
+ * @author Alex Ruiz
+ */
+public class ImageComparator_firstMismatch_inParallel_Test {
+  private BufferedImage actual;
+  private BufferedImage expected;
+
+  @Before
+  public void setUp() {
+    Parallelism.setThreshold(1);
+    Parallelism.setWorkerCount(4);
+    actual = image(64, 48, BLUE);
+    expected = new BufferedImage(64, 48, TYPE_3BYTE_BGR);
+    Graphics graphics = expected.createGraphics();
+    graphics.setColor(BLUE);
+    graphics.fillRect(0, 0, 64, 48);
+  }
+
+  @After
+  public void tearDown() {
+    Parallelism.reset();
+  }
+
+  @Test
+  public void should_not_find_mismatch_in_equal_images() {
+    assertNull(colorComparator(actual, expected, threshold(0)).firstMismatch());
+    assertFalse(exactComparator(actual, expected).hasMismatch());
+  }
+
+  @Test
+  public void should_report_same_mismatch_as_serial_comparison() {
+    Random random = new Random(8);
+    for (int i = 0; i < 20; i++) {
+      int x = random.nextInt(64);
+      int y = random.nextInt(48);
+      expected.setRGB(x, y, 0xFFFF0000);
+      Point first = firstMismatchInColumnOrder();
+      assertEquals(first, colorComparator(actual, expected, threshold(0)).firstMismatch());
+      assertTrue(exactComparator(actual, expected).hasMismatch());
+    }
+  }
+
+  private Point firstMismatchInColumnOrder() {
+    for (int x = 0; x < 64; x++) {
+      for (int y = 0; y < 48; y++) {
+        if (actual.getRGB(x, y) != expected.getRGB(x, y)) {
+          return new Point(x, y);
+        }
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link IntArrayAssert#containsExactlyInAnyOrder(int...)}.
+ *
+ * @author Alex Ruiz
+ */
+public class IntArrayAssert_containsExactlyInAnyOrder_Test implements ItemGroupAssert_containsExactlyInAnyOrder_TestCase {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Override
+  @Test
+  public void should_pass_if_actual_contains_exactly_given_values_in_different_order() {
+    new IntArrayAssert(6, 8, 6).containsExactlyInAnyOrder(8, 6, 6);
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_values_are_not_repeated_as_many_times_as_given() {
+    thrown.expect(AssertionError.class, "<[6, 8, 6]> should contain exactly, in any order:<[6, 8, 8]>"
+        + " but was missing:<[8]> and had unexpected:<[6]>");
+    new IntArrayAssert(6, 8, 6).containsExactlyInAnyOrder(6, 8, 8);
+  }
+
+  @Override
+  @Test
+  public void should_fail_and_display_description_if_actual_does_not_contain_exactly_given_values() {
+    thrown.expect(AssertionError.class, "[A Test] <[6, 8, 6]> should contain exactly, in any order:<[6, 8, 8]>"
+        + " but was missing:<[8]> and had unexpected:<[6]>");
+    new IntArrayAssert(6, 8, 6).as("A Test").containsExactlyInAnyOrder(6, 8, 8);
+  }
+
+  @Override
+  @Test
+  public void should_fail_with_custom_message_if_actual_does_not_contain_exactly_given_values() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new IntArrayAssert(6, 8, 6).overridingErrorMessage("My custom message").containsExactlyInAnyOrder(6, 8, 8);
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new IntArrayAssert(null).containsExactlyInAnyOrder(8, 6, 6);
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_null_even_if_expected_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new IntArrayAssert(null).containsExactlyInAnyOrder(null);
+  }
+
+  @Override
+  @Test
+  public void should_throw_error_if_expected_is_null() {
+    thrown.expect(NullPointerException.class);
+    int[] values = null;
+    new IntArrayAssert(6, 8, 6).containsExactlyInAnyOrder(values);
+  }
+}
@@ -59,6 +59,12 @@ public class IntArrayAssert_contains_Test implements GroupAssert_contains_TestCa
     new IntArrayAssert(null).contains(6, 8);
   }
 
+  @Test
+  public void should_fail_if_actual_is_null_even_if_expected_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new IntArrayAssert(null).contains(null);
+  }
+
   @Override
   @Test
   public void should_fail_and_display_description_if_actual_is_null() {
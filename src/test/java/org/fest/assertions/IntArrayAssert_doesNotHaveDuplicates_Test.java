@@ -0,0 +1,106 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.assertions.Fail.fail;
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link IntArrayAssert#doesNotHaveDuplicates()}.
+ *
+ * @author Alex Ruiz
+ */
+public class IntArrayAssert_doesNotHaveDuplicates_Test implements GroupAssert_doesNotHaveDuplicates_TestCase {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Override
+  @Test
+  public void should_pass_if_actual_does_not_contain_duplicates() {
+    new IntArrayAssert(6, 8, 9).doesNotHaveDuplicates();
+  }
+
+  @Override
+  @Test
+  public void should_pass_if_actual_is_empty() {
+    new IntArrayAssert(new int[0]).doesNotHaveDuplicates();
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_has_duplicates() {
+    thrown.expect(AssertionError.class, "<[6, 8, 6, 8, 6]> contains duplicate(s):<[6, 8]>");
+    new IntArrayAssert(6, 8, 6, 8, 6).doesNotHaveDuplicates();
+  }
+
+  @Override
+  @Test
+  public void should_fail_and_display_description_if_actual_has_duplicates() {
+    thrown.expect(AssertionError.class, "[A Test] <[6, 8, 6, 8, 6]> contains duplicate(s):<[6, 8]>");
+    new IntArrayAssert(6, 8, 6, 8, 6).as("A Test").doesNotHaveDuplicates();
+  }
+
+  @Override
+  @Test
+  public void should_fail_with_custom_message_if_actual_has_duplicates() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new IntArrayAssert(6, 8, 6, 8, 6).overridingErrorMessage("My custom message").doesNotHaveDuplicates();
+  }
+
+  @Test
+  public void should_fail_if_actual_has_duplicates_among_many_values() {
+    int[] actual = new int[10000];
+    for (int i = 0; i < actual.length; i++) {
+      actual[i] = i * 31;
+    }
+    new IntArrayAssert(actual).doesNotHaveDuplicates();
+    actual[9999] = 0;
+    try {
+      new IntArrayAssert(actual).doesNotHaveDuplicates();
+    } catch (AssertionError e) {
+      assertThat(e.getMessage()).endsWith("contains duplicate(s):<[0]>");
+      return;
+    }
+    fail("expecting an AssertionError");
+  }
+
+  @Override
+  @Test
+  public void should_fail_with_custom_message_ignoring_description_if_actual_has_duplicates() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new IntArrayAssert(6, 8, 6, 8, 6).as("A Test").overridingErrorMessage("My custom message")
+        .doesNotHaveDuplicates();
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new IntArrayAssert(null).doesNotHaveDuplicates();
+  }
+
+  @Override
+  @Test
+  public void should_fail_and_display_description_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull("A Test"));
+    new IntArrayAssert(null).as("A Test").doesNotHaveDuplicates();
+  }
+}
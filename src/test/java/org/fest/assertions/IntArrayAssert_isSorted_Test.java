@@ -0,0 +1,79 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link IntArrayAssert#isSorted()}.
+ *
+ * @author Alex Ruiz
+ */
+public class IntArrayAssert_isSorted_Test implements ItemGroupAssert_isSorted_TestCase {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Override
+  @Test
+  public void should_pass_if_actual_is_sorted() {
+    new IntArrayAssert(1, 2, 3).isSorted();
+  }
+
+  @Test
+  public void should_pass_if_actual_is_sorted_with_equal_consecutive_values() {
+    new IntArrayAssert(1, 2, 2, 3).isSorted();
+  }
+
+  @Override
+  @Test
+  public void should_pass_if_actual_is_empty() {
+    new IntArrayAssert(new int[0]).isSorted();
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_not_sorted() {
+    thrown.expect(AssertionError.class, "<[1, 3, 2]> is not sorted:"
+        + " element at index <2>:<2> is less than the element before it:<3>");
+    new IntArrayAssert(1, 3, 2).isSorted();
+  }
+
+  @Override
+  @Test
+  public void should_fail_and_display_description_if_actual_is_not_sorted() {
+    thrown.expect(AssertionError.class, "[A Test] <[1, 3, 2]> is not sorted:"
+        + " element at index <2>:<2> is less than the element before it:<3>");
+    new IntArrayAssert(1, 3, 2).as("A Test").isSorted();
+  }
+
+  @Override
+  @Test
+  public void should_fail_with_custom_message_if_actual_is_not_sorted() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new IntArrayAssert(1, 3, 2).overridingErrorMessage("My custom message").isSorted();
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new IntArrayAssert(null).isSorted();
+  }
+}
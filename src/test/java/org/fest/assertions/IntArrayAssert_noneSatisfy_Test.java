@@ -0,0 +1,83 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.EqualTo.equalTo;
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link IntArrayAssert#noneSatisfy(Condition)}.
+ *
+ * @author Alex Ruiz
+ */
+public class IntArrayAssert_noneSatisfy_Test implements ItemGroupAssert_noneSatisfy_TestCase {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Override
+  @Test
+  public void should_pass_if_no_element_satisfies_condition() {
+    new IntArrayAssert(6, 8, 6).noneSatisfy(equalTo(9));
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_elements_satisfy_condition() {
+    thrown.expect(AssertionError.class, "element(s) at index(es) <[0, 2]>:<[6, 6]>"
+        + " of <[6, 8, 6]> should not satisfy condition:<equal to 6>");
+    new IntArrayAssert(6, 8, 6).noneSatisfy(equalTo(6));
+  }
+
+  @Override
+  @Test
+  public void should_fail_and_display_description_if_elements_satisfy_condition() {
+    thrown.expect(AssertionError.class, "[A Test] element(s) at index(es) <[0, 2]>:<[6, 6]>"
+        + " of <[6, 8, 6]> should not satisfy condition:<equal to 6>");
+    new IntArrayAssert(6, 8, 6).as("A Test").noneSatisfy(equalTo(6));
+  }
+
+  @Override
+  @Test
+  public void should_fail_with_custom_message_if_elements_satisfy_condition() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new IntArrayAssert(6, 8, 6).overridingErrorMessage("My custom message").noneSatisfy(equalTo(6));
+  }
+
+  @Override
+  @Test
+  public void should_throw_error_if_condition_is_null() {
+    thrown.expect(NullPointerException.class);
+    new IntArrayAssert(6, 8, 6).noneSatisfy(null);
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new IntArrayAssert(null).noneSatisfy(equalTo(6));
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_null_even_if_condition_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new IntArrayAssert(null).noneSatisfy(null);
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * {@code Iterable} that generates the {@code Integer}s in a range on demand, counting how many it has generated.
+ *
+ * @author Alex Ruiz
+ */
+class IntRange implements Iterable<Integer> {
+  private final int from;
+  private final int to;
+  private volatile long generated;
+
+  static IntRange range(int from, int to) {
+    return new IntRange(from, to);
+  }
+
+  private IntRange(int from, int to) {
+    this.from = from;
+    this.to = to;
+  }
+
+  long generated() {
+    return generated;
+  }
+
+  @Override
+  public Iterator<Integer> iterator() {
+    return new Iterator<Integer>() {
+      private int next = from;
+
+      @Override
+      public boolean hasNext() {
+        return next < to;
+      }
+
+      @Override
+      public Integer next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        generated++;
+        return next++;
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+}
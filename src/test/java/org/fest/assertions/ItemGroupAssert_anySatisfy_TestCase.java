@@ -0,0 +1,38 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+/**
+ * Test case for implementations of {@code anySatisfy}.
+ *
+ * @author Alex Ruiz
+ */
+public interface ItemGroupAssert_anySatisfy_TestCase {
+  void should_pass_if_an_element_satisfies_condition();
+
+  void should_fail_if_no_element_satisfies_condition();
+
+  void should_fail_if_actual_is_empty();
+
+  void should_fail_and_display_description_if_no_element_satisfies_condition();
+
+  void should_fail_with_custom_message_if_no_element_satisfies_condition();
+
+  void should_throw_error_if_condition_is_null();
+
+  void should_fail_if_actual_is_null();
+
+  void should_fail_if_actual_is_null_even_if_condition_is_null();
+}
@@ -0,0 +1,82 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Before;
+import org.junit.Test;
+import java.util.List;
+import java.util.Set;
+
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link ItemGroupAssert#usingSnapshot()}.
+ *
+ * @author Alex Ruiz
+ */
+public class ItemGroupAssert_usingSnapshot_Test {
+  private List<String> actual;
+
+  @Before
+  public void setUp() {
+    actual = newArrayList("Luke", "Yoda", "Leia");
+  }
+
+  @Test
+  public void should_copy_actual_only_once_for_chained_checks() {
+    CopyCountingAssert assertion = new CopyCountingAssert(actual);
+    assertion.usingSnapshot().contains("Luke").excludes("Han").containsOnly("Leia", "Yoda", "Luke");
+    assertion.doesNotHaveDuplicates().doesNotHaveDuplicates();
+    assertEquals(1, assertion.setCopies);
+    assertEquals(1, assertion.listCopies);
+  }
+
+  @Test
+  public void should_copy_actual_for_each_check_by_default() {
+    CopyCountingAssert assertion = new CopyCountingAssert(actual);
+    assertion.contains("Luke").excludes("Han").containsOnly("Leia", "Yoda", "Luke");
+    assertEquals(3, assertion.setCopies);
+  }
+
+  @Test
+  public void should_not_see_changes_made_after_snapshot_was_taken() {
+    CopyCountingAssert assertion = new CopyCountingAssert(actual);
+    assertion.usingSnapshot().contains("Luke");
+    actual.remove("Luke");
+    assertion.containsOnly("Luke", "Yoda", "Leia");
+  }
+
+  private static class CopyCountingAssert extends TestObjectGroupAssert {
+    int setCopies;
+    int listCopies;
+
+    CopyCountingAssert(List<?> actual) {
+      super(actual);
+    }
+
+    @Override
+    protected Set<Object> actualAsSet() {
+      setCopies++;
+      return super.actualAsSet();
+    }
+
+    @Override
+    protected List<Object> actualAsList() {
+      listCopies++;
+      return super.actualAsList();
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import java.util.Iterator;
+
+import static org.fest.assertions.Fail.fail;
+import static org.fest.test.ExpectedException.none;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for reading elements of the actual {@code Iterator} lazily in {@link IteratorAssert}.
+ *
+ * @author Alex Ruiz
+ */
+public class IteratorAssert_lazyReading_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  private NaturalNumbers numbers;
+
+  @Before
+  public void setUp() {
+    numbers = new NaturalNumbers();
+  }
+
+  @Test
+  public void should_read_one_element_to_verify_iterator_is_not_empty() {
+    new IteratorAssert(numbers).isNotEmpty();
+    assertEquals(1, numbers.read);
+  }
+
+  @Test
+  public void should_stop_reading_when_all_expected_elements_are_found() {
+    new IteratorAssert(numbers).contains(8, 3).contains(2);
+    assertEquals(9, numbers.read);
+  }
+
+  @Test
+  public void should_read_at_most_one_more_element_than_expected_size() {
+    thrown.expect(AssertionError.class, "expected size:<3> but was:<5> for <[0, 1, 2, 3, 4]>");
+    IteratorAssert assertion = new IteratorAssert(new NaturalNumbers(5));
+    assertion.hasSize(5);
+    assertion.hasSize(3);
+  }
+
+  @Test
+  public void should_fail_without_reading_all_elements_of_infinite_iterator() {
+    thrown.expect(AssertionError.class, "expected size:<3> but was:<more than 3> for <[0, 1, 2, 3, ...]>");
+    new IteratorAssert(numbers).hasSize(3);
+  }
+
+  @Test
+  public void should_describe_infinite_iterator_from_first_elements() {
+    Truncation.setMaxElements(3);
+    try {
+      new IteratorAssert(numbers).isEmpty();
+    } catch (AssertionError e) {
+      assertEquals("expecting empty, but was:<[0, 1, 2, ...]>", e.getMessage());
+      assertEquals(4, numbers.read);
+      return;
+    } finally {
+      Truncation.reset();
+    }
+    fail("expecting an AssertionError");
+  }
+
+  @Test
+  public void should_show_at_most_max_elements_in_failure_message() {
+    Truncation.setMaxElements(2);
+    try {
+      new IteratorAssert(numbers).hasSize(5);
+    } catch (AssertionError e) {
+      assertEquals("expected size:<5> but was:<more than 5> for <[0, 1, ...]>", e.getMessage());
+      return;
+    } finally {
+      Truncation.reset();
+    }
+    fail("expecting an AssertionError");
+  }
+
+  @Test
+  public void should_fail_if_check_needs_more_elements_than_limit() {
+    thrown.expect(AssertionError.class, "expecting an iterator with at most <10> elements, but it has more");
+    new IteratorAssert(numbers).readingAtMost(10).contains(10);
+  }
+
+  @Test
+  public void should_show_elements_up_to_limit_in_failure_message() {
+    thrown.expect(AssertionError.class, "expecting empty, but was:<[0, 1, 2, ...]>");
+    new IteratorAssert(numbers).readingAtMost(3).isEmpty();
+  }
+
+  @Test
+  public void should_pass_if_iterator_has_exactly_limit_elements() {
+    new IteratorAssert(new NaturalNumbers(3)).readingAtMost(3).hasSize(3).containsOnly(0, 1, 2);
+  }
+
+  @Test
+  public void should_throw_error_if_limit_is_negative() {
+    thrown.expect(IllegalArgumentException.class);
+    new IteratorAssert(numbers).readingAtMost(-1);
+  }
+
+  private static class NaturalNumbers implements Iterator<Integer> {
+    private final int size;
+    int read;
+
+    NaturalNumbers() {
+      this(Integer.MAX_VALUE);
+    }
+
+    NaturalNumbers(int size) {
+      this.size = size;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return read < size;
+    }
+
+    @Override
+    public Integer next() {
+      return read++;
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
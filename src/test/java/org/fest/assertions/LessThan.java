@@ -0,0 +1,38 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+/**
+ * {@link Condition} that verifies that an {@code Integer} is less than a given value.
+ *
+ * @author Alex Ruiz
+ */
+class LessThan extends Condition<Integer> {
+  private final int limit;
+
+  static LessThan lessThan(int limit) {
+    return new LessThan(limit);
+  }
+
+  private LessThan(int limit) {
+    super("less than " + limit);
+    this.limit = limit;
+  }
+
+  @Override
+  public boolean matches(Integer value) {
+    return value < limit;
+  }
+}
@@ -19,6 +19,7 @@ import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
 
+import java.util.LinkedList;
 import java.util.List;
 
 import static java.util.Collections.emptyList;
@@ -47,6 +48,12 @@ public class ListAssert_containsSequence_Test {
     new ListAssert(list).containsSequence("Anakin", "Leia").containsSequence("Leia", "Han");
   }
 
+  @Test
+  public void should_pass_if_sequence_starts_after_partial_match() {
+    List<String> actual = new LinkedList<String>(newArrayList("Luke", "Leia", "Luke", "Leia", "Han"));
+    new ListAssert(actual).containsSequence("Luke", "Leia", "Han");
+  }
+
   @Test
   public void should_pass_if_actual_and_expected_are_equal() {
     new ListAssert(list).containsSequence("Anakin", "Leia", "Han");
@@ -0,0 +1,45 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static java.util.Collections.nCopies;
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link ListAssert#hasSize(int)} when the actual {@code List} is too large to be shown in full.
+ *
+ * @author Alex Ruiz
+ */
+public class ListAssert_hasSize_withLargeList_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @After
+  public void tearDown() {
+    Truncation.reset();
+  }
+
+  @Test
+  public void should_show_first_elements_of_actual() {
+    Truncation.setMaxElements(2);
+    thrown.expect(AssertionError.class, "expected size:<2> but was:<5000000> for <[0, 0, ...]>");
+    new ListAssert(nCopies(5000000, 0)).hasSize(2);
+  }
+}
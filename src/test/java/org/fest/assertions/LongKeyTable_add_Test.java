@@ -0,0 +1,59 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link LongKeyTable#add(long)}.
+ *
+ * @author Alex Ruiz
+ */
+public class LongKeyTable_add_Test {
+  @Test
+  public void should_assign_ordinals_in_insertion_order() {
+    LongKeyTable table = new LongKeyTable(0);
+    assertEquals(0, table.add(8L));
+    assertEquals(1, table.add(6L));
+    assertEquals(0, table.add(8L));
+    assertEquals(2, table.size());
+    assertEquals(6L, table.keyAt(1));
+  }
+
+  @Test
+  public void should_keep_keys_after_growing() {
+    LongKeyTable table = new LongKeyTable(2);
+    for (int i = 0; i < 10000; i++) {
+      table.add(Double.doubleToLongBits(i));
+    }
+    assertEquals(10000, table.size());
+    for (int i = 0; i < 10000; i++) {
+      assertEquals(i, table.indexOf(Double.doubleToLongBits(i)));
+    }
+    assertFalse(table.contains(Double.doubleToLongBits(10000)));
+    assertTrue(table.contains(Double.doubleToLongBits(9999)));
+  }
+
+  @Test
+  public void should_return_negative_index_if_key_not_found() {
+    LongKeyTable table = new LongKeyTable(4);
+    table.add(0L);
+    assertEquals(-1, table.indexOf(Long.MIN_VALUE));
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link MyersDiff#diff(int[], int[], boolean[], boolean[])}.
+ *
+ * @author Alex Ruiz
+ */
+public class MyersDiff_diff_Test {
+  @Test
+  public void should_not_find_differences_in_equal_sequences() {
+    int[] a = { 1, 2, 3 };
+    boolean[] removed = new boolean[3];
+    boolean[] added = new boolean[3];
+    MyersDiff.diff(a, a.clone(), removed, added);
+    assertTrue(Arrays.equals(new boolean[3], removed));
+    assertTrue(Arrays.equals(new boolean[3], added));
+  }
+
+  @Test
+  public void should_find_inserted_element_without_reporting_following_ones() {
+    boolean[] removed = new boolean[5];
+    boolean[] added = new boolean[6];
+    MyersDiff.diff(new int[] { 1, 2, 3, 4, 5 }, new int[] { 1, 2, 9, 3, 4, 5 }, removed, added);
+    assertTrue(Arrays.equals(new boolean[5], removed));
+    assertTrue(Arrays.equals(new boolean[] { false, false, true, false, false, false }, added));
+  }
+
+  @Test
+  public void should_find_shortest_edit_script() {
+    Random random = new Random(10);
+    for (int i = 0; i < 200; i++) {
+      int[] a = randomSequence(random);
+      int[] b = randomSequence(random);
+      boolean[] removed = new boolean[a.length];
+      boolean[] added = new boolean[b.length];
+      MyersDiff.diff(a, b, removed, added);
+      assertArrayEquals(kept(a, removed), kept(b, added));
+      int lcs = longestCommonSubsequence(a, b);
+      assertEquals(a.length - lcs, count(removed));
+      assertEquals(b.length - lcs, count(added));
+    }
+  }
+
+  private static int[] randomSequence(Random random) {
+    int[] sequence = new int[random.nextInt(30)];
+    for (int i = 0; i < sequence.length; i++) {
+      sequence[i] = random.nextInt(4);
+    }
+    return sequence;
+  }
+
+  private static int[] kept(int[] sequence, boolean[] changed) {
+    int[] kept = new int[sequence.length - count(changed)];
+    int j = 0;
+    for (int i = 0; i < sequence.length; i++) {
+      if (!changed[i]) {
+        kept[j++] = sequence[i];
+      }
+    }
+    return kept;
+  }
+
+  private static int count(boolean[] values) {
+    int count = 0;
+    for (boolean value : values) {
+      if (value) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static int longestCommonSubsequence(int[] a, int[] b) {
+    int[][] lengths = new int[a.length + 1][b.length + 1];
+    for (int i = a.length - 1; i >= 0; i--) {
+      for (int j = b.length - 1; j >= 0; j--) {
+        lengths[i][j] = a[i] == b[j] ? lengths[i + 1][j + 1] + 1 : Math.max(lengths[i + 1][j], lengths[i][j + 1]);
+      }
+    }
+    return lengths[0][0];
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.EqualTo.equalTo;
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+import static org.fest.util.Lists.newArrayList;
+
+/**
+ * Tests for {@link ObjectGroupAssert#allSatisfy(Condition)}.
+ *
+ * @author Alex Ruiz
+ */
+public class ObjectGroupAssert_allSatisfy_Test implements ItemGroupAssert_allSatisfy_TestCase {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Override
+  @Test
+  public void should_pass_if_all_elements_satisfy_condition() {
+    new TestObjectGroupAssert(newArrayList("Luke", "Yoda")).allSatisfy(NotNull.notNull());
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_elements_do_not_satisfy_condition() {
+    thrown.expect(AssertionError.class, "element(s) at index(es) <[1, 2]>:<['Yoda', 'Leia']>"
+        + " of <['Luke', 'Yoda', 'Leia', 'Luke']> should satisfy condition:<equal to Luke>");
+    new TestObjectGroupAssert(newArrayList("Luke", "Yoda", "Leia", "Luke")).allSatisfy(equalTo("Luke"));
+  }
+
+  @Test
+  public void should_report_at_most_ten_elements_not_satisfying_condition() {
+    thrown.expect(AssertionError.class, "element(s) at index(es) <[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]>:"
+        + "<[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]> of <[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11]>"
+        + " should satisfy condition:<equal to 12>");
+    new TestObjectGroupAssert(newArrayList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11)).allSatisfy(equalTo(12));
+  }
+
+  @Override
+  @Test
+  public void should_fail_and_display_description_if_elements_do_not_satisfy_condition() {
+    thrown.expect(AssertionError.class, "[A Test] element(s) at index(es) <[1]>:<['Yoda']>"
+        + " of <['Luke', 'Yoda']> should satisfy condition:<equal to Luke>");
+    new TestObjectGroupAssert(newArrayList("Luke", "Yoda")).as("A Test").allSatisfy(equalTo("Luke"));
+  }
+
+  @Override
+  @Test
+  public void should_fail_with_custom_message_if_elements_do_not_satisfy_condition() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new TestObjectGroupAssert(newArrayList("Luke", "Yoda")).overridingErrorMessage("My custom message")
+        .allSatisfy(equalTo("Luke"));
+  }
+
+  @Override
+  @Test
+  public void should_throw_error_if_condition_is_null() {
+    thrown.expect(NullPointerException.class);
+    new TestObjectGroupAssert(newArrayList("Luke")).allSatisfy(null);
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new TestObjectGroupAssert(null).allSatisfy(equalTo("Luke"));
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_null_even_if_condition_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new TestObjectGroupAssert(null).allSatisfy(null);
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.EqualTo.equalTo;
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+import static org.fest.util.Lists.newArrayList;
+
+/**
+ * Tests for {@link ObjectGroupAssert#anySatisfy(Condition)}.
+ *
+ * @author Alex Ruiz
+ */
+public class ObjectGroupAssert_anySatisfy_Test implements ItemGroupAssert_anySatisfy_TestCase {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Override
+  @Test
+  public void should_pass_if_an_element_satisfies_condition() {
+    new TestObjectGroupAssert(newArrayList("Luke", "Yoda")).anySatisfy(equalTo("Yoda"));
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_no_element_satisfies_condition() {
+    thrown.expect(AssertionError.class, "no element of <['Luke', 'Yoda']> satisfies condition:<equal to Leia>");
+    new TestObjectGroupAssert(newArrayList("Luke", "Yoda")).anySatisfy(equalTo("Leia"));
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_empty() {
+    thrown.expect(AssertionError.class, "no element of <[]> satisfies condition:<equal to Leia>");
+    new TestObjectGroupAssert(newArrayList()).anySatisfy(equalTo("Leia"));
+  }
+
+  @Override
+  @Test
+  public void should_fail_and_display_description_if_no_element_satisfies_condition() {
+    thrown.expect(AssertionError.class, "[A Test] no element of <['Luke']> satisfies condition:<equal to Leia>");
+    new TestObjectGroupAssert(newArrayList("Luke")).as("A Test").anySatisfy(equalTo("Leia"));
+  }
+
+  @Override
+  @Test
+  public void should_fail_with_custom_message_if_no_element_satisfies_condition() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new TestObjectGroupAssert(newArrayList("Luke")).overridingErrorMessage("My custom message")
+        .anySatisfy(equalTo("Leia"));
+  }
+
+  @Override
+  @Test
+  public void should_throw_error_if_condition_is_null() {
+    thrown.expect(NullPointerException.class);
+    new TestObjectGroupAssert(newArrayList("Luke")).anySatisfy(null);
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new TestObjectGroupAssert(null).anySatisfy(equalTo("Luke"));
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_null_even_if_condition_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new TestObjectGroupAssert(null).anySatisfy(null);
+  }
+}
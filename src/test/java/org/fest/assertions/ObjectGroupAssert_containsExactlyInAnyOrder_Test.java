@@ -0,0 +1,102 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+import static org.fest.util.Lists.newArrayList;
+
+/**
+ * Tests for {@link ObjectGroupAssert#containsExactlyInAnyOrder(Object...)}.
+ *
+ * @author Alex Ruiz
+ */
+public class ObjectGroupAssert_containsExactlyInAnyOrder_Test implements ItemGroupAssert_containsExactlyInAnyOrder_TestCase {
+  @Rule
+  public ExpectedException thrown = none();
+
+  private TestObjectGroupAssert assertions;
+
+  @Before
+  public void setUp() {
+    assertions = new TestObjectGroupAssert(newArrayList("Frodo", "Sam", "Frodo", null));
+  }
+
+  @Override
+  @Test
+  public void should_pass_if_actual_contains_exactly_given_values_in_different_order() {
+    assertions.containsExactlyInAnyOrder(null, "Frodo", "Frodo", "Sam");
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_values_are_not_repeated_as_many_times_as_given() {
+    thrown.expect(AssertionError.class, "<['Frodo', 'Sam', 'Frodo', null]>"
+        + " should contain exactly, in any order:<['Frodo', 'Sam', 'Sam', null, 'Gandalf']>"
+        + " but was missing:<['Sam', 'Gandalf']> and had unexpected:<['Frodo']>");
+    assertions.containsExactlyInAnyOrder("Frodo", "Sam", "Sam", null, "Gandalf");
+  }
+
+  @Test
+  public void should_fail_if_actual_contains_fewer_copies_of_given_values() {
+    thrown.expect(AssertionError.class, "<['Frodo', 'Sam', 'Frodo', null]>"
+        + " should contain exactly, in any order:<['Frodo', 'Sam', 'Frodo', null, null]>"
+        + " but was missing:<[null]> and had unexpected:<[]>");
+    assertions.containsExactlyInAnyOrder("Frodo", "Sam", "Frodo", null, null);
+  }
+
+  @Override
+  @Test
+  public void should_fail_and_display_description_if_actual_does_not_contain_exactly_given_values() {
+    thrown.expect(AssertionError.class, "[A Test] <['Frodo', 'Sam', 'Frodo', null]>"
+        + " should contain exactly, in any order:<['Frodo', null]>"
+        + " but was missing:<[]> and had unexpected:<['Sam', 'Frodo']>");
+    assertions.as("A Test").containsExactlyInAnyOrder("Frodo", null);
+  }
+
+  @Override
+  @Test
+  public void should_fail_with_custom_message_if_actual_does_not_contain_exactly_given_values() {
+    thrown.expect(AssertionError.class, "My custom message");
+    assertions.overridingErrorMessage("My custom message").containsExactlyInAnyOrder("Frodo");
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new TestObjectGroupAssert(null).containsExactlyInAnyOrder("Frodo");
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_null_even_if_expected_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new TestObjectGroupAssert(null).containsExactlyInAnyOrder((Object[]) null);
+  }
+
+  @Override
+  @Test
+  public void should_throw_error_if_expected_is_null() {
+    thrown.expect(NullPointerException.class);
+    Object[] values = null;
+    assertions.containsExactlyInAnyOrder(values);
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+import static org.fest.util.Lists.newArrayList;
+
+/**
+ * Tests for {@link ObjectGroupAssert#doesNotHaveDuplicateInstances()}.
+ *
+ * @author Alex Ruiz
+ */
+public class ObjectGroupAssert_doesNotHaveDuplicateInstances_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_actual_has_equal_but_distinct_objects() {
+    new TestObjectGroupAssert(newArrayList(new String("Luke"), new String("Luke"))).doesNotHaveDuplicateInstances();
+  }
+
+  @Test
+  public void should_fail_if_actual_contains_same_instance_more_than_once() {
+    String luke = "Luke";
+    thrown.expect(AssertionError.class, "<['Luke', 'Yoda', 'Luke']> contains duplicate(s):<['Luke']>");
+    new TestObjectGroupAssert(newArrayList(luke, "Yoda", luke)).doesNotHaveDuplicateInstances();
+  }
+
+  @Test
+  public void should_fail_and_display_description_if_actual_contains_same_instance_more_than_once() {
+    String luke = "Luke";
+    thrown.expect(AssertionError.class, "[A Test] <['Luke', 'Yoda', 'Luke']> contains duplicate(s):<['Luke']>");
+    new TestObjectGroupAssert(newArrayList(luke, "Yoda", luke)).as("A Test").doesNotHaveDuplicateInstances();
+  }
+
+  @Test
+  public void should_fail_with_custom_message_if_actual_contains_same_instance_more_than_once() {
+    String luke = "Luke";
+    thrown.expect(AssertionError.class, "My custom message");
+    new TestObjectGroupAssert(newArrayList(luke, "Yoda", luke)).overridingErrorMessage("My custom message")
+        .doesNotHaveDuplicateInstances();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new TestObjectGroupAssert(null).doesNotHaveDuplicateInstances();
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.test.ExpectedException.none;
+import static org.fest.util.Lists.newArrayList;
+
+/**
+ * Tests for {@link ObjectGroupAssert#doesNotHaveDuplicates()} and {@link IntArrayAssert#doesNotHaveDuplicates()} when
+ * the maximum number of duplicates to look for is set with {@link DuplicateDetection#setMaxReported(int)}.
+ *
+ * @author Alex Ruiz
+ */
+public class ObjectGroupAssert_doesNotHaveDuplicates_withMaxReported_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @After
+  public void tearDown() {
+    DuplicateDetection.reset();
+  }
+
+  @Test
+  public void should_stop_looking_for_duplicates_after_max_reported() {
+    DuplicateDetection.setMaxReported(1);
+    thrown.expect(AssertionError.class, "<['Luke', 'Yoda', 'Yoda', 'Luke']> contains duplicate(s):<['Yoda']>");
+    new TestObjectGroupAssert(newArrayList("Luke", "Yoda", "Yoda", "Luke")).doesNotHaveDuplicates();
+  }
+
+  @Test
+  public void should_report_all_duplicates_under_max_reported() {
+    DuplicateDetection.setMaxReported(2);
+    thrown.expect(AssertionError.class, "<['Luke', 'Yoda', 'Yoda', 'Luke']> contains duplicate(s):<['Yoda', 'Luke']>");
+    new TestObjectGroupAssert(newArrayList("Luke", "Yoda", "Yoda", "Luke")).doesNotHaveDuplicates();
+  }
+
+  @Test
+  public void should_stop_looking_for_duplicates_in_primitive_array_after_max_reported() {
+    DuplicateDetection.setMaxReported(1);
+    thrown.expect(AssertionError.class, "<[6, 8, 8, 6]> contains duplicate(s):<[8]>");
+    new IntArrayAssert(6, 8, 8, 6).doesNotHaveDuplicates();
+  }
+
+  @Test
+  public void should_throw_error_if_max_reported_is_not_positive() {
+    thrown.expect(IllegalArgumentException.class);
+    DuplicateDetection.setMaxReported(0);
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Comparator;
+
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+import static java.util.Collections.reverseOrder;
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+import static org.fest.util.Lists.newArrayList;
+
+/**
+ * Tests for {@link ObjectGroupAssert#isSortedAccordingTo(Comparator)}.
+ *
+ * @author Alex Ruiz
+ */
+public class ObjectGroupAssert_isSortedAccordingTo_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_actual_is_sorted_according_to_comparator() {
+    new TestObjectGroupAssert(newArrayList("frodo", "Gandalf", "sam")).isSortedAccordingTo(CASE_INSENSITIVE_ORDER);
+    new TestObjectGroupAssert(newArrayList("Sam", "Gandalf", "Frodo")).isSortedAccordingTo(reverseOrder());
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_sorted_according_to_comparator() {
+    thrown.expect(AssertionError.class, "<['Frodo', 'Sam', 'Gandalf']> is not sorted according to the given comparator:"
+        + " element at index <1>:<'Sam'> is less than the element before it:<'Frodo'>");
+    new TestObjectGroupAssert(newArrayList("Frodo", "Sam", "Gandalf")).isSortedAccordingTo(reverseOrder());
+  }
+
+  @Test
+  public void should_fail_and_display_description_if_actual_is_not_sorted_according_to_comparator() {
+    thrown.expect(AssertionError.class, "[A Test] <['Sam', 'frodo']> is not sorted according to the given comparator:"
+        + " element at index <1>:<'frodo'> is less than the element before it:<'Sam'>");
+    new TestObjectGroupAssert(newArrayList("Sam", "frodo")).as("A Test").isSortedAccordingTo(CASE_INSENSITIVE_ORDER);
+  }
+
+  @Test
+  public void should_fail_with_custom_message_if_actual_is_not_sorted_according_to_comparator() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new TestObjectGroupAssert(newArrayList("Sam", "frodo")).overridingErrorMessage("My custom message")
+        .isSortedAccordingTo(CASE_INSENSITIVE_ORDER);
+  }
+
+  @Test
+  public void should_throw_error_if_comparator_is_null() {
+    thrown.expect(NullPointerException.class);
+    Comparator<String> comparator = null;
+    new TestObjectGroupAssert(newArrayList("Sam")).isSortedAccordingTo(comparator);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new TestObjectGroupAssert(null).isSortedAccordingTo(CASE_INSENSITIVE_ORDER);
+  }
+}
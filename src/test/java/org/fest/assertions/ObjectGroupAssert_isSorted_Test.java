@@ -0,0 +1,83 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static java.util.Collections.emptyList;
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+import static org.fest.util.Lists.newArrayList;
+
+/**
+ * Tests for {@link ObjectGroupAssert#isSorted()}.
+ *
+ * @author Alex Ruiz
+ */
+public class ObjectGroupAssert_isSorted_Test implements ItemGroupAssert_isSorted_TestCase {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Override
+  @Test
+  public void should_pass_if_actual_is_sorted() {
+    new TestObjectGroupAssert(newArrayList("Frodo", "Gandalf", "Gandalf", "Sam")).isSorted();
+  }
+
+  @Override
+  @Test
+  public void should_pass_if_actual_is_empty() {
+    new TestObjectGroupAssert(emptyList()).isSorted();
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_not_sorted() {
+    thrown.expect(AssertionError.class, "<['Frodo', 'Sam', 'Gandalf']> is not sorted:"
+        + " element at index <2>:<'Gandalf'> is less than the element before it:<'Sam'>");
+    new TestObjectGroupAssert(newArrayList("Frodo", "Sam", "Gandalf")).isSorted();
+  }
+
+  @Override
+  @Test
+  public void should_fail_and_display_description_if_actual_is_not_sorted() {
+    thrown.expect(AssertionError.class, "[A Test] <['Frodo', 'Sam', 'Gandalf']> is not sorted:"
+        + " element at index <2>:<'Gandalf'> is less than the element before it:<'Sam'>");
+    new TestObjectGroupAssert(newArrayList("Frodo", "Sam", "Gandalf")).as("A Test").isSorted();
+  }
+
+  @Override
+  @Test
+  public void should_fail_with_custom_message_if_actual_is_not_sorted() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new TestObjectGroupAssert(newArrayList("Frodo", "Sam", "Gandalf")).overridingErrorMessage("My custom message")
+        .isSorted();
+  }
+
+  @Test
+  public void should_throw_error_if_elements_are_not_comparable() {
+    thrown.expect(ClassCastException.class);
+    new TestObjectGroupAssert(newArrayList(new Object(), new Object())).isSorted();
+  }
+
+  @Override
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new TestObjectGroupAssert(null).isSorted();
+  }
+}
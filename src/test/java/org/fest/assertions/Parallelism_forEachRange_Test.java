@@ -0,0 +1,103 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.assertions.Parallelism.RangeTask;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.fest.assertions.Fail.fail;
+import static org.fest.assertions.Parallelism.forEachRange;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link Parallelism#forEachRange(int, RangeTask)} when chunks fail.
+ *
+ * @author Alex Ruiz
+ */
+public class Parallelism_forEachRange_Test {
+  private AtomicInteger completed;
+
+  @Before
+  public void setUp() {
+    Parallelism.setThreshold(1);
+    Parallelism.setWorkerCount(4);
+    completed = new AtomicInteger();
+  }
+
+  @After
+  public void tearDown() {
+    Parallelism.reset();
+  }
+
+  @Test
+  public void should_rethrow_failure_of_lowest_chunk_after_all_chunks_complete() {
+    try {
+      forEachRange(4, new FailingChunks(new IllegalStateException("first"), new AssertionError("second")));
+    } catch (IllegalStateException e) {
+      assertEquals("first", e.getMessage());
+      assertEquals(2, completed.get());
+      return;
+    }
+    fail("expecting an IllegalStateException");
+  }
+
+  @Test
+  public void should_rethrow_error_of_lowest_chunk_after_all_chunks_complete() {
+    try {
+      forEachRange(4, new FailingChunks(new AssertionError("first"), new IllegalStateException("second")));
+    } catch (AssertionError e) {
+      assertEquals("first", e.getMessage());
+      assertEquals(2, completed.get());
+      return;
+    }
+    fail("expecting an AssertionError");
+  }
+
+  // the first two chunks fail, the first one after the second one; the last two chunks complete after both failed
+  private class FailingChunks implements RangeTask {
+    private final Throwable[] failures;
+
+    FailingChunks(Throwable... failures) {
+      this.failures = failures;
+    }
+
+    @Override
+    public void run(int from, int to) {
+      if (from >= failures.length) {
+        pause(200);
+        completed.incrementAndGet();
+        return;
+      }
+      pause(from == 0 ? 100 : 0);
+      Throwable failure = failures[from];
+      if (failure instanceof Error) {
+        throw (Error) failure;
+      }
+      throw (RuntimeException) failure;
+    }
+
+    private void pause(long millis) {
+      try {
+        Thread.sleep(millis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
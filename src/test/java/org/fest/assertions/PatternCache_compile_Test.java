@@ -0,0 +1,50 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link PatternCache#compile(String)}.
+ *
+ * @author Alex Ruiz
+ */
+public class PatternCache_compile_Test {
+  @Test
+  public void should_return_same_Pattern_for_same_regular_expression() {
+    Pattern pattern = PatternCache.compile("^Luke \\d+$");
+    assertEquals("^Luke \\d+$", pattern.pattern());
+    assertSame(pattern, PatternCache.compile("^Luke \\d+$"));
+  }
+
+  @Test
+  public void should_keep_at_most_max_size_Patterns() {
+    Pattern first = PatternCache.compile("first");
+    for (int i = 0; i < PatternCache.MAX_SIZE; i++) {
+      PatternCache.compile("regex" + i);
+    }
+    assertEquals(PatternCache.MAX_SIZE, PatternCache.size());
+    assertNotSame(first, PatternCache.compile("first"));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_regular_expression_is_null() {
+    PatternCache.compile(null);
+  }
+}
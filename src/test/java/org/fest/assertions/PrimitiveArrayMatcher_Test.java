@@ -0,0 +1,58 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import static org.fest.assertions.PrimitiveArrayMatcher.matcherFor;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link PrimitiveArrayMatcher}.
+ *
+ * @author Alex Ruiz
+ */
+public class PrimitiveArrayMatcher_Test {
+  @Test
+  public void should_compare_doubles_like_their_wrappers() {
+    double[] actual = {Double.NaN, 0.0};
+    assertTrue(matcherFor(new double[] {Double.NaN}).notFoundIn(actual).isEmpty());
+    assertEquals(newArrayList(-0.0), matcherFor(new double[] {-0.0}).notFoundIn(actual));
+  }
+
+  @Test
+  public void should_return_not_found_values_including_duplicates() {
+    assertEquals(newArrayList(7, 7), matcherFor(new int[] {7, 6, 7}).notFoundIn(new int[] {6, 8}));
+  }
+
+  @Test
+  public void should_return_found_values_including_duplicates() {
+    assertEquals(newArrayList(6L, 6L), matcherFor(new long[] {6L, 7L, 6L}).foundIn(new long[] {6L, 8L}));
+  }
+
+  @Test
+  public void should_return_distinct_unexpected_elements_in_order() {
+    PrimitiveArrayMatcher matcher = matcherFor(new char[] {'a', 'z'});
+    assertEquals(newArrayList('c', 'b'), matcher.unexpectedIn(new char[] {'c', 'a', 'b', 'c', 'b'}));
+    assertEquals(newArrayList('z'), matcher.distinctNotFound());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_actual_is_not_array_of_primitives() {
+    matcherFor(new int[] {6}).notFoundIn(new Object[] {6});
+  }
+}
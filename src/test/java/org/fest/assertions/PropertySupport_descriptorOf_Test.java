@@ -0,0 +1,64 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.util.IntrospectionError;
+import org.junit.Before;
+import org.junit.Test;
+import java.beans.PropertyDescriptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link PropertySupport#descriptorOf(String, Object)}.
+ *
+ * @author Alex Ruiz
+ */
+public class PropertySupport_descriptorOf_Test {
+  private PropertySupport propertySupport;
+
+  @Before
+  public void setUp() {
+    propertySupport = new PropertySupport(new JavaBeanDescriptor());
+  }
+
+  @Test
+  public void should_reuse_descriptor_for_objects_of_same_type() {
+    PropertyDescriptor descriptor = propertySupport.descriptorOf("firstName", new Name("Leia", "Organa"));
+    assertEquals("firstName", descriptor.getName());
+    assertSame(descriptor, propertySupport.descriptorOf("firstName", new Name("Luke", "Skywalker")));
+  }
+
+  @Test
+  public void should_keep_descriptors_of_different_properties_apart() {
+    Name name = new Name("Leia", "Organa");
+    assertEquals("lastName", propertySupport.descriptorOf("lastName", name).getName());
+    assertEquals("firstName", propertySupport.descriptorOf("firstName", name).getName());
+  }
+
+  @Test
+  public void should_throw_error_every_time_property_is_not_found() {
+    for (int i = 0; i < 2; i++) {
+      try {
+        propertySupport.descriptorOf("age", new Name("Leia", "Organa"));
+        fail("Expecting IntrospectionError");
+      } catch (IntrospectionError expected) {
+        // expected
+      }
+    }
+  }
+}
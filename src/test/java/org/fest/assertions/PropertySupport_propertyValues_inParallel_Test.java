@@ -0,0 +1,94 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.util.IntrospectionError;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import java.util.List;
+
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link PropertySupport#propertyValues(String, java.util.Collection)} when property getters are thread-safe
+ * and elements are processed in parallel.
+ *
+ * @author Alex Ruiz
+ */
+public class PropertySupport_propertyValues_inParallel_Test {
+  private PropertySupport propertySupport;
+  private List<Object> names;
+
+  @Before
+  public void setUp() {
+    Parallelism.setThreshold(1);
+    Parallelism.setWorkerCount(4);
+    Parallelism.setPropertyGettersThreadSafe(true);
+    propertySupport = new PropertySupport(new JavaBeanDescriptor());
+    names = newArrayList();
+    for (int i = 0; i < 1000; i++) {
+      names.add(i % 7 == 0 ? null : new Name("first" + i, "last" + i));
+    }
+  }
+
+  @After
+  public void tearDown() {
+    Parallelism.reset();
+  }
+
+  @Test
+  public void should_keep_order_and_skip_null_elements() {
+    List<Object> expected = newArrayList();
+    for (int i = 0; i < 1000; i++) {
+      if (i % 7 != 0) {
+        expected.add("first" + i);
+      }
+    }
+    assertEquals(expected, propertySupport.propertyValues("firstName", names));
+  }
+
+  @Test
+  public void should_call_getters_in_calling_thread_unless_they_are_thread_safe() {
+    Parallelism.setPropertyGettersThreadSafe(false);
+    final Thread caller = Thread.currentThread();
+    List<Object> beans = newArrayList();
+    for (int i = 0; i < 1000; i++) {
+      beans.add(new Object() {
+        @SuppressWarnings("unused")
+        public boolean isInCaller() {
+          return Thread.currentThread() == caller;
+        }
+      });
+    }
+    assertFalse(propertySupport.propertyValues("inCaller", beans).contains(false));
+  }
+
+  @Test
+  public void should_report_error_of_first_invalid_element() {
+    names.add(500, "Hello");
+    names.add(900, 6);
+    try {
+      propertySupport.propertyValues("firstName", names);
+      fail("Expecting IntrospectionError");
+    } catch (IntrospectionError e) {
+      assertTrue(e.getMessage().endsWith("java.lang.String"));
+    }
+  }
+}
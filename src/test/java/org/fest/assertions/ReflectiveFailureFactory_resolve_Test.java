@@ -0,0 +1,46 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.ComparisonFailure;
+import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ReflectiveFailureFactory#resolve(ClassLoader)}.
+ *
+ * @author Alex Ruiz
+ */
+public class ReflectiveFailureFactory_resolve_Test {
+  @Test
+  public void should_create_ComparisonFailure_if_JUnit_is_available() {
+    ReflectiveFailureFactory factory = ReflectiveFailureFactory.resolve(getClass().getClassLoader());
+    assertTrue(factory.isAvailable());
+    AssertionError failure = factory.comparisonFailure("message", "'expected'", "'actual'");
+    assertTrue(failure instanceof ComparisonFailure);
+    assertEquals("[message] expected:<'[expected]'> but was:<'[actual]'>", failure.getMessage());
+  }
+
+  @Test
+  public void should_return_null_if_no_failure_type_is_available() {
+    ReflectiveFailureFactory factory = ReflectiveFailureFactory.resolve(new URLClassLoader(new URL[0], null));
+    assertFalse(factory.isAvailable());
+    assertNull(factory.comparisonFailure("message", "'expected'", "'actual'"));
+  }
+}
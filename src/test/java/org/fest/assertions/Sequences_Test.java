@@ -0,0 +1,63 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.fest.assertions.Sequences.endsWithSequence;
+import static org.fest.assertions.Sequences.indexOfSequence;
+import static org.fest.assertions.Sequences.startsWithSequence;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Sequences}.
+ *
+ * @author Alex Ruiz
+ */
+public class Sequences_Test {
+  @Test
+  public void should_find_sequence_after_repeated_prefix() {
+    List<Integer> list = new LinkedList<Integer>(newArrayList(1, 1, 2, 1, 1, 2, 1, 1, 1, 3));
+    assertEquals(6, indexOfSequence(list, new Object[] {1, 1, 1, 3}));
+    assertEquals(3, indexOfSequence(list, new Object[] {1, 1, 2, 1, 1, 1}));
+  }
+
+  @Test
+  public void should_return_minus_one_if_sequence_not_found() {
+    List<Integer> list = newArrayList(1, 2, 3);
+    assertEquals(-1, indexOfSequence(list, new Object[] {2, 4}));
+    assertEquals(-1, indexOfSequence(list, new Object[] {1, 2, 3, 4}));
+  }
+
+  @Test
+  public void should_compare_null_elements() {
+    List<String> list = newArrayList("a", null, "b");
+    assertEquals(1, indexOfSequence(list, new Object[] {null, "b"}));
+  }
+
+  @Test
+  public void should_check_start_and_end_of_linked_list() {
+    List<String> list = new LinkedList<String>(newArrayList("Luke", "Leia", "Han"));
+    assertTrue(startsWithSequence(list, new Object[] {"Luke", "Leia"}));
+    assertFalse(startsWithSequence(list, new Object[] {"Leia"}));
+    assertTrue(endsWithSequence(list, new Object[] {"Leia", "Han"}));
+    assertFalse(endsWithSequence(list, new Object[] {"Luke", "Leia", "Han", "Yoda"}));
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link SoftAssertions#check(Runnable)} and {@link SoftAssertions#assertAll()}.
+ *
+ * @author Alex Ruiz
+ */
+public class SoftAssertions_assertAll_Test {
+  @Test
+  public void should_pass_if_all_checks_passed() {
+    SoftAssertions softly = new SoftAssertions();
+    assertTrue(softly.check(new Runnable() {
+      @Override
+      public void run() {
+        assertThat("Yoda").isEqualTo("Yoda");
+      }
+    }));
+    softly.assertAll();
+    assertEquals(0, softly.failureCount());
+  }
+
+  @Test
+  public void should_report_all_failures_at_once() {
+    SoftAssertions softly = new SoftAssertions();
+    assertFalse(softly.check(new Runnable() {
+      @Override
+      public void run() {
+        assertThat("Yoda").isEqualTo("Luke");
+      }
+    }));
+    assertFalse(softly.check(new Runnable() {
+      @Override
+      public void run() {
+        assertThat(6).isLessThan(2);
+      }
+    }));
+    assertEquals(2, softly.failureCount());
+    assertEquals(0, softly.failures().get(0).getStackTrace().length);
+    try {
+      softly.assertAll();
+      fail("Expecting AssertionError");
+    } catch (AssertionError e) {
+      String expected = String.format("2 check(s) failed:%n1) expected:<'Luke'> but was:<'Yoda'>%n"
+          + "2) actual value:<6> should be less than:<2>");
+      assertEquals(expected, e.getMessage());
+      assertTrue(e.getStackTrace().length > 0);
+    }
+    assertEquals(StackTraceMode.FULL, Fail.stackTraceMode());
+  }
+
+  @Test
+  public void should_only_keep_first_failures_in_memory() {
+    SoftAssertions softly = new SoftAssertions(1);
+    for (int i = 0; i < 3; i++) {
+      final int value = i;
+      softly.check(new Runnable() {
+        @Override
+        public void run() {
+          assertThat(value).isNegative();
+        }
+      });
+    }
+    assertEquals(3, softly.failureCount());
+    assertEquals(1, softly.failures().size());
+    try {
+      softly.assertAll();
+      fail("Expecting AssertionError");
+    } catch (AssertionError e) {
+      assertTrue(e.getMessage().startsWith("3 check(s) failed:"));
+      assertTrue(e.getMessage().endsWith(String.format("%n(2 more)")));
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void should_not_catch_other_exceptions() {
+    new SoftAssertions().check(new Runnable() {
+      @Override
+      public void run() {
+        throw new IllegalStateException();
+      }
+    });
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_max_recorded_failures_is_negative() {
+    new SoftAssertions(-1);
+  }
+}
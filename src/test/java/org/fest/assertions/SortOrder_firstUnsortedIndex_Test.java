@@ -0,0 +1,97 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import static java.lang.Double.NaN;
+import static org.fest.assertions.SortOrder.firstUnsortedIndex;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link SortOrder#firstUnsortedIndex(Object, boolean)}.
+ *
+ * @author Alex Ruiz
+ */
+public class SortOrder_firstUnsortedIndex_Test {
+  @Test
+  public void should_find_first_unsorted_index_in_boolean_array() {
+    assertEquals(-1, firstUnsortedIndex(new boolean[] { false, true }, true));
+    assertEquals(-1, firstUnsortedIndex(new boolean[] { false, false }, false));
+    assertEquals(1, firstUnsortedIndex(new boolean[] { false, false }, true));
+    assertEquals(1, firstUnsortedIndex(new boolean[] { true, false }, false));
+  }
+
+  @Test
+  public void should_find_first_unsorted_index_in_byte_array() {
+    assertEquals(-1, firstUnsortedIndex(new byte[] { 1, 2, 3 }, true));
+    assertEquals(-1, firstUnsortedIndex(new byte[] { 1, 2, 2 }, false));
+    assertEquals(2, firstUnsortedIndex(new byte[] { 1, 2, 2 }, true));
+    assertEquals(2, firstUnsortedIndex(new byte[] { 1, 3, 2 }, false));
+  }
+
+  @Test
+  public void should_find_first_unsorted_index_in_char_array() {
+    assertEquals(-1, firstUnsortedIndex(new char[] { 'a', 'b', 'c' }, true));
+    assertEquals(-1, firstUnsortedIndex(new char[] { 'a', 'b', 'b' }, false));
+    assertEquals(2, firstUnsortedIndex(new char[] { 'a', 'b', 'b' }, true));
+    assertEquals(2, firstUnsortedIndex(new char[] { 'a', 'c', 'b' }, false));
+  }
+
+  @Test
+  public void should_find_first_unsorted_index_in_double_array() {
+    assertEquals(-1, firstUnsortedIndex(new double[] { -0.0, 0.0, NaN }, true));
+    assertEquals(-1, firstUnsortedIndex(new double[] { 1.0, NaN, NaN }, false));
+    assertEquals(2, firstUnsortedIndex(new double[] { 1.0, NaN, NaN }, true));
+    assertEquals(2, firstUnsortedIndex(new double[] { 1.0, NaN, 2.0 }, false));
+  }
+
+  @Test
+  public void should_find_first_unsorted_index_in_float_array() {
+    assertEquals(-1, firstUnsortedIndex(new float[] { -0.0f, 0.0f, Float.NaN }, true));
+    assertEquals(-1, firstUnsortedIndex(new float[] { 1.0f, Float.NaN, Float.NaN }, false));
+    assertEquals(2, firstUnsortedIndex(new float[] { 1.0f, Float.NaN, Float.NaN }, true));
+    assertEquals(2, firstUnsortedIndex(new float[] { 1.0f, Float.NaN, 2.0f }, false));
+  }
+
+  @Test
+  public void should_find_first_unsorted_index_in_int_array() {
+    assertEquals(-1, firstUnsortedIndex(new int[] { 1, 2, 3 }, true));
+    assertEquals(-1, firstUnsortedIndex(new int[] { 1, 2, 2 }, false));
+    assertEquals(2, firstUnsortedIndex(new int[] { 1, 2, 2 }, true));
+    assertEquals(2, firstUnsortedIndex(new int[] { 1, 3, 2 }, false));
+  }
+
+  @Test
+  public void should_find_first_unsorted_index_in_long_array() {
+    assertEquals(-1, firstUnsortedIndex(new long[] { 1L, 2L, 3L }, true));
+    assertEquals(-1, firstUnsortedIndex(new long[] { 1L, 2L, 2L }, false));
+    assertEquals(2, firstUnsortedIndex(new long[] { 1L, 2L, 2L }, true));
+    assertEquals(2, firstUnsortedIndex(new long[] { 1L, 3L, 2L }, false));
+  }
+
+  @Test
+  public void should_find_first_unsorted_index_in_short_array() {
+    assertEquals(-1, firstUnsortedIndex(new short[] { 1, 2, 3 }, true));
+    assertEquals(-1, firstUnsortedIndex(new short[] { 1, 2, 2 }, false));
+    assertEquals(2, firstUnsortedIndex(new short[] { 1, 2, 2 }, true));
+    assertEquals(2, firstUnsortedIndex(new short[] { 1, 3, 2 }, false));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_array_is_not_an_array_of_primitives() {
+    firstUnsortedIndex(new Object[] { "Frodo", "Sam" }, false);
+  }
+}
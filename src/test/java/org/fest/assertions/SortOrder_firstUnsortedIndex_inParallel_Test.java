@@ -0,0 +1,98 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.fest.assertions.SortOrder.firstUnsortedIndex;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link SortOrder#firstUnsortedIndex(Object, boolean)} and
+ * {@link SortOrder#firstUnsortedIndex(List, java.util.Comparator, boolean)} when the parallelism threshold is reached.
+ *
+ * @author Alex Ruiz
+ */
+public class SortOrder_firstUnsortedIndex_inParallel_Test {
+  private long[] values;
+
+  @Before
+  public void setUp() {
+    Parallelism.setThreshold(1);
+    Parallelism.setWorkerCount(4);
+    values = new long[100003];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i;
+    }
+  }
+
+  @After
+  public void tearDown() {
+    Parallelism.reset();
+  }
+
+  @Test
+  public void should_find_no_unsorted_index_in_sorted_array() {
+    assertEquals(-1, firstUnsortedIndex(values, true));
+  }
+
+  @Test
+  public void should_report_first_unsorted_index_across_ranges() {
+    values[90000] = 0;
+    values[25001] = 25001;
+    values[25000] = 25002;
+    assertEquals(25001, firstUnsortedIndex(values, false));
+    values[25000] = 25000;
+    assertEquals(90000, firstUnsortedIndex(values, false));
+  }
+
+  @Test
+  public void should_report_out_of_order_element_at_range_boundary() {
+    int[] small = { 1, 2, 3, 4, 5, 6, 7, 8 };
+    small[4] = 0;
+    assertEquals(4, firstUnsortedIndex(small, false));
+  }
+
+  @Test
+  public void should_report_first_unsorted_index_in_list() {
+    List<Long> list = newArrayList();
+    for (long value : values) {
+      list.add(value);
+    }
+    list.set(70000, -1L);
+    list.set(99999, -1L);
+    assertEquals(70000, firstUnsortedIndex(list, null, false));
+  }
+
+  @Test
+  public void should_compare_list_elements_in_calling_thread() {
+    final Thread caller = Thread.currentThread();
+    List<Comparable<Object>> list = newArrayList();
+    for (int i = 0; i < 1000; i++) {
+      list.add(new Comparable<Object>() {
+        @Override
+        public int compareTo(Object o) {
+          return Thread.currentThread() == caller ? 0 : 1;
+        }
+      });
+    }
+    assertEquals(-1, firstUnsortedIndex(list, null, false));
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.Assertions.assertThatStream;
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.assertions.Fail.fail;
+import static org.fest.assertions.IntRange.range;
+import static org.fest.assertions.LessThan.lessThan;
+import static org.fest.test.ExpectedException.none;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link StreamAssert#allMatch(Condition)}.
+ *
+ * @author Alex Ruiz
+ */
+public class StreamAssert_allMatch_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_all_elements_satisfy_condition() {
+    assertThatStream(range(0, 5)).allMatch(lessThan(5));
+  }
+
+  @Test
+  public void should_stop_reading_at_first_element_not_satisfying_condition() {
+    IntRange range = range(0, Integer.MAX_VALUE);
+    try {
+      assertThatStream(range).allMatch(lessThan(3));
+    } catch (AssertionError e) {
+      assertEquals(4, range.generated());
+      return;
+    }
+    fail("expecting an AssertionError");
+  }
+
+  @Test
+  public void should_fail_if_an_element_does_not_satisfy_condition() {
+    thrown.expect(AssertionError.class, "element at index <1>:<1> of <[0, 1, ...]>"
+        + " should satisfy condition:<less than 1>");
+    assertThatStream(range(0, 2)).allMatch(lessThan(1));
+  }
+
+  @Test
+  public void should_show_only_elements_read_in_failure_message() {
+    thrown.expect(AssertionError.class, "element at index <3>:<3> of <[0, 1, 2, 3, ...]>"
+        + " should satisfy condition:<less than 3>");
+    assertThatStream(range(0, 1000000)).allMatch(lessThan(3));
+  }
+
+  @Test
+  public void should_fail_and_display_description_if_an_element_does_not_satisfy_condition() {
+    thrown.expect(AssertionError.class, "[A Test] element at index <3>:<3> of <[0, 1, 2, 3, ...]>"
+        + " should satisfy condition:<less than 3>");
+    assertThatStream(range(0, 10)).as("A Test").allMatch(lessThan(3));
+  }
+
+  @Test
+  public void should_fail_with_custom_message_if_an_element_does_not_satisfy_condition() {
+    thrown.expect(AssertionError.class, "My custom message");
+    assertThatStream(range(0, 10)).overridingErrorMessage("My custom message").allMatch(lessThan(3));
+  }
+
+  @Test
+  public void should_throw_error_if_condition_is_null() {
+    thrown.expect(NullPointerException.class);
+    assertThatStream(range(0, 10)).allMatch(null);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    assertThatStream(null).allMatch(lessThan(3));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null_even_if_condition_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    assertThatStream(null).allMatch(null);
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.Assertions.assertThatStream;
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.assertions.IntRange.range;
+import static org.fest.assertions.LessThan.lessThan;
+import static org.fest.test.ExpectedException.none;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link StreamAssert#anyMatch(Condition)}.
+ *
+ * @author Alex Ruiz
+ */
+public class StreamAssert_anyMatch_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_an_element_satisfies_condition() {
+    assertThatStream(range(5, 10)).anyMatch(lessThan(6));
+  }
+
+  @Test
+  public void should_stop_reading_at_first_element_satisfying_condition() {
+    IntRange range = range(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    assertThatStream(range).anyMatch(lessThan(Integer.MAX_VALUE));
+    assertEquals(1, range.generated());
+  }
+
+  @Test
+  public void should_fail_if_no_element_satisfies_condition() {
+    thrown.expect(AssertionError.class, "no element of <[5, 6, 7]> satisfies condition:<less than 5>");
+    assertThatStream(range(5, 8)).anyMatch(lessThan(5));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_empty() {
+    thrown.expect(AssertionError.class, "no element of <[]> satisfies condition:<less than 5>");
+    assertThatStream(range(0, 0)).anyMatch(lessThan(5));
+  }
+
+  @Test
+  public void should_fail_and_display_description_if_no_element_satisfies_condition() {
+    thrown.expect(AssertionError.class, "[A Test] no element of <[5, 6, 7]> satisfies condition:<less than 5>");
+    assertThatStream(range(5, 8)).as("A Test").anyMatch(lessThan(5));
+  }
+
+  @Test
+  public void should_fail_with_custom_message_if_no_element_satisfies_condition() {
+    thrown.expect(AssertionError.class, "My custom message");
+    assertThatStream(range(5, 8)).overridingErrorMessage("My custom message").anyMatch(lessThan(5));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    assertThatStream(null).anyMatch(lessThan(3));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null_even_if_condition_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    assertThatStream(null).anyMatch(null);
+  }
+}
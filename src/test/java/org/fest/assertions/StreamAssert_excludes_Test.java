@@ -0,0 +1,69 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.Assertions.assertThatStream;
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.assertions.IntRange.range;
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link StreamAssert#excludes(Object...)}.
+ *
+ * @author Alex Ruiz
+ */
+public class StreamAssert_excludes_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_actual_does_not_contain_given_objects() {
+    assertThatStream(range(0, 3)).excludes(8, -1);
+  }
+
+  @Test
+  public void should_fail_if_actual_contains_given_objects() {
+    thrown.expect(AssertionError.class, "<[0, 1, 2]> does not exclude element(s):<[2]>");
+    assertThatStream(range(0, 3)).excludes(2, 8);
+  }
+
+  @Test
+  public void should_fail_and_display_description_if_actual_contains_given_objects() {
+    thrown.expect(AssertionError.class, "[A Test] <[0, 1, 2]> does not exclude element(s):<[2]>");
+    assertThatStream(range(0, 3)).as("A Test").excludes(2, 8);
+  }
+
+  @Test
+  public void should_fail_with_custom_message_if_actual_contains_given_objects() {
+    thrown.expect(AssertionError.class, "My custom message");
+    assertThatStream(range(0, 3)).overridingErrorMessage("My custom message").excludes(2, 8);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    assertThatStream(null).excludes(8);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null_even_if_expected_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    assertThatStream(null).excludes((Object[]) null);
+  }
+}
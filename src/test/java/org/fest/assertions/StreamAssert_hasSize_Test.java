@@ -0,0 +1,114 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Iterator;
+
+import static org.fest.assertions.Assertions.assertThatStream;
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.assertions.Fail.fail;
+import static org.fest.assertions.IntRange.range;
+import static org.fest.test.ExpectedException.none;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link StreamAssert#hasSize(int)}.
+ *
+ * @author Alex Ruiz
+ */
+public class StreamAssert_hasSize_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_actual_has_expected_size() {
+    assertThatStream(range(0, 3)).hasSize(3);
+  }
+
+  @Test
+  public void should_read_at_most_one_element_more_than_expected_size() {
+    IntRange range = range(0, Integer.MAX_VALUE);
+    assertThatStream(range).isNotEmpty();
+    assertEquals(0, range.generated());
+    try {
+      assertThatStream(range).overridingErrorMessage("too many").hasSize(3);
+    } catch (AssertionError e) {
+      assertEquals(4, range.generated());
+      return;
+    }
+    fail("expecting an AssertionError");
+  }
+
+  @Test
+  public void should_fail_if_actual_has_less_elements_than_expected() {
+    thrown.expect(AssertionError.class, "expected size:<4> but was:<3> for <[0, 1, 2]>");
+    assertThatStream(range(0, 3)).hasSize(4);
+  }
+
+  @Test
+  public void should_fail_if_actual_has_more_elements_than_expected() {
+    thrown.expect(AssertionError.class, "expected size:<2> but was:<more than 2> for <[0, 1, 2, ...]>");
+    assertThatStream(range(0, 3)).hasSize(2);
+  }
+
+  @Test
+  public void should_fail_without_reading_all_elements_of_infinite_actual() {
+    thrown.expect(AssertionError.class, "expected size:<2> but was:<more than 2> for <[0, 1, 2, ...]>");
+    assertThatStream(range(0, Integer.MAX_VALUE)).hasSize(2);
+  }
+
+  @Test
+  public void should_fail_without_reading_single_use_actual_twice() {
+    final Iterator<Integer> iterator = range(0, 3).iterator();
+    Iterable<Integer> singleUse = new Iterable<Integer>() {
+      private boolean used;
+
+      @Override
+      public Iterator<Integer> iterator() {
+        if (used) {
+          throw new IllegalStateException("already used");
+        }
+        used = true;
+        return iterator;
+      }
+    };
+    thrown.expect(AssertionError.class, "expected size:<4> but was:<3> for <[0, 1, 2]>");
+    assertThatStream(singleUse).hasSize(4);
+  }
+
+  @Test
+  public void should_cut_elements_read_at_maximum_length() {
+    Truncation.setMaxLength(5);
+    try {
+      assertThatStream(range(100, 200)).hasSize(2);
+    } catch (AssertionError e) {
+      assertEquals("expected size:<2> but was:<more than 2> for <[100,...>", e.getMessage());
+      return;
+    } finally {
+      Truncation.reset();
+    }
+    fail("expecting an AssertionError");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    assertThatStream(null).hasSize(2);
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.Assertions.assertThatStream;
+import static org.fest.assertions.Fail.fail;
+import static org.fest.assertions.IntRange.range;
+import static org.fest.assertions.LessThan.lessThan;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link StreamAssert#inParallel()}.
+ *
+ * @author Alex Ruiz
+ */
+public class StreamAssert_inParallel_Test {
+  @Before
+  public void setUp() {
+    Parallelism.setWorkerCount(4);
+  }
+
+  @After
+  public void tearDown() {
+    Parallelism.reset();
+  }
+
+  @Test
+  public void should_pass_if_all_elements_satisfy_condition() {
+    assertThatStream(range(0, 100000)).inParallel().allMatch(lessThan(100000)).noneMatch(lessThan(0));
+  }
+
+  @Test
+  public void should_pass_if_last_element_satisfies_condition() {
+    assertThatStream(range(-99999, 1)).inParallel().anyMatch(lessThan(-99998));
+  }
+
+  @Test
+  public void should_stop_reading_soon_after_first_element_not_satisfying_condition() {
+    IntRange range = range(0, Integer.MAX_VALUE);
+    try {
+      assertThatStream(range).inParallel().allMatch(lessThan(70000));
+    } catch (AssertionError e) {
+      assertTrue(range.generated() < 80000);
+      return;
+    }
+    fail("expecting an AssertionError");
+  }
+
+  @Test
+  public void should_report_same_element_as_serial_evaluation() {
+    try {
+      assertThatStream(range(0, 100000)).inParallel().allMatch(lessThan(70000));
+    } catch (AssertionError e) {
+      assertThat(e.getMessage()).startsWith("element at index <70000>:<70000> of <[0, 1, 2");
+      return;
+    }
+    fail("expecting an AssertionError");
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.Assertions.assertThatStream;
+import static org.fest.assertions.IntRange.range;
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link StreamAssert#isSameAs(Object)} and {@link StreamAssert#isEqualTo(Object)}: the actual value is the
+ * given {@code Iterable}.
+ *
+ * @author Alex Ruiz
+ */
+public class StreamAssert_isSameAs_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_actual_is_same_as_expected() {
+    IntRange range = range(0, 3);
+    assertThatStream(range).isSameAs(range);
+  }
+
+  @Test
+  public void should_pass_if_actual_is_equal_to_expected() {
+    IntRange range = range(0, 3);
+    assertThatStream(range).isEqualTo(range);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_same_as_expected() {
+    thrown.expect(AssertionError.class);
+    assertThatStream(range(0, 3)).isSameAs(range(0, 3));
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link StringAssert#containsAll(String...)}.
+ *
+ * @author Alex Ruiz
+ */
+public class StringAssert_containsAll_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_actual_contains_all_given_Strings() {
+    new StringAssert("Luke Skywalker").containsAll("Sky", "Luke", "walk", "e");
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_contain_some_given_Strings() {
+    thrown.expect(AssertionError.class, "<'Luke Skywalker'> does not contain the String(s):<['Yoda', 'Leia']>");
+    new StringAssert("Luke Skywalker").containsAll("Yoda", "Luke", "Leia");
+  }
+
+  @Test
+  public void should_fail_and_display_description_if_actual_does_not_contain_some_given_Strings() {
+    thrown.expect(AssertionError.class, "[A Test] <'Luke Skywalker'> does not contain the String(s):<['Yoda']>");
+    new StringAssert("Luke Skywalker").as("A Test").containsAll("Luke", "Yoda");
+  }
+
+  @Test
+  public void should_fail_with_custom_message_if_actual_does_not_contain_some_given_Strings() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new StringAssert("Luke Skywalker").overridingErrorMessage("My custom message").containsAll("Yoda");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new StringAssert(null).containsAll("Luke");
+  }
+
+  @Test
+  public void should_throw_error_if_any_given_String_is_null() {
+    thrown.expect(NullPointerException.class);
+    new StringAssert("Luke").containsAll("Luke", null);
+  }
+}
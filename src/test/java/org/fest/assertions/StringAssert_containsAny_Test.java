@@ -0,0 +1,61 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link StringAssert#containsAny(String...)}.
+ *
+ * @author Alex Ruiz
+ */
+public class StringAssert_containsAny_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_actual_contains_any_given_String() {
+    new StringAssert("Luke Skywalker").containsAny("Yoda", "walker");
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_contain_any_given_String() {
+    thrown.expect(AssertionError.class, "<'Luke Skywalker'> does not contain any of the String(s):<['Yoda', 'Leia']>");
+    new StringAssert("Luke Skywalker").containsAny("Yoda", "Leia");
+  }
+
+  @Test
+  public void should_fail_if_no_String_is_given() {
+    thrown.expect(AssertionError.class, "<'Luke Skywalker'> does not contain any of the String(s):<[]>");
+    new StringAssert("Luke Skywalker").containsAny();
+  }
+
+  @Test
+  public void should_fail_with_custom_message_if_actual_does_not_contain_any_given_String() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new StringAssert("Luke Skywalker").overridingErrorMessage("My custom message").containsAny("Yoda");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new StringAssert(null).containsAny("Luke");
+  }
+}
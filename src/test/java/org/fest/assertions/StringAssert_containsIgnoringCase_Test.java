@@ -18,6 +18,8 @@ import org.fest.test.ExpectedException;
 import org.junit.Rule;
 import org.junit.Test;
 
+import java.util.Locale;
+
 import static org.fest.test.ExpectedException.none;
 
 /**
@@ -62,4 +64,31 @@ public class StringAssert_containsIgnoringCase_Test {
   public void should_pass_if_actual_String_contains_given_String_with_different_case() {
     new StringAssert("hello").containsIgnoringCase("HELLO");
   }
-}
\ No newline at end of file
+
+  @Test
+  public void should_pass_if_actual_String_contains_given_String_in_the_middle() {
+    new StringAssert("Luke Skywalker").containsIgnoringCase("E sKY");
+  }
+
+  @Test
+  public void should_pass_if_given_String_is_empty() {
+    new StringAssert("hello").containsIgnoringCase("");
+  }
+
+  @Test
+  public void should_fail_if_given_String_is_longer_than_actual() {
+    thrown.expect(AssertionError.class, "<'hello'> does not contain <'hello!'>");
+    new StringAssert("hello").containsIgnoringCase("hello!");
+  }
+
+  @Test
+  public void should_not_depend_on_default_locale() {
+    Locale defaultLocale = Locale.getDefault();
+    Locale.setDefault(new Locale("tr"));
+    try {
+      new StringAssert("TITLE").containsIgnoringCase("title");
+    } finally {
+      Locale.setDefault(defaultLocale);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link StringAssert#startsWithIgnoringCase(String)}.
+ *
+ * @author Alex Ruiz
+ */
+public class StringAssert_startsWithIgnoringCase_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_actual_starts_with_given_String_with_different_case() {
+    new StringAssert("Luke Skywalker").startsWithIgnoringCase("LUKE");
+  }
+
+  @Test
+  public void should_pass_if_given_String_is_empty() {
+    new StringAssert("Luke Skywalker").startsWithIgnoringCase("");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new StringAssert(null).startsWithIgnoringCase("LUKE");
+  }
+
+  @Test
+  public void should_throw_error_if_given_String_is_null() {
+    thrown.expect(NullPointerException.class);
+    new StringAssert("Luke Skywalker").startsWithIgnoringCase(null);
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_start_with_given_String() {
+    thrown.expect(AssertionError.class, "<'Luke Skywalker'> should start with:<'Sky'> ignoring case");
+    new StringAssert("Luke Skywalker").startsWithIgnoringCase("Sky");
+  }
+
+  @Test
+  public void should_fail_if_given_String_is_longer_than_actual() {
+    thrown.expect(AssertionError.class, "<'Luke Skywalker'> should start with:<'Luke Skywalker!'> ignoring case");
+    new StringAssert("Luke Skywalker").startsWithIgnoringCase("Luke Skywalker!");
+  }
+
+  @Test
+  public void should_fail_and_display_description_if_actual_does_not_start_with_given_String() {
+    thrown.expect(AssertionError.class, "[A Test] <'Luke Skywalker'> should start with:<'Sky'> ignoring case");
+    new StringAssert("Luke Skywalker").as("A Test").startsWithIgnoringCase("Sky");
+  }
+
+  @Test
+  public void should_fail_with_custom_message_if_actual_does_not_start_with_given_String() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new StringAssert("Luke Skywalker").overridingErrorMessage("My custom message").startsWithIgnoringCase("Sky");
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.nCopies;
+import static org.fest.assertions.Truncation.toStringOf;
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Maps.newHashMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link Truncation#toStringOf(Object)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Truncation_toStringOf_Test {
+  @After
+  public void tearDown() {
+    Truncation.reset();
+  }
+
+  @Test
+  public void should_return_null_if_object_is_null() {
+    assertNull(toStringOf(null));
+  }
+
+  @Test
+  public void should_represent_values_within_limits_like_fest_util() {
+    List<Object> list = newArrayList("one", 2, new int[] { 3 });
+    assertEquals(org.fest.util.ToString.toStringOf(list), toStringOf(list));
+    assertEquals("'hello'", toStringOf("hello"));
+  }
+
+  @Test
+  public void should_represent_nested_values_within_limits() {
+    Map<String, Object> map = newHashMap();
+    map.put("one", newArrayList(1, "two"));
+    Object[] array = { "one", new Object[] { 2, null }, map, new int[] { 3 } };
+    assertEquals("['one', [2, null], {'one'=[1, 'two']}, [3]]", toStringOf(array));
+  }
+
+  @Test
+  public void should_not_build_representation_of_huge_collection_nested_in_small_one() {
+    Truncation.setMaxLength(20);
+    List<Object> small = newArrayList();
+    small.add(nCopies(Integer.MAX_VALUE, "x"));
+    assertEquals("[['x', 'x', 'x', 'x'...", toStringOf(small));
+    assertEquals("[[['x', 'x', 'x', 'x...", toStringOf(new Object[] { small }));
+  }
+
+  @Test
+  public void should_show_first_elements_of_large_collection() {
+    Truncation.setMaxElements(3);
+    assertEquals("['a', 'b', 'c', ...]", toStringOf(newArrayList("a", "b", "c", "d", "e")));
+  }
+
+  @Test
+  public void should_show_first_elements_of_large_array() {
+    Truncation.setMaxElements(2);
+    Truncation.setElisionMarker("<more>");
+    assertEquals("[1, 2, <more>]", toStringOf(new int[] { 1, 2, 3 }));
+  }
+
+  @Test
+  public void should_show_first_entries_of_large_map() {
+    Truncation.setMaxElements(1);
+    Map<String, Integer> map = newHashMap();
+    map.put("a", 1);
+    map.put("b", 2);
+    String entry = toStringOf(map).substring(1, 6);
+    assertEquals(String.format("{%s, ...}", entry), toStringOf(map));
+  }
+
+  @Test
+  public void should_cut_long_values() {
+    Truncation.setMaxLength(5);
+    assertEquals("'abcd...", toStringOf("abcdefgh"));
+    assertEquals("[0, 0...", toStringOf(new int[10]));
+  }
+
+  @Test
+  public void should_cut_long_character_buffers() {
+    Truncation.setMaxLength(5);
+    assertEquals("Luke ...", toStringOf(new StringBuilder("Luke Skywalker")));
+    assertEquals("Luke", toStringOf(new StringBuilder("Luke")));
+  }
+
+  @Test
+  public void should_not_build_representation_of_huge_collection() {
+    Truncation.setMaxLength(20);
+    List<String> huge = nCopies(Integer.MAX_VALUE, "x");
+    assertEquals("['x', 'x', 'x', 'x',...", toStringOf(huge));
+  }
+
+  @Test
+  public void should_not_recurse_into_collection_containing_itself() {
+    Truncation.setMaxElements(2);
+    List<Object> list = newArrayList();
+    list.add(list);
+    list.add(1);
+    list.add(2);
+    assertEquals("[(this Collection), 1, ...]", toStringOf(list));
+  }
+
+  @Test
+  public void should_not_recurse_into_map_containing_itself() {
+    Map<String, Object> map = newHashMap();
+    map.put("self", map);
+    assertEquals("{'self'=(this Map)}", toStringOf(map));
+  }
+}